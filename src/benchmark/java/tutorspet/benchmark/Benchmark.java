@@ -0,0 +1,68 @@
+package tutorspet.benchmark;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the average time an operation takes once the JVM has warmed it up.
+ * The results of the operation are kept reachable, so that the JIT compiler cannot discard the operation.
+ */
+public class Benchmark {
+
+    private static final long WARMUP_NANOS = 500_000_000L;
+    private static final long MEASUREMENT_NANOS = 1_000_000_000L;
+    // Operations are timed in batches that take at least this long, so that reading the time costs little
+    private static final long MIN_BATCH_NANOS = 1_000_000L;
+
+    // Written with every result, so that no operation is dead code
+    private static volatile Object sink;
+
+    /**
+     * Runs {@code operation} repeatedly to warm it up, then prints the average time it takes under {@code name}.
+     *
+     * @throws Exception if {@code operation} throws an exception.
+     */
+    public static void measure(String name, Callable<?> operation) throws Exception {
+        int batchSize = getBatchSize(operation);
+        runFor(WARMUP_NANOS, batchSize, operation);
+        long startTime = System.nanoTime();
+        long operationCount = runFor(MEASUREMENT_NANOS, batchSize, operation);
+        double nanosPerOperation = (double) (System.nanoTime() - startTime) / operationCount;
+        System.out.println(String.format("%-45s %12.1f ns/op", name, nanosPerOperation));
+    }
+
+    /**
+     * Returns the number of times {@code operation} should run in a batch, for the batch to take at least
+     * {@code MIN_BATCH_NANOS}.
+     */
+    private static int getBatchSize(Callable<?> operation) throws Exception {
+        int batchSize = 1;
+        while (true) {
+            long startTime = System.nanoTime();
+            runBatch(batchSize, operation);
+            if (System.nanoTime() - startTime >= MIN_BATCH_NANOS) {
+                return batchSize;
+            }
+            batchSize *= 2;
+        }
+    }
+
+    /**
+     * Runs {@code operation} in batches of {@code batchSize} until {@code nanos} have passed, and returns the number
+     * of times it ran.
+     */
+    private static long runFor(long nanos, int batchSize, Callable<?> operation) throws Exception {
+        long endTime = System.nanoTime() + nanos;
+        long operationCount = 0;
+        while (System.nanoTime() < endTime) {
+            runBatch(batchSize, operation);
+            operationCount += batchSize;
+        }
+        return operationCount;
+    }
+
+    private static void runBatch(int batchSize, Callable<?> operation) throws Exception {
+        for (int i = 0; i < batchSize; i++) {
+            sink = operation.call();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package tutorspet.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the microbenchmarks of TutorsPet.
+ * If names are given as arguments, only the benchmark classes with those simple names are run.
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+        List<String> names = Arrays.asList(args);
+        if (names.isEmpty() || names.contains(ParserBenchmark.class.getSimpleName())) {
+            ParserBenchmark.run();
+        }
+        if (names.isEmpty() || names.contains(ValidationBenchmark.class.getSimpleName())) {
+            ValidationBenchmark.run();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package tutorspet.benchmark;
+
+import static tutorspet.benchmark.Benchmark.measure;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_NUMBER_OF_OCCURRENCES;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_PARTICIPATION_SCORE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_TAG;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import tutorspet.logic.parser.ArgumentTokenizer;
+import tutorspet.logic.parser.LinkCommandParser;
+import tutorspet.logic.parser.RestoreBackupCommandParser;
+import tutorspet.logic.parser.RunScriptCommandParser;
+import tutorspet.logic.parser.SwitchWorkspaceCommandParser;
+import tutorspet.logic.parser.TutorsPetParser;
+import tutorspet.logic.parser.UnlinkCommandParser;
+import tutorspet.logic.parser.attendance.AddAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.DeleteAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.EditAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.FindAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.StatisticsCommandParser;
+import tutorspet.logic.parser.lesson.AddLessonCommandParser;
+import tutorspet.logic.parser.lesson.DeleteLessonCommandParser;
+import tutorspet.logic.parser.lesson.DisplayVenueCommandParser;
+import tutorspet.logic.parser.lesson.EditLessonCommandParser;
+import tutorspet.logic.parser.moduleclass.AddModuleClassCommandParser;
+import tutorspet.logic.parser.moduleclass.DeleteModuleClassCommandParser;
+import tutorspet.logic.parser.moduleclass.EditModuleClassCommandParser;
+import tutorspet.logic.parser.moduleclass.FindModuleClassCommandParser;
+import tutorspet.logic.parser.student.AddStudentCommandParser;
+import tutorspet.logic.parser.student.DeleteStudentCommandParser;
+import tutorspet.logic.parser.student.EditStudentCommandParser;
+import tutorspet.logic.parser.student.FindStudentCommandParser;
+import tutorspet.logic.parser.student.ImportStudentCommandParser;
+import tutorspet.logic.parser.student.ListStudentCommandParser;
+
+/**
+ * Measures the time taken to parse the arguments of every command, and to tokenize them.
+ */
+public class ParserBenchmark {
+
+    private static final String ADD_STUDENT_ARGS = " " + PREFIX_NAME + "John Doe " + PREFIX_TELEGRAM + "johnDO3 "
+            + PREFIX_EMAIL + "johnd@example.com " + PREFIX_TAG + "CS2103 Tutorial " + PREFIX_TAG + "Experienced";
+    private static final String EDIT_STUDENT_ARGS = " 1 " + PREFIX_TELEGRAM + "johnDO3 "
+            + PREFIX_EMAIL + "johndoe@example.com";
+    private static final String ADD_LESSON_ARGS = " " + PREFIX_CLASS_INDEX + "1 " + PREFIX_DAY + "Tuesday "
+            + PREFIX_START_TIME + "08:00 " + PREFIX_END_TIME + "10:00 " + PREFIX_VENUE + "COM1-0211 "
+            + PREFIX_NUMBER_OF_OCCURRENCES + "13";
+    private static final String EDIT_LESSON_ARGS = " " + PREFIX_CLASS_INDEX + "1 " + PREFIX_LESSON_INDEX + "1 "
+            + PREFIX_DAY + "Wednesday " + PREFIX_END_TIME + "18:00";
+    private static final String LESSON_ARGS = " " + PREFIX_CLASS_INDEX + "1 " + PREFIX_LESSON_INDEX + "1";
+    private static final String ATTENDANCE_ARGS = LESSON_ARGS + " " + PREFIX_STUDENT_INDEX + "1 "
+            + PREFIX_WEEK + "2";
+    private static final String ADD_ATTENDANCE_ARGS = ATTENDANCE_ARGS + " " + PREFIX_PARTICIPATION_SCORE + "80";
+    private static final String LINK_ARGS = " " + PREFIX_STUDENT_INDEX + "1 " + PREFIX_CLASS_INDEX + "1";
+
+    /**
+     * Runs the benchmarks and prints their results.
+     */
+    public static void run() throws Exception {
+        measure("ArgumentTokenizer#tokenize", () -> ArgumentTokenizer.tokenize(ADD_STUDENT_ARGS,
+                PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL, PREFIX_TAG).getAllValues(PREFIX_TAG));
+        measure("TutorsPetParser#parseCommand", () -> new TutorsPetParser().parseCommand("add-student"
+                + ADD_STUDENT_ARGS));
+
+        measure("AddStudentCommandParser", () -> new AddStudentCommandParser().parse(ADD_STUDENT_ARGS));
+        measure("EditStudentCommandParser", () -> new EditStudentCommandParser().parse(EDIT_STUDENT_ARGS));
+        measure("DeleteStudentCommandParser", () -> new DeleteStudentCommandParser().parse(" 1"));
+        measure("FindStudentCommandParser", () -> new FindStudentCommandParser().parse(" alice bob charlie"));
+        measure("ListStudentCommandParser", () -> new ListStudentCommandParser().parse(" " + PREFIX_CLASS_INDEX
+                + "1"));
+        measure("ImportStudentCommandParser", () -> new ImportStudentCommandParser().parse(" data/students.csv"));
+
+        measure("AddModuleClassCommandParser", () -> new AddModuleClassCommandParser().parse(" " + PREFIX_NAME
+                + "CS2103T Tutorial"));
+        measure("EditModuleClassCommandParser", () -> new EditModuleClassCommandParser().parse(" 1 " + PREFIX_NAME
+                + "CS2103T Tutorial T10"));
+        measure("DeleteModuleClassCommandParser", () -> new DeleteModuleClassCommandParser().parse(" 1"));
+        measure("FindModuleClassCommandParser", () -> new FindModuleClassCommandParser().parse(" cs2103t cs2100"));
+
+        measure("LinkCommandParser", () -> new LinkCommandParser().parse(LINK_ARGS));
+        measure("UnlinkCommandParser", () -> new UnlinkCommandParser().parse(LINK_ARGS));
+
+        measure("AddLessonCommandParser", () -> new AddLessonCommandParser().parse(ADD_LESSON_ARGS));
+        measure("EditLessonCommandParser", () -> new EditLessonCommandParser().parse(EDIT_LESSON_ARGS));
+        measure("DeleteLessonCommandParser", () -> new DeleteLessonCommandParser().parse(LESSON_ARGS));
+        measure("DisplayVenueCommandParser", () -> new DisplayVenueCommandParser().parse(LESSON_ARGS));
+
+        measure("AddAttendanceCommandParser", () -> new AddAttendanceCommandParser().parse(ADD_ATTENDANCE_ARGS));
+        measure("EditAttendanceCommandParser", () -> new EditAttendanceCommandParser().parse(ADD_ATTENDANCE_ARGS));
+        measure("DeleteAttendanceCommandParser", () -> new DeleteAttendanceCommandParser().parse(ATTENDANCE_ARGS));
+        measure("FindAttendanceCommandParser", () -> new FindAttendanceCommandParser().parse(ATTENDANCE_ARGS));
+        measure("StatisticsCommandParser", () -> new StatisticsCommandParser().parse(LINK_ARGS));
+
+        measure("RestoreBackupCommandParser", () -> new RestoreBackupCommandParser().parse(" 20201019-093000"));
+        measure("RunScriptCommandParser", () -> new RunScriptCommandParser().parse(" data/setup.txt"));
+        measure("SwitchWorkspaceCommandParser", () -> new SwitchWorkspaceCommandParser().parse(" alex-yeoh"));
+    }
+}
@@ -0,0 +1,86 @@
+package tutorspet.benchmark;
+
+import static tutorspet.benchmark.Benchmark.measure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import tutorspet.model.TutorsPet;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+import tutorspet.storage.JsonTutorsPetStorage;
+
+/**
+ * Measures the time taken to validate each kind of field, compared with matching its regular expression,
+ * and the time taken to load a large data file, which validates every field in it.
+ */
+public class ValidationBenchmark {
+
+    private static final int STUDENT_COUNT = 10_000;
+    private static final int CLASS_COUNT = 100;
+    private static final int STUDENTS_PER_CLASS = 100;
+
+    /**
+     * Runs the benchmarks and prints their results.
+     */
+    public static void run() throws Exception {
+        measure("Name#isValidName", () -> Name.isValidName("Alexander Yeoh Jun Jie"));
+        measure("Name regex", () -> "Alexander Yeoh Jun Jie".matches(Name.VALIDATION_REGEX));
+        measure("Tag#isValidTagName", () -> Tag.isValidTagName("CS2103T Tutorial"));
+        measure("Tag regex", () -> "CS2103T Tutorial".matches(Tag.VALIDATION_REGEX));
+        measure("Email#isValidEmail", () -> Email.isValidEmail("alexyeoh.junjie@u.nus.edu"));
+        measure("Email regex", () -> "alexyeoh.junjie@u.nus.edu".matches(Email.VALIDATION_REGEX));
+        measure("Telegram#isValidTelegram", () -> Telegram.isValidTelegram("alex_yeoh_3471"));
+        measure("Telegram regex", () -> "alex_yeoh_3471".matches(Telegram.VALIDATION_REGEX));
+        measure("Venue#isValidVenue", () -> Venue.isValidVenue("COM1-0211 (Seminar Room 1)"));
+        measure("Venue regex", () -> "COM1-0211 (Seminar Room 1)".matches(Venue.VALIDATION_REGEX));
+
+        Path filePath = Files.createTempFile("ValidationBenchmark", ".json");
+        try {
+            JsonTutorsPetStorage storage = new JsonTutorsPetStorage(filePath);
+            storage.saveTutorsPet(createLargeTutorsPet());
+            measure("JsonTutorsPetStorage#readTutorsPet (" + STUDENT_COUNT + " students)", storage::readTutorsPet);
+        } finally {
+            Files.deleteIfExists(filePath);
+        }
+    }
+
+    /**
+     * Returns a {@code TutorsPet} with {@code STUDENT_COUNT} students, and {@code CLASS_COUNT} classes that each have
+     * {@code STUDENTS_PER_CLASS} students and a lesson.
+     */
+    private static TutorsPet createLargeTutorsPet() {
+        TutorsPet tutorsPet = new TutorsPet();
+        Set<Tag> tags = Set.of(new Tag("Year 1"), new Tag("CS2103T Tutorial"));
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            tutorsPet.addStudent(new Student(new Name("Student Number " + i), new Telegram("student_" + i),
+                    new Email("student." + i + "@u.nus.edu"), tags));
+        }
+
+        List<Student> students = tutorsPet.getStudentList();
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            Set<UUID> studentUuids = new HashSet<>();
+            for (int j = 0; j < STUDENTS_PER_CLASS; j++) {
+                studentUuids.add(students.get((i * STUDENTS_PER_CLASS + j) % STUDENT_COUNT).getUuid());
+            }
+            Lesson lesson = new Lesson(LocalTime.of(8, 0), LocalTime.of(10, 0), Day.TUESDAY,
+                    new NumberOfOccurrences(13), new Venue("COM1-02" + i));
+            tutorsPet.addModuleClass(new ModuleClass(new Name("CS2103T Tutorial T" + i), studentUuids,
+                    List.of(lesson)));
+        }
+        return tutorsPet;
+    }
+}
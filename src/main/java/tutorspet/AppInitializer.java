@@ -0,0 +1,151 @@
+package tutorspet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.Config;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.ConfigUtil;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.ReadOnlyUserPrefs;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.util.SampleDataUtil;
+import tutorspet.storage.BinaryTutorsPetStorage;
+import tutorspet.storage.JournaledTutorsPetStorage;
+import tutorspet.storage.PagedTutorsPetStorage;
+import tutorspet.storage.ShardedTutorsPetStorage;
+import tutorspet.storage.Storage;
+import tutorspet.storage.TutorsPetStorage;
+import tutorspet.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, user prefs and data that the application starts with.
+ * Shared by the GUI and the headless entry points, and does not depend on JavaFX.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are new/unused fields.
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code TutorsPetStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    public static TutorsPetStorage initTutorsPetStorage(ReadOnlyUserPrefs userPrefs) {
+        return initTutorsPetStorage(userPrefs.getTutorsPetStorageFormat(), userPrefs.getTutorsPetFilePath());
+    }
+
+    /**
+     * Returns the {@code TutorsPetStorage} for the data file at {@code filePath} in the format {@code format}.
+     */
+    public static TutorsPetStorage initTutorsPetStorage(StorageFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryTutorsPetStorage(filePath);
+        case SHARDED:
+            return new ShardedTutorsPetStorage(ShardedTutorsPetStorage.getShardDirectoryPath(filePath));
+        case PAGED:
+            return new PagedTutorsPetStorage(filePath);
+        default:
+            return new JournaledTutorsPetStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s Tutor's Pet.
+     * The data is read from the last snapshot, with the changes recorded in the journal since replayed on top. <br>
+     * The data from the sample Tutor's Pet will be used instead if {@code storage}'s Tutor's Pet is not found,
+     * or an empty Tutor's Pet will be used instead if errors occur when reading {@code storage}'s Tutor's Pet.
+     */
+    public static ReadOnlyTutorsPet readInitialData(Storage storage) {
+        Optional<ReadOnlyTutorsPet> tutorsPetOptional;
+        ReadOnlyTutorsPet initialData;
+        try {
+            tutorsPetOptional = storage.readTutorsPet();
+            if (!tutorsPetOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample TutorsPet");
+            }
+            initialData = tutorsPetOptional.orElseGet(SampleDataUtil::getSampleTutorsPet);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TutorsPet");
+            initialData = new TutorsPet();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
+            initialData = new TutorsPet();
+        }
+
+        return initialData;
+    }
+}
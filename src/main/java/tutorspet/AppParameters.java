@@ -2,6 +2,8 @@ package tutorspet;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,8 +18,12 @@ import tutorspet.commons.util.FileUtil;
 public class AppParameters {
 
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Path scriptPath;
+    private Integer port;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +33,53 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run once the data is loaded, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port to serve the HTTP API on, or null if it should not be served.
+     */
+    public Integer getPort() {
+        return port;
+    }
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line parameters, for when the application is not launched through JavaFX.
+     * Named parameters are given as {@code --name=value}, as with JavaFX. Other parameters are ignored.
+     */
+    public static AppParameters parse(List<String> rawParameters) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String parameter : rawParameters) {
+            int separatorIndex = parameter.indexOf('=');
+            if (parameter.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(parameter.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        parameter.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +88,38 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null) {
+            try {
+                appParameters.setPort(parsePort(portParameter));
+            } catch (NumberFormatException nfe) {
+                logger.warning("Invalid port " + portParameter + ". The HTTP API will not be served.");
+            }
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns the port number given by {@code port}.
+     *
+     * @throws NumberFormatException if {@code port} is not a port number from 0 to {@code MAX_PORT}.
+     */
+    private static int parsePort(String port) {
+        int portNumber = Integer.parseInt(port);
+        if (portNumber < 0 || portNumber > MAX_PORT) {
+            throw new NumberFormatException("Port out of range: " + port);
+        }
+        return portNumber;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -55,11 +131,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && Objects.equals(getPort(), otherAppParameters.getPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, port);
     }
 }
@@ -0,0 +1,180 @@
+package tutorspet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.Config;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.logic.Logic;
+import tutorspet.logic.LogicManager;
+import tutorspet.logic.WorkspaceManager;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.server.ApiServer;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.Storage;
+import tutorspet.storage.StorageManager;
+import tutorspet.storage.TutorsPetStorage;
+import tutorspet.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, so that it can be driven from scripts and scheduled jobs.
+ * Commands are read one per line from the standard input, and their results are written to the standard output.
+ * If a script is given with {@code --script=FILE_PATH}, it is run as a single change instead, like in the GUI.
+ * If a port is given with {@code --port=PORT}, the HTTP API is served on it instead, until an exit command is
+ * executed through it, see {@link ApiServer}.
+ * JavaFX is only used for its observable lists, so the application starts without the JavaFX toolkit.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final String MESSAGE_SERVING = "Serving the HTTP API on port %1$d. Send the header %2$s: %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Initializes the application with the config, user prefs and data chosen by {@code appParameters}.
+     */
+    public HeadlessApp(AppParameters appParameters) {
+        logger.info("=============================[ Initializing TutorsPet ]===========================");
+        this.appParameters = appParameters;
+
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        TutorsPetStorage tutorsPetStorage = AppInitializer.initTutorsPetStorage(userPrefs);
+        storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
+
+        LogsCenter.init(config);
+
+        model = new ModelManager(AppInitializer.readInitialData(storage), userPrefs);
+        WorkspaceManager workspaceManager = new WorkspaceManager(model, storage, filePath ->
+                AppInitializer.initTutorsPetStorage(userPrefs.getTutorsPetStorageFormat(), filePath));
+        logic = new LogicManager(model, storage, workspaceManager);
+    }
+
+    /**
+     * Runs the application with the command-line parameters {@code args}, and returns its exit code.
+     */
+    public static int launch(String[] args) {
+        HeadlessApp app = new HeadlessApp(AppParameters.parse(Arrays.asList(args)));
+        return app.run(new BufferedReader(new InputStreamReader(System.in)), System.out, System.err);
+    }
+
+    /**
+     * Executes the script given in the parameters, or else each command read from {@code input} until it ends or
+     * an exit command is read. Blank lines and lines starting with {@code RunScriptCommand#COMMENT_PREFIX} are
+     * skipped. Results are written to {@code output}, and errors to {@code errorOutput}.
+     *
+     * @return {@code EXIT_SUCCESS} if every command succeeded, or {@code EXIT_FAILURE} otherwise.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream errorOutput) {
+        logger.info("Starting TutorsPet " + MainApp.VERSION + " without a GUI");
+        boolean isSuccessful;
+        if (appParameters.getPort() != null) {
+            isSuccessful = serve(appParameters.getPort(), output, errorOutput);
+        } else if (appParameters.getScriptPath() != null) {
+            isSuccessful = execute(RunScriptCommand.COMMAND_WORD + " " + appParameters.getScriptPath(),
+                    output, errorOutput) != null;
+        } else {
+            isSuccessful = executeAll(input, output, errorOutput);
+        }
+
+        stop();
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Serves the HTTP API on {@code port} until an exit command is executed through it, and returns true if it was
+     * served. The token that requests must carry is written to {@code output}.
+     */
+    private boolean serve(int port, PrintStream output, PrintStream errorOutput) {
+        ApiServer server;
+        try {
+            server = new ApiServer(logic, port);
+        } catch (IOException ioe) {
+            errorOutput.println("Could not serve the HTTP API on port " + port + ": " + ioe);
+            return false;
+        }
+
+        server.start();
+        output.println(String.format(MESSAGE_SERVING, server.getPort(), ApiServer.TOKEN_HEADER, server.getToken()));
+        Thread shutdownHook = new Thread(server::stop);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        try {
+            server.awaitExit();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        server.stop();
+        return true;
+    }
+
+    /**
+     * Executes each command read from {@code input}, and returns true if all of them succeeded.
+     */
+    private boolean executeAll(BufferedReader input, PrintStream output, PrintStream errorOutput) {
+        boolean isSuccessful = true;
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(RunScriptCommand.COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                CommandResult result = execute(commandText, output, errorOutput);
+                if (result == null) {
+                    isSuccessful = false;
+                } else if (result.isExit()) {
+                    break;
+                }
+            }
+        } catch (IOException ioe) {
+            errorOutput.println("Could not read commands: " + ioe);
+            isSuccessful = false;
+        }
+        return isSuccessful;
+    }
+
+    /**
+     * Executes {@code commandText}, and returns its result, or null if it failed.
+     */
+    private CommandResult execute(String commandText, PrintStream output, PrintStream errorOutput) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            output.println(result.getFeedbackToUser());
+            return result;
+        } catch (CommandException | ParseException e) {
+            errorOutput.println(e.getMessage());
+            return null;
+        }
+    }
+
+    private void stop() {
+        logger.info("============================ [ Stopping Tutor's Pet ] =============================");
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package tutorspet;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,10 +19,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * If {@code --headless} is given, the application runs without a GUI instead, see {@link HeadlessApp}.
  */
 public class Main {
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            System.exit(HeadlessApp.launch(args));
+        }
         Application.launch(MainApp.class, args);
     }
 }
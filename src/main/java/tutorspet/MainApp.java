@@ -2,27 +2,24 @@ package tutorspet;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import tutorspet.commons.core.Config;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.core.Version;
-import tutorspet.commons.exceptions.DataConversionException;
-import tutorspet.commons.util.ConfigUtil;
 import tutorspet.commons.util.StringUtil;
 import tutorspet.logic.Logic;
 import tutorspet.logic.LogicManager;
+import tutorspet.logic.WorkspaceManager;
+import tutorspet.logic.commands.RunScriptCommand;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
-import tutorspet.model.ReadOnlyTutorsPet;
-import tutorspet.model.ReadOnlyUserPrefs;
 import tutorspet.model.TutorsPet;
 import tutorspet.model.UserPrefs;
-import tutorspet.model.util.SampleDataUtil;
-import tutorspet.storage.JsonTutorsPetStorage;
 import tutorspet.storage.JsonUserPrefsStorage;
 import tutorspet.storage.Storage;
 import tutorspet.storage.StorageManager;
@@ -45,52 +42,55 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppParameters appParameters;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TutorsPet ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TutorsPetStorage tutorsPetStorage = new JsonTutorsPetStorage(userPrefs.getTutorsPetFilePath());
+        TutorsPetStorage tutorsPetStorage = AppInitializer.initTutorsPetStorage(userPrefs);
         storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The data is loaded in the background once the UI has started, see #loadDataInBackground()
+        model = new ModelManager(new TutorsPet(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        WorkspaceManager workspaceManager = new WorkspaceManager(model, storage, filePath ->
+                AppInitializer.initTutorsPetStorage(userPrefs.getTutorsPetStorageFormat(), filePath));
+        logic = new LogicManager(model, storage, workspaceManager);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s Tutor's Pet and {@code userPrefs}. <br>
-     * The data from the sample Tutor's Pet will be used instead if {@code storage}'s Tutor's Pet is not found,
-     * or an empty Tutor's Pet will be used instead if errors occur when reading {@code storage}'s Tutor's Pet.
+     * Reads {@code storage}'s Tutor's Pet on a background thread, and then loads it into the model and
+     * shows it in the UI on the JavaFX application thread.
+     * The script given on the command line, if any, is run once the data is loaded.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyTutorsPet> tutorsPetOptional;
-        ReadOnlyTutorsPet initialData;
-        try {
-            tutorsPetOptional = storage.readTutorsPet();
-            if (!tutorsPetOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample TutorsPet");
-            }
-            initialData = tutorsPetOptional.orElseGet(SampleDataUtil::getSampleTutorsPet);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TutorsPet");
-            initialData = new TutorsPet();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
-            initialData = new TutorsPet();
-        }
-
-        return new ModelManager(initialData, userPrefs);
+    private void loadDataInBackground() {
+        CompletableFuture.supplyAsync(() -> AppInitializer.readInitialData(storage))
+                .whenComplete((initialData, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        ui.showDataLoadFailure(error);
+                        return;
+                    }
+                    // The model is only changed under its write lock, as other threads may be reading it
+                    model.getLock().write(() -> {
+                        model.loadTutorsPet(initialData);
+                        return null;
+                    });
+                    ui.showDataLoaded();
+                    if (appParameters.getScriptPath() != null) {
+                        ui.executeCommand(RunScriptCommand.COMMAND_WORD + " " + appParameters.getScriptPath());
+                    }
+                }));
     }
 
     private void initLogging(Config config) {
@@ -103,34 +103,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        // Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
@@ -139,36 +112,14 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
-            initializedPrefs = new UserPrefs();
-        }
-
-        // Update prefs file in case it was missing to begin with or there are new/unused fields.
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TutorsPet " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadDataInBackground();
     }
 
     @Override
@@ -0,0 +1,15 @@
+package tutorspet.commons.core;
+
+/**
+ * Represents the file formats that Tutor's Pet data can be stored in.
+ */
+public enum StorageFormat {
+    /** A json snapshot, with later changes appended to a journal. */
+    JSON,
+    /** A compact binary file. */
+    BINARY,
+    /** A directory with one json file for the students and one for each class. */
+    SHARDED,
+    /** A file of pages, with a record for each student, class and week of attendance that is updated in place. */
+    PAGED
+}
@@ -0,0 +1,67 @@
+package tutorspet.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for handling comma-separated values.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits a single {@code row} of comma-separated values into its fields.
+     * A field may be enclosed in double quotes to contain commas, and a double quote in a quoted field is
+     * written as two double quotes. Whitespace around unquoted fields is trimmed.
+     *   <br>examples:<pre>
+     *       splitRow("a, b,c") == ["a", "b", "c"]
+     *       splitRow("\"Doe, John\",b") == ["Doe, John", "b"]
+     *       splitRow("a,,") == ["a", "", ""]
+     *       </pre>
+     * @param row cannot be null
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    public static List<String> splitRow(String row) {
+        requireNonNull(row);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < row.length() && row.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == SEPARATOR) {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == QUOTE && field.toString().isBlank()) {
+                field.setLength(0);
+                isQuoted = true;
+                wasQuoted = true;
+            } else if (!wasQuoted) {
+                field.append(c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new IllegalArgumentException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+        return fields;
+    }
+}
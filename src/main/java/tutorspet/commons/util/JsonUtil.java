@@ -3,15 +3,22 @@ package tutorspet.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -109,6 +116,62 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a {@code JsonGenerator} that writes pretty-printed JSON to {@code out} as it is generated,
+     * in the same format as {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Creates a {@code JsonGenerator} like {@link #createJsonGenerator(OutputStream)} for a single value that is
+     * later placed inside {@code depth} levels of objects, so that the value is indented as it would be there.
+     */
+    public static JsonGenerator createNestedJsonGenerator(OutputStream out, int depth) throws IOException {
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .setPrettyPrinter(new NestedPrettyPrinter(depth));
+    }
+
+    /**
+     * Creates a {@code JsonParser} that reads JSON from {@code in} as it is consumed.
+     * Values can be bound to classes with {@link JsonParser#readValueAs(Class)} using the same
+     * configuration as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Creates a {@code JsonParser} like {@link #createJsonParser(InputStream)}, whose values are bound with
+     * {@code attributes} available to the deserializers through {@code DeserializationContext#getAttribute}.
+     */
+    public static JsonParser createJsonParser(InputStream in, Map<?, ?> attributes) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(in);
+        parser.setCodec(objectMapper.reader().withAttributes(attributes));
+        return parser;
+    }
+
+    /**
+     * A pretty printer that starts indenting from {@code depth} levels of objects.
+     */
+    private static class NestedPrettyPrinter extends DefaultPrettyPrinter {
+
+        private NestedPrettyPrinter(int depth) {
+            _nesting = depth;
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -38,6 +38,26 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with the case of each character folded, so that two strings are equal ignoring case
+     * (as by {@link String#equalsIgnoreCase(String)}) if and only if their folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("ABc def") == "abc def"
+     *       foldCase("aBC DEF") == "abc def"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            // String#equalsIgnoreCase compares characters in upper case, then in lower case
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
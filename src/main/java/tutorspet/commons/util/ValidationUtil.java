@@ -0,0 +1,107 @@
+package tutorspet.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+
+/**
+ * Helper functions for validating strings against simple grammars without regular expressions.
+ * Each grammar is a first character from one {@code CharacterClass}, followed by characters from another.
+ */
+public class ValidationUtil {
+
+    /** ASCII letters, as matched by {@code [a-zA-Z]}. */
+    public static final CharacterClass LETTERS = CharacterClass.ofRanges('a', 'z', 'A', 'Z');
+
+    /** ASCII letters and digits, as matched by {@code \p{Alnum}} and {@code [^\W_]}. */
+    public static final CharacterClass ALPHANUMERICS = LETTERS.with(CharacterClass.ofRanges('0', '9'));
+
+    /** ASCII letters, digits and underscores, as matched by {@code \w}. */
+    public static final CharacterClass WORD_CHARACTERS = ALPHANUMERICS.with(CharacterClass.of("_"));
+
+    /**
+     * Returns true if {@code test} is made up of a character in {@code first}, followed by any number of characters
+     * in {@code rest}.
+     *
+     * @param test cannot be null.
+     */
+    public static boolean matches(String test, CharacterClass first, CharacterClass rest) {
+        requireNonNull(test);
+
+        return !test.isEmpty() && first.contains(test.charAt(0)) && rest.containsAll(test, 1, test.length());
+    }
+
+    /**
+     * A set of ASCII characters, which can be looked up without regular expressions.
+     * Non-ASCII characters are never in the set.
+     */
+    public static final class CharacterClass {
+
+        private static final int ASCII_SIZE = 128;
+
+        private final boolean[] isMember;
+
+        private CharacterClass(boolean[] isMember) {
+            this.isMember = isMember;
+        }
+
+        /**
+         * Returns a {@code CharacterClass} of the characters in {@code characters}, which must all be ASCII.
+         */
+        public static CharacterClass of(String characters) {
+            boolean[] isMember = new boolean[ASCII_SIZE];
+            for (int i = 0; i < characters.length(); i++) {
+                char c = characters.charAt(i);
+                checkArgument(c < ASCII_SIZE, "Character classes can only hold ASCII characters");
+                isMember[c] = true;
+            }
+            return new CharacterClass(isMember);
+        }
+
+        /**
+         * Returns a {@code CharacterClass} of the characters in the given inclusive ranges, which are given as pairs
+         * of the first and last character of each range, and must all be ASCII.
+         */
+        public static CharacterClass ofRanges(char... bounds) {
+            checkArgument(bounds.length % 2 == 0, "Ranges must have a first and a last character");
+
+            StringBuilder characters = new StringBuilder();
+            for (int i = 0; i < bounds.length; i += 2) {
+                for (char c = bounds[i]; c <= bounds[i + 1]; c++) {
+                    characters.append(c);
+                }
+            }
+            return of(characters.toString());
+        }
+
+        /**
+         * Returns a {@code CharacterClass} of the characters in this class or in {@code other}.
+         */
+        public CharacterClass with(CharacterClass other) {
+            boolean[] union = new boolean[ASCII_SIZE];
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                union[c] = isMember[c] || other.isMember[c];
+            }
+            return new CharacterClass(union);
+        }
+
+        /**
+         * Returns true if {@code c} is in this class.
+         */
+        public boolean contains(char c) {
+            return c < ASCII_SIZE && isMember[c];
+        }
+
+        /**
+         * Returns true if every character of {@code test} from {@code beginIndex} to before {@code endIndex} is in
+         * this class.
+         */
+        public boolean containsAll(String test, int beginIndex, int endIndex) {
+            for (int i = beginIndex; i < endIndex; i++) {
+                if (!contains(test.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
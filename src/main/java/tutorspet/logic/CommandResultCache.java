@@ -0,0 +1,93 @@
+package tutorspet.logic;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+
+/**
+ * Holds the results of the most recently executed read-only commands, for as long as the model they were executed on
+ * does not change. Commands are looked up by {@code equals}, and the least recently used result is dropped when the
+ * cache is full. It can be used by several threads at the same time.
+ */
+class CommandResultCache {
+
+    private final int capacity;
+
+    // Ordered from the most to the least recently used
+    private final LinkedList<Entry> entries = new LinkedList<>();
+    private long mutationCount;
+
+    /**
+     * Creates an empty {@code CommandResultCache} that holds at most {@code capacity} results.
+     */
+    CommandResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the result of a command equal to {@code command} executed while the model had {@code mutationCount}
+     * mutations, or null if there is none.
+     */
+    synchronized CommandResult get(Command command, long mutationCount) {
+        requireNonNull(command);
+
+        clearIfMutated(mutationCount);
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.command.equals(command)) {
+                iterator.remove();
+                entries.addFirst(entry);
+                return entry.result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores {@code result} as the result of {@code command} executed while the model had {@code mutationCount}
+     * mutations.
+     */
+    synchronized void put(Command command, long mutationCount, CommandResult result) {
+        requireAllNonNull(command, result);
+
+        clearIfMutated(mutationCount);
+        entries.removeIf(entry -> entry.command.equals(command));
+        if (entries.size() == capacity) {
+            entries.removeLast();
+        }
+        entries.addFirst(new Entry(command, result));
+    }
+
+    /**
+     * Returns the number of results held.
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void clearIfMutated(long mutationCount) {
+        if (mutationCount != this.mutationCount) {
+            entries.clear();
+            this.mutationCount = mutationCount;
+        }
+    }
+
+    private static class Entry {
+        private final Command command;
+        private final CommandResult result;
+
+        Entry(Command command, CommandResult result) {
+            this.command = command;
+            this.result = result;
+        }
+    }
+}
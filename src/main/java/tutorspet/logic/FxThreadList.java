@@ -0,0 +1,114 @@
+package tutorspet.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} for the UI, which only changes on the JavaFX application thread.
+ * <p>
+ * Each change to the source list is recorded as the ranges it replaced, with a copy of only the elements it added,
+ * and the recorded changes are replayed on the copy in order. When the source list changes on another thread, the
+ * changes are replayed with {@code Platform.runLater}, and changes that happen before the application thread
+ * replays them are replayed together.
+ */
+class FxThreadList<T> {
+
+    private final ObservableList<T> list;
+    private final ObservableList<T> unmodifiableList;
+
+    // The changes to the source list that are not replayed yet, in the order that they happened
+    private final Queue<Replacement<T>> pendingReplacements = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code FxThreadList} that follows {@code source}.
+     * {@code source} must not change while this is being created.
+     */
+    FxThreadList(ObservableList<T> source) {
+        requireNonNull(source);
+
+        list = FXCollections.observableArrayList(source);
+        unmodifiableList = FXCollections.unmodifiableObservableList(list);
+        source.addListener(this::update);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableList;
+    }
+
+    private void update(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The elements in the range are the same ones, but they are moved or changed within it
+                int from = change.getFrom();
+                int to = change.getTo();
+                pendingReplacements.add(new Replacement<>(from, to - from, change.getList().subList(from, to)));
+            } else {
+                pendingReplacements.add(new Replacement<>(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+
+        if (Platform.isFxApplicationThread()) {
+            // Any pending changes happened before this one, as the source only changes on one thread at a time
+            replayPendingReplacements();
+            return;
+        }
+
+        // Only the first change since the last replay schedules one, which replays all the pending changes
+        if (isReplayScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::replayPendingReplacements);
+        }
+    }
+
+    private void replayPendingReplacements() {
+        // Changes added after this are either polled below or schedule another replay
+        isReplayScheduled.set(false);
+        Replacement<T> replacement;
+        while ((replacement = pendingReplacements.poll()) != null) {
+            replacement.applyTo(list);
+        }
+    }
+
+    /**
+     * A change to a list, which replaces {@code removedSize} elements from {@code from} with {@code added}.
+     */
+    private static class Replacement<T> {
+
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        private Replacement(int from, int removedSize, List<? extends T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = new ArrayList<>(added);
+        }
+
+        private void applyTo(ObservableList<T> list) {
+            if (from == 0 && removedSize == list.size()) {
+                list.setAll(added);
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+}
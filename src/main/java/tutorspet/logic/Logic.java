@@ -8,6 +8,7 @@ import tutorspet.logic.commands.CommandResult;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPetSnapshot;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 
@@ -26,18 +27,29 @@ public interface Logic {
 
     /**
      * Returns the TutorsPet.
+     * It is only safe to read on the thread that executes commands; other threads should use {@link #getSnapshot}.
      *
      * @see tutorspet.model.Model#getTutorsPet()
      */
     ReadOnlyTutorsPet getTutorsPet();
 
     /**
-     * Returns an unmodifiable view of the filtered list of students.
+     * Returns an immutable snapshot of the TutorsPet as of the last command that changed it.
+     * This can be called from any thread, and the snapshot can be read for as long as needed.
+     *
+     * @see tutorspet.model.Model#getSnapshot()
+     */
+    TutorsPetSnapshot getSnapshot();
+
+    /**
+     * Returns an unmodifiable view of the filtered list of students, which only changes on the JavaFX application
+     * thread.
      */
     ObservableList<Student> getFilteredStudentList();
 
     /**
-     * Returns an unmodifiable view of the filtered list of classes.
+     * Returns an unmodifiable view of the filtered list of classes, which only changes on the JavaFX application
+     * thread.
      */
     ObservableList<ModuleClass> getFilteredModuleClassList();
 
@@ -2,40 +2,89 @@ package tutorspet.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandContext;
 import tutorspet.logic.commands.CommandResult;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.parser.TutorsPetParser;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.Model;
 import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPetSnapshot;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
+import tutorspet.storage.JsonTutorsPetStorage;
 import tutorspet.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * Commands can be executed from any thread. Read-only commands run alongside each other, while other commands run
+ * alone, under the lock of the model. The data is saved from the snapshot of the model after the lock is released.
+ * The filtered lists given to the UI only change on the JavaFX application thread.
+ * The data is saved to the active workspace of the {@code WorkspaceManager}, which commands can switch.
  */
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final Duration BACKUP_INTERVAL = Duration.ofHours(1);
+    public static final int RESULT_CACHE_CAPACITY = 32;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final WorkspaceManager workspaceManager;
+    private final CommandContext commandContext;
     private final TutorsPetParser tutorsPetParser;
+    private final Clock clock;
+    private final CommandResultCache resultCache = new CommandResultCache(RESULT_CACHE_CAPACITY);
+
+    // Time and data file of the last backup taken by this LogicManager, or null if none was taken yet.
+    private Instant lastBackupTime;
+    private Path lastBackupFilePath;
+
+    // Copies of the filtered lists for the UI, which are only created when the UI asks for them, as they need JavaFX
+    private FxThreadList<Student> displayedStudents;
+    private FxThreadList<ModuleClass> displayedModuleClasses;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Other workspaces are kept in JSON data files.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new WorkspaceManager(model, storage, JsonTutorsPetStorage::new));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code WorkspaceManager},
+     * which must manage the workspaces of the same {@code Model} and {@code Storage}.
+     */
+    public LogicManager(Model model, Storage storage, WorkspaceManager workspaceManager) {
+        this(model, storage, workspaceManager, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which takes the time
+     * of backups from {@code clock}.
+     */
+    LogicManager(Model model, Storage storage, Clock clock) {
+        this(model, storage, new WorkspaceManager(model, storage, JsonTutorsPetStorage::new), clock);
+    }
+
+    private LogicManager(Model model, Storage storage, WorkspaceManager workspaceManager, Clock clock) {
         this.model = model;
         this.storage = storage;
+        this.workspaceManager = workspaceManager;
+        this.clock = clock;
+        commandContext = new CommandContext(storage, workspaceManager);
         tutorsPetParser = new TutorsPetParser();
     }
 
@@ -43,17 +92,74 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = tutorsPetParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command.isReadOnly()) {
+            // Read-only commands do not change the data, so they can run alongside each other and need no saving
+            return model.getLock().read(() -> executeReadOnly(command));
+        }
+
+        CommandResult commandResult = model.getLock().write(() -> {
+            backUpIfDue();
+            CommandResult result = command.execute(model, commandContext);
+            // A workspace that was switched to is backed up at once, as it has backups of its own
+            backUpIfDue();
+            return result;
+        });
+        saveLatestSnapshot();
+        return commandResult;
+    }
+
+    /**
+     * Executes the read-only {@code command}, or reuses the result of an equal command if nothing that the result
+     * depends on has changed since that command was executed.
+     */
+    private CommandResult executeReadOnly(Command command) throws CommandException {
+        long mutationCount = model.getMutationCount();
+        CommandResult cachedResult = resultCache.get(command, mutationCount);
+        if (cachedResult != null) {
+            logger.fine("Reusing the result of an equal command");
+            return cachedResult;
+        }
 
+        CommandResult commandResult = command.execute(model, commandContext);
+        resultCache.put(command, mutationCount, commandResult);
+        return commandResult;
+    }
+
+    /**
+     * Saves the latest snapshot of the data, unless it is already saved.
+     * Saves run one at a time, but outside the lock of the model, so that they do not hold up other commands.
+     */
+    private void saveLatestSnapshot() throws CommandException {
         try {
-            storage.saveTutorsPet(model.getTutorsPet());
+            workspaceManager.save();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Backs up the data and prunes old backups if no backup of the active workspace was taken in the last
+     * {@code BACKUP_INTERVAL}.
+     * As the backups only store the students and classes that changed, an unchanged backup costs little.
+     * Failures are logged and otherwise ignored, as they do not affect the data.
+     */
+    private void backUpIfDue() {
+        Instant now = clock.instant();
+        Path filePath = model.getTutorsPetFilePath();
+        if (lastBackupTime != null && filePath.equals(lastBackupFilePath)
+                && now.isBefore(lastBackupTime.plus(BACKUP_INTERVAL))) {
+            return;
+        }
+
+        try {
+            storage.backUpTutorsPet(model.getTutorsPet(), now);
+            storage.pruneBackups(now);
+        } catch (IOException ioe) {
+            logger.warning("Could not back up data: " + ioe);
+        }
+        lastBackupTime = now;
+        lastBackupFilePath = filePath;
     }
 
     @Override
@@ -62,13 +168,25 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
-        return model.getFilteredStudentList();
+    public TutorsPetSnapshot getSnapshot() {
+        return model.getSnapshot();
     }
 
     @Override
-    public ObservableList<ModuleClass> getFilteredModuleClassList() {
-        return model.getFilteredModuleClassList();
+    public synchronized ObservableList<Student> getFilteredStudentList() {
+        if (displayedStudents == null) {
+            displayedStudents = model.getLock().read(() -> new FxThreadList<>(model.getFilteredStudentList()));
+        }
+        return displayedStudents.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public synchronized ObservableList<ModuleClass> getFilteredModuleClassList() {
+        if (displayedModuleClasses == null) {
+            displayedModuleClasses =
+                    model.getLock().read(() -> new FxThreadList<>(model.getFilteredModuleClassList()));
+        }
+        return displayedModuleClasses.asUnmodifiableObservableList();
     }
 
     @Override
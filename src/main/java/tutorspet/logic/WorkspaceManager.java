@@ -0,0 +1,269 @@
+package tutorspet.logic;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.WORD_CHARACTERS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.commons.util.ValidationUtil;
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
+import tutorspet.model.Model;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.TutorsPetSnapshot;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.storage.Storage;
+import tutorspet.storage.TutorsPetStorage;
+
+/**
+ * Manages the workspaces of Tutor's Pet, each of which is a data file, such as the data of one tutor.
+ * <p>
+ * One workspace is active at a time: its data is in the model, and it is saved by the storage. The workspaces that were
+ * active recently are kept in memory while they are idle, so that switching back to them does not read them again.
+ * As a workspace is saved before it becomes idle, idle workspaces are evicted by dropping them, least recently used
+ * first, once more than a given number of them are kept, or once their total size is over a budget. The size of a
+ * workspace is its number of students, classes, lessons and attendance records.
+ */
+public class WorkspaceManager {
+
+    public static final int DEFAULT_CAPACITY = 16;
+    public static final long DEFAULT_SIZE_BUDGET = 1_000_000;
+
+    /** Characters of workspace names after the first, which is a letter or digit. */
+    public static final CharacterClass WORKSPACE_NAME_CHARACTERS = WORD_CHARACTERS.with(CharacterClass.of("-"));
+
+    private static final long NOTHING_SAVED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(WorkspaceManager.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Function<Path, TutorsPetStorage> storageFactory;
+    private final int capacity;
+    private final long sizeBudget;
+
+    // Ordered from the least to the most recently used, and keyed by absolute and normalized paths
+    private final Map<Path, Workspace> idleWorkspaces = new LinkedHashMap<>();
+    private long idleSize;
+
+    private Path activeFilePath;
+    // Version of the last snapshot saved to the active workspace, or NOTHING_SAVED if none was saved yet.
+    private long savedVersion = NOTHING_SAVED;
+
+    /**
+     * Creates a {@code WorkspaceManager} with the default capacity and size budget.
+     *
+     * @see #WorkspaceManager(Model, Storage, Function, int, long)
+     */
+    public WorkspaceManager(Model model, Storage storage, Function<Path, TutorsPetStorage> storageFactory) {
+        this(model, storage, storageFactory, DEFAULT_CAPACITY, DEFAULT_SIZE_BUDGET);
+    }
+
+    /**
+     * Creates a {@code WorkspaceManager} whose active workspace is the data file of {@code model}, which is saved by
+     * {@code storage}. The data files of other workspaces are read and saved by the storages that
+     * {@code storageFactory} creates for them. At most {@code capacity} idle workspaces are kept, with a total size
+     * of at most {@code sizeBudget}.
+     */
+    public WorkspaceManager(Model model, Storage storage, Function<Path, TutorsPetStorage> storageFactory,
+            int capacity, long sizeBudget) {
+        requireAllNonNull(model, storage, storageFactory);
+        checkArgument(capacity >= 0, "Capacity cannot be negative");
+        checkArgument(sizeBudget >= 0, "Size budget cannot be negative");
+
+        this.model = model;
+        this.storage = storage;
+        this.storageFactory = storageFactory;
+        this.capacity = capacity;
+        this.sizeBudget = sizeBudget;
+        activeFilePath = model.getTutorsPetFilePath();
+    }
+
+    /**
+     * Returns true if {@code test} is a valid workspace name.
+     */
+    public static boolean isValidWorkspaceName(String test) {
+        return ValidationUtil.matches(test, ALPHANUMERICS, WORKSPACE_NAME_CHARACTERS);
+    }
+
+    /**
+     * Returns the path of the data file of the workspace {@code nameOrFilePath}.
+     * A valid workspace name is a data file next to that of the active workspace, and anything else is a file path.
+     *
+     * @throws java.nio.file.InvalidPathException if {@code nameOrFilePath} is not a valid file path.
+     */
+    public synchronized Path getWorkspaceFilePath(String nameOrFilePath) {
+        requireNonNull(nameOrFilePath);
+
+        if (!isValidWorkspaceName(nameOrFilePath)) {
+            return Paths.get(nameOrFilePath);
+        }
+
+        String activeFileName = activeFilePath.getFileName().toString();
+        int extensionIndex = activeFileName.lastIndexOf('.');
+        String extension = extensionIndex > 0 ? activeFileName.substring(extensionIndex) : "";
+        return activeFilePath.resolveSibling(nameOrFilePath + extension);
+    }
+
+    /**
+     * Returns the path of the data file of the active workspace.
+     */
+    public synchronized Path getActiveFilePath() {
+        return activeFilePath;
+    }
+
+    /**
+     * Returns the number of idle workspaces kept in memory.
+     */
+    public synchronized int getIdleWorkspaceCount() {
+        return idleWorkspaces.size();
+    }
+
+    /**
+     * Saves the latest snapshot of the model to the active workspace, unless it is already saved.
+     * Saves run one at a time, and need not hold the lock of the model.
+     */
+    public synchronized void save() throws IOException {
+        TutorsPetSnapshot snapshot = model.getSnapshot();
+        if (snapshot.getVersion() == savedVersion) {
+            return;
+        }
+
+        storage.saveTutorsPet(snapshot);
+        savedVersion = snapshot.getVersion();
+    }
+
+    /**
+     * Makes the workspace with the data file at {@code filePath} the active one, and loads its data into the model,
+     * which discards the recorded states of the model. A workspace whose data file does not exist starts empty,
+     * and its data file is created.
+     * The active workspace is saved first, and kept in memory while it is idle. The new active workspace is
+     * saved in the user prefs.
+     * Must be called while holding the write lock of the model.
+     *
+     * @return false if the workspace is already the active one, and true otherwise.
+     * @throws IOException if the active workspace could not be saved, or the data file could not be read or created.
+     * @throws DataConversionException if the data file is not in the correct format.
+     */
+    public synchronized boolean switchTo(Path filePath) throws IOException, DataConversionException {
+        requireNonNull(filePath);
+
+        Path key = toKey(filePath);
+        if (key.equals(toKey(activeFilePath))) {
+            return false;
+        }
+
+        // Nothing is changed until the active workspace is saved and the next one is read, so that either can fail
+        save();
+        Workspace next = idleWorkspaces.get(key);
+        if (next == null) {
+            next = open(filePath);
+        } else {
+            idleWorkspaces.remove(key);
+            idleSize -= next.size;
+        }
+
+        addIdleWorkspace(toKey(activeFilePath), new Workspace(activeFilePath, storage.getTutorsPetStorage(),
+                model.getSnapshot()));
+        storage.setTutorsPetStorage(next.storage);
+        model.loadTutorsPet(next.data);
+        model.setTutorsPetFilePath(next.filePath);
+        activeFilePath = next.filePath;
+        savedVersion = model.getSnapshot().getVersion();
+        evictIdleWorkspaces();
+        saveUserPrefs();
+
+        logger.info("Switched to workspace " + activeFilePath);
+        return true;
+    }
+
+    /**
+     * Saves the user prefs, so that the active workspace is opened when the application starts again.
+     * The switch has already happened, so a failure is only logged.
+     */
+    private void saveUserPrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException ioe) {
+            logger.warning("Failed to save preferences " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private Workspace open(Path filePath) throws IOException, DataConversionException {
+        TutorsPetStorage tutorsPetStorage = storageFactory.apply(filePath);
+        ReadOnlyTutorsPet data = tutorsPetStorage.readTutorsPet().orElse(null);
+        if (data == null) {
+            logger.info("Creating workspace " + filePath);
+            data = new TutorsPet();
+            tutorsPetStorage.saveTutorsPet(data);
+        }
+        return new Workspace(filePath, tutorsPetStorage, data);
+    }
+
+    private void addIdleWorkspace(Path key, Workspace workspace) {
+        idleWorkspaces.put(key, workspace);
+        idleSize += workspace.size;
+    }
+
+    /**
+     * Drops the least recently used idle workspaces until the rest are within the capacity and size budget.
+     */
+    private void evictIdleWorkspaces() {
+        Iterator<Workspace> iterator = idleWorkspaces.values().iterator();
+        while (idleWorkspaces.size() > capacity || idleSize > sizeBudget) {
+            Workspace evicted = iterator.next();
+            iterator.remove();
+            idleSize -= evicted.size;
+            logger.fine("Evicted idle workspace " + evicted.filePath);
+        }
+    }
+
+    private static Path toKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the number of students, classes, lessons and attendance records in {@code data}.
+     */
+    private static long getSize(ReadOnlyTutorsPet data) {
+        long size = data.getStudentList().size();
+        for (ModuleClass moduleClass : data.getModuleClassList()) {
+            size++;
+            for (Lesson lesson : moduleClass.getLessons()) {
+                size += 1 + lesson.getAttendanceRecordList().size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A workspace with its data, which is never changed and is saved in its data file, and the storage of that file.
+     */
+    private static class Workspace {
+        private final Path filePath;
+        private final TutorsPetStorage storage;
+        private final ReadOnlyTutorsPet data;
+        private final long size;
+
+        Workspace(Path filePath, TutorsPetStorage storage, ReadOnlyTutorsPet data) {
+            this.filePath = filePath;
+            this.storage = storage;
+            this.data = data;
+            size = getSize(data);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package tutorspet.logic.commands;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Clock;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.storage.BackupStorage;
+
+/**
+ * Backs up the data in Tutor's Pet.
+ */
+public class BackupCommand extends BackupStorageCommand {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final String MESSAGE_SUCCESS = "Data backed up as %1$s.";
+
+    private final Clock clock;
+
+    public BackupCommand() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a BackupCommand that takes the time of the backup from {@code clock}.
+     */
+    public BackupCommand(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model, BackupStorage backupStorage) throws CommandException {
+        requireAllNonNull(model, backupStorage);
+
+        try {
+            String backupId = backupStorage.backUpTutorsPet(model.getTutorsPet(), clock.instant());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, backupId));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_ERROR, ioe), ioe);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package tutorspet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.storage.BackupStorage;
+
+/**
+ * Represents a command that operates on the backups of the data, and so can only be executed with access to them.
+ */
+public abstract class BackupStorageCommand extends Command {
+
+    public static final String MESSAGE_BACKUPS_UNAVAILABLE = "Backups are not available.";
+    public static final String MESSAGE_BACKUP_ERROR = "Could not access backups: %1$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_BACKUPS_UNAVAILABLE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        requireNonNull(context);
+
+        BackupStorage backupStorage = context.getBackupStorage()
+                .orElseThrow(() -> new CommandException(MESSAGE_BACKUPS_UNAVAILABLE));
+        return execute(model, backupStorage);
+    }
+
+    /**
+     * Executes the command with access to the backups of the data, and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param backupStorage {@code BackupStorage} which holds the backups of the data.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public abstract CommandResult execute(Model model, BackupStorage backupStorage) throws CommandException;
+}
@@ -16,4 +16,26 @@ public abstract class Command {
      * @throws CommandException If an error occurs during command execution.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Executes the command with access to what {@code context} makes available, such as the backups of the data,
+     * and returns the result message. Commands that only use the model are executed by {@link #execute(Model)}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param context {@code CommandContext} with what else the command can use.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns true if this command does not change the model, including the recorded states and the filtered lists,
+     * and its result only depends on the filtered lists and the recorded states. The result of such a command can be
+     * reused until {@link Model#getMutationCount()} changes.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
@@ -0,0 +1,42 @@
+package tutorspet.logic.commands;
+
+import java.util.Optional;
+
+import tutorspet.logic.WorkspaceManager;
+import tutorspet.storage.BackupStorage;
+
+/**
+ * Represents what a command can use besides the model when it is executed, such as the backups of the data.
+ * Anything that is not available is left out.
+ */
+public class CommandContext {
+
+    /** A context in which only the model is available. */
+    public static final CommandContext EMPTY = new CommandContext(null, null);
+
+    private final BackupStorage backupStorage;
+    private final WorkspaceManager workspaceManager;
+
+    /**
+     * Constructs a {@code CommandContext} with the given {@code backupStorage} and {@code workspaceManager},
+     * either of which may be null if it is not available.
+     */
+    public CommandContext(BackupStorage backupStorage, WorkspaceManager workspaceManager) {
+        this.backupStorage = backupStorage;
+        this.workspaceManager = workspaceManager;
+    }
+
+    /**
+     * Returns the {@code BackupStorage} which holds the backups of the data, if it is available.
+     */
+    public Optional<BackupStorage> getBackupStorage() {
+        return Optional.ofNullable(backupStorage);
+    }
+
+    /**
+     * Returns the {@code WorkspaceManager} which manages the workspaces that the data is kept in, if it is available.
+     */
+    public Optional<WorkspaceManager> getWorkspaceManager() {
+        return Optional.ofNullable(workspaceManager);
+    }
+}
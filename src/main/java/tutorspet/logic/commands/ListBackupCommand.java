@@ -0,0 +1,40 @@
+package tutorspet.logic.commands;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.storage.BackupStorage;
+
+/**
+ * Lists the backups of the data in Tutor's Pet, from the latest to the oldest.
+ */
+public class ListBackupCommand extends BackupStorageCommand {
+
+    public static final String COMMAND_WORD = "list-backups";
+
+    public static final String MESSAGE_SUCCESS = "%1$d backups listed, latest first:\n%2$s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups.";
+
+    @Override
+    public CommandResult execute(Model model, BackupStorage backupStorage) throws CommandException {
+        requireAllNonNull(model, backupStorage);
+
+        List<String> backupIds;
+        try {
+            backupIds = backupStorage.getBackupIds();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_ERROR, ioe), ioe);
+        }
+
+        if (backupIds.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_BACKUPS);
+        }
+        Collections.reverse(backupIds);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, backupIds.size(), String.join("\n", backupIds)));
+    }
+}
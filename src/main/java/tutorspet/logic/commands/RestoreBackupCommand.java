@@ -0,0 +1,75 @@
+package tutorspet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_MODULE_CLASS;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.storage.BackupStorage;
+
+/**
+ * Replaces the data in Tutor's Pet with the data in a backup.
+ */
+public class RestoreBackupCommand extends BackupStorageCommand {
+
+    public static final String COMMAND_WORD = "restore-backup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces all data with the data in a backup. "
+            + "The ids of the backups are shown by " + ListBackupCommand.COMMAND_WORD + ".\n"
+            + "Parameters: BACKUP_ID\n"
+            + "Example: " + COMMAND_WORD + " 20201019-093000";
+
+    public static final String MESSAGE_SUCCESS = "Restored backup %1$s.";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %1$s.";
+    public static final String MESSAGE_INVALID_BACKUP = "Backup %1$s could not be read: %2$s";
+
+    private final String backupId;
+
+    /**
+     * Creates a RestoreBackupCommand to restore the backup with the given id.
+     */
+    public RestoreBackupCommand(String backupId) {
+        requireNonNull(backupId);
+
+        this.backupId = backupId;
+    }
+
+    @Override
+    public CommandResult execute(Model model, BackupStorage backupStorage) throws CommandException {
+        requireAllNonNull(model, backupStorage);
+
+        Optional<ReadOnlyTutorsPet> backup;
+        try {
+            backup = backupStorage.readBackup(backupId);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_INVALID_BACKUP, backupId, dce.getMessage()), dce);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_ERROR, ioe), ioe);
+        }
+
+        if (!backup.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_NOT_FOUND, backupId));
+        }
+
+        model.setTutorsPet(backup.get());
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredModuleClassList(PREDICATE_SHOW_ALL_MODULE_CLASS);
+        String message = String.format(MESSAGE_SUCCESS, backupId);
+        model.commit(message);
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RestoreBackupCommand // instanceof handles nulls
+                && backupId.equals(((RestoreBackupCommand) other).backupId));
+    }
+}
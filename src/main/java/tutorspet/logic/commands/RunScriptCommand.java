@@ -0,0 +1,132 @@
+package tutorspet.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_MODULE_CLASS;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.TutorsPetParser;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single change.
+ * The commands are read and run one at a time, and are committed together once the whole script has run.
+ * If any command fails, all changes made by the script are discarded.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, "
+            + "one command per line, as a single change that can be undone at once. "
+            + "Blank lines and lines starting with \"" + COMMENT_PREFIX + "\" are skipped. "
+            + "If any command fails, no changes are made.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/setup.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s.";
+    public static final String MESSAGE_COMMIT = "Ran %1$d commands from script %2$s.";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands in %1$s.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d of %2$s failed, so no changes were made:\n%3$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script.";
+    public static final String MESSAGE_FILE_ERROR = "Could not read %1$s, so no changes were made: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in the script file at {@code filePath}.
+     */
+    public RunScriptCommand(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, CommandContext.EMPTY);
+    }
+
+    /**
+     * Runs the commands in the script against {@code model} in a single transaction.
+     * The commands are executed with the same {@code context}.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        requireAllNonNull(model, context);
+
+        model.startTransaction();
+        boolean isCommitted = false;
+        try {
+            int commandCount = runCommands(model, context);
+            if (commandCount == 0) {
+                throw new CommandException(String.format(MESSAGE_NO_COMMANDS, filePath));
+            }
+
+            model.commitTransaction(String.format(MESSAGE_COMMIT, commandCount, filePath));
+            isCommitted = true;
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath));
+        } finally {
+            if (!isCommitted) {
+                model.rollBackTransaction();
+                model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+                model.updateFilteredModuleClassList(PREDICATE_SHOW_ALL_MODULE_CLASS);
+            }
+        }
+    }
+
+    /**
+     * Reads the script a line at a time, and parses and runs each command as it is read.
+     *
+     * @return the number of commands run.
+     * @throws CommandException if the script cannot be read, or any of its commands fails.
+     */
+    private int runCommands(Model model, CommandContext context) throws CommandException {
+        TutorsPetParser parser = new TutorsPetParser();
+        int commandCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    Command command = parser.parseCommand(commandText);
+                    if (command instanceof UndoCommand || command instanceof RedoCommand
+                            || command instanceof RunScriptCommand || command instanceof SwitchWorkspaceCommand) {
+                        throw new CommandException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandText));
+                    }
+
+                    command.execute(model, context);
+                    commandCount++;
+                } catch (CommandException | ParseException e) {
+                    throw new CommandException(
+                            String.format(MESSAGE_COMMAND_FAILED, lineNumber, filePath, e.getMessage()), e);
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe), ioe);
+        }
+        return commandCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && filePath.equals(((RunScriptCommand) other).filePath));
+    }
+}
@@ -0,0 +1,90 @@
+package tutorspet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.logic.WorkspaceManager;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+
+/**
+ * Saves the data in Tutor's Pet, and switches to the data of another workspace.
+ */
+public class SwitchWorkspaceCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch-workspace";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves all data, and switches to the data of another "
+            + "workspace, such as that of another tutor. A workspace is given by a name, for a data file in the same "
+            + "folder as the current one, or by the path of its data file. "
+            + "A workspace that does not exist is created.\n"
+            + "Parameters: NAME_OR_FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " alex-yeoh";
+
+    public static final String MESSAGE_SUCCESS = "Switched to workspace %1$s.";
+    public static final String MESSAGE_ALREADY_ACTIVE = "Workspace %1$s is already in use.";
+    public static final String MESSAGE_WORKSPACES_UNAVAILABLE = "Workspaces are not available.";
+    public static final String MESSAGE_SAVE_ERROR = "Could not save the data of the current workspace: %1$s";
+    public static final String MESSAGE_INVALID_WORKSPACE = "Workspace %1$s could not be opened: %2$s";
+
+    private final String workspace;
+
+    /**
+     * Creates a SwitchWorkspaceCommand to switch to the workspace with the given name or data file path.
+     */
+    public SwitchWorkspaceCommand(String workspace) {
+        requireNonNull(workspace);
+
+        this.workspace = workspace;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_WORKSPACES_UNAVAILABLE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        requireAllNonNull(model, context);
+
+        WorkspaceManager workspaceManager = context.getWorkspaceManager()
+                .orElseThrow(() -> new CommandException(MESSAGE_WORKSPACES_UNAVAILABLE));
+
+        Path filePath;
+        try {
+            filePath = workspaceManager.getWorkspaceFilePath(workspace);
+        } catch (InvalidPathException ipe) {
+            throw new CommandException(String.format(MESSAGE_INVALID_WORKSPACE, workspace, ipe.getMessage()), ipe);
+        }
+
+        try {
+            workspaceManager.save();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_SAVE_ERROR, ioe), ioe);
+        }
+
+        boolean isSwitched;
+        try {
+            isSwitched = workspaceManager.switchTo(filePath);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_WORKSPACE, filePath, e.getMessage()), e);
+        }
+
+        if (!isSwitched) {
+            return new CommandResult(String.format(MESSAGE_ALREADY_ACTIVE, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SwitchWorkspaceCommand // instanceof handles nulls
+                && workspace.equals(((SwitchWorkspaceCommand) other).workspace));
+    }
+}
@@ -24,6 +24,11 @@ public class ViewHistoryCommand extends Command {
         return new CommandResult(createMessage(stateRecords));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     private String createMessage(StateRecords stateRecords) {
         assert stateRecords != null;
 
@@ -43,4 +48,10 @@ public class ViewHistoryCommand extends Command {
         }
         return String.format(MESSAGE_TEMPLATE, summary.toString());
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof ViewHistoryCommand; // instanceof handles nulls
+    }
 }
@@ -89,6 +89,11 @@ public class FindAttendanceCommand extends Command {
         return new CommandResult(message);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -83,6 +83,11 @@ public class StatisticsCommand extends Command {
         return new CommandResult(message);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
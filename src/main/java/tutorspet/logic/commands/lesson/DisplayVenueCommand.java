@@ -68,6 +68,11 @@ public class DisplayVenueCommand extends Command {
         return new CommandResult(message);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
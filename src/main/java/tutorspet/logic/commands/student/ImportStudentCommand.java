@@ -0,0 +1,169 @@
+package tutorspet.logic.commands.student;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import tutorspet.commons.util.CsvUtil;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.ParserUtil;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.Model;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Adds the students listed in a CSV file to the student manager.
+ * Rows that are invalid, or that describe a student that already exists, are skipped and reported.
+ * All valid rows are added together and committed as a single change.
+ */
+public class ImportStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students listed in a CSV file to the "
+            + "student manager. Each row of the file is NAME,TELEGRAM,EMAIL[,TAG;TAG...]. "
+            + "A header row starting with \"name\" is skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d students imported from %2$s.";
+    public static final String MESSAGE_COMMIT = "%1$d students imported.";
+    public static final String MESSAGE_NO_STUDENTS_IMPORTED = "No students imported from %1$s.";
+    public static final String MESSAGE_SKIPPED_ROWS = "\n%1$d rows skipped:";
+    public static final String MESSAGE_MORE_SKIPPED_ROWS = "\n...and %1$d more.";
+    public static final String MESSAGE_INVALID_ROW = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected NAME,TELEGRAM,EMAIL[,TAGS].";
+    public static final String MESSAGE_FILE_ERROR = "Could not read %1$s: %2$s";
+
+    public static final int MAX_REPORTED_ROWS = 20;
+
+    private static final String HEADER_FIRST_FIELD = "name";
+    private static final String TAG_SEPARATOR = ";";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportStudentCommand to add the students in the CSV file at {@code filePath}.
+     */
+    public ImportStudentCommand(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Students are the same if they share a telegram or an email, so duplicates are found by hash lookups
+        Set<Telegram> telegrams = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Student student : model.getTutorsPet().getStudentList()) {
+            telegrams.add(student.getTelegram());
+            emails.add(student.getEmail());
+        }
+
+        List<Student> toAdd = new ArrayList<>();
+        List<String> skippedRows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    List<String> fields = CsvUtil.splitRow(line);
+                    if (lineNumber == 1 && fields.get(0).equalsIgnoreCase(HEADER_FIRST_FIELD)) {
+                        continue;
+                    }
+
+                    Student student = parseStudent(fields);
+                    if (telegrams.contains(student.getTelegram()) || emails.contains(student.getEmail())) {
+                        throw new ParseException(MESSAGE_DUPLICATE_STUDENT);
+                    }
+                    telegrams.add(student.getTelegram());
+                    emails.add(student.getEmail());
+                    toAdd.add(student);
+                } catch (ParseException | IllegalArgumentException e) {
+                    skippedRows.add(String.format(MESSAGE_INVALID_ROW, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe), ioe);
+        }
+
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS_IMPORTED, filePath)
+                    + formatSkippedRows(skippedRows));
+        }
+
+        model.addStudents(toAdd);
+        model.commit(String.format(MESSAGE_COMMIT, toAdd.size()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath)
+                + formatSkippedRows(skippedRows));
+    }
+
+    /**
+     * Parses the {@code fields} of a row into a {@code Student}.
+     *
+     * @throws ParseException if the row does not describe a valid student.
+     */
+    private static Student parseStudent(List<String> fields) throws ParseException {
+        if (fields.size() < 3 || fields.size() > 4) {
+            throw new ParseException(MESSAGE_WRONG_FIELD_COUNT);
+        }
+
+        Name name = ParserUtil.parseName(fields.get(0));
+        Telegram telegram = ParserUtil.parseTelegram(fields.get(1));
+        Email email = ParserUtil.parseEmail(fields.get(2));
+        List<String> tagNames = fields.size() < 4
+                ? List.of()
+                : Arrays.stream(fields.get(3).split(TAG_SEPARATOR))
+                        .map(String::trim)
+                        .filter(tagName -> !tagName.isEmpty())
+                        .collect(Collectors.toList());
+        Set<Tag> tagList = ParserUtil.parseTags(tagNames);
+
+        return new Student(name, telegram, email, tagList);
+    }
+
+    private static String formatSkippedRows(List<String> skippedRows) {
+        if (skippedRows.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SKIPPED_ROWS, skippedRows.size()));
+        skippedRows.stream().limit(MAX_REPORTED_ROWS).forEach(report::append);
+        if (skippedRows.size() > MAX_REPORTED_ROWS) {
+            report.append(String.format(MESSAGE_MORE_SKIPPED_ROWS, skippedRows.size() - MAX_REPORTED_ROWS));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportStudentCommand // instanceof handles nulls
+                && filePath.equals(((ImportStudentCommand) other).filePath));
+    }
+}
@@ -1,9 +1,8 @@
 package tutorspet.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,31 +11,69 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * <p>
+ * Argument values are held as offsets into the arguments string they were found in, and are only copied out of it
+ * when they are retrieved.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** Prefix that the preamble is mapped to. */
+    static final Prefix PREAMBLE = new Prefix("");
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String argsString;
+
+    // The i-th argument has prefix prefixes[i], and its value spans valueBounds[2i] to valueBounds[2i + 1]
+    private Prefix[] prefixes = new Prefix[INITIAL_CAPACITY];
+    private int[] valueBounds = new int[2 * INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty {@code ArgumentMultimap} for arguments found in {@code argsString}.
+     */
+    ArgumentMultimap(String argsString) {
+        this.argsString = argsString;
+    }
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
+     * Associates the argument value between {@code start} and {@code end} of the arguments string with
+     * {@code prefix} key in this map. Leading and trailing whitespaces of the value are discarded.
      * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
      *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
+     * @param prefix Prefix key with which the specified argument value is to be associated
+     * @param start  Index of the first character of the argument value in the arguments string
+     * @param end    Index after the last character of the argument value in the arguments string
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    void put(Prefix prefix, int start, int end) {
+        // Same as String#trim()
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (start < end && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (size == prefixes.length) {
+            prefixes = Arrays.copyOf(prefixes, 2 * size);
+            valueBounds = Arrays.copyOf(valueBounds, 4 * size);
+        }
+        prefixes[size] = prefix;
+        valueBounds[2 * size] = start;
+        valueBounds[2 * size + 1] = end;
+        size++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        for (int i = size - 1; i >= 0; i--) {
+            if (prefixes[i].equals(prefix)) {
+                return Optional.of(getValue(i));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -45,16 +82,23 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (prefixes[i].equals(prefix)) {
+                values.add(getValue(i));
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
+    }
+
+    private String getValue(int index) {
+        return argsString.substring(valueBounds[2 * index], valueBounds[2 * index + 1]);
     }
 }
@@ -0,0 +1,29 @@
+package tutorspet.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tutorspet.logic.commands.RestoreBackupCommand;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RestoreBackupCommand object.
+ */
+public class RestoreBackupCommandParser implements Parser<RestoreBackupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreBackupCommand
+     * and returns a RestoreBackupCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RestoreBackupCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String backupId = args.trim();
+        if (backupId.isEmpty() || backupId.split("\\s+").length > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreBackupCommand.MESSAGE_USAGE));
+        }
+        return new RestoreBackupCommand(backupId);
+    }
+}
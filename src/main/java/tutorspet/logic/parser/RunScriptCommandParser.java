@@ -0,0 +1,38 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "The file path provided is invalid.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, ipe);
+        }
+        return new RunScriptCommand(filePath);
+    }
+}
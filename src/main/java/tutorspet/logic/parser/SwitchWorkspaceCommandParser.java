@@ -0,0 +1,30 @@
+package tutorspet.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tutorspet.logic.commands.SwitchWorkspaceCommand;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchWorkspaceCommand object.
+ */
+public class SwitchWorkspaceCommandParser implements Parser<SwitchWorkspaceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchWorkspaceCommand
+     * and returns a SwitchWorkspaceCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public SwitchWorkspaceCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String workspace = args.trim();
+        if (workspace.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SwitchWorkspaceCommand.MESSAGE_USAGE));
+        }
+        return new SwitchWorkspaceCommand(workspace);
+    }
+}
@@ -6,13 +6,18 @@ import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import tutorspet.logic.commands.BackupCommand;
 import tutorspet.logic.commands.Command;
 import tutorspet.logic.commands.ExitCommand;
 import tutorspet.logic.commands.HelpCommand;
 import tutorspet.logic.commands.LinkCommand;
+import tutorspet.logic.commands.ListBackupCommand;
 import tutorspet.logic.commands.ListCommand;
 import tutorspet.logic.commands.RedoCommand;
 import tutorspet.logic.commands.ResetCommand;
+import tutorspet.logic.commands.RestoreBackupCommand;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.SwitchWorkspaceCommand;
 import tutorspet.logic.commands.UndoCommand;
 import tutorspet.logic.commands.UnlinkCommand;
 import tutorspet.logic.commands.ViewHistoryCommand;
@@ -36,6 +41,7 @@ import tutorspet.logic.commands.student.ClearStudentCommand;
 import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand;
 import tutorspet.logic.commands.student.FindStudentCommand;
+import tutorspet.logic.commands.student.ImportStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.parser.attendance.AddAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.DeleteAttendanceCommandParser;
@@ -55,6 +61,7 @@ import tutorspet.logic.parser.student.AddStudentCommandParser;
 import tutorspet.logic.parser.student.DeleteStudentCommandParser;
 import tutorspet.logic.parser.student.EditStudentCommandParser;
 import tutorspet.logic.parser.student.FindStudentCommandParser;
+import tutorspet.logic.parser.student.ImportStudentCommandParser;
 import tutorspet.logic.parser.student.ListStudentCommandParser;
 
 /**
@@ -103,6 +110,9 @@ public class TutorsPetParser {
         case FindStudentCommand.COMMAND_WORD:
             return new FindStudentCommandParser().parse(arguments);
 
+        case ImportStudentCommand.COMMAND_WORD:
+            return new ImportStudentCommandParser().parse(arguments);
+
         case AddModuleClassCommand.COMMAND_WORD:
             return new AddModuleClassCommandParser().parse(arguments);
 
@@ -175,6 +185,21 @@ public class TutorsPetParser {
         case ResetCommand.COMMAND_WORD:
             return new ResetCommand();
 
+        case BackupCommand.COMMAND_WORD:
+            return new BackupCommand();
+
+        case ListBackupCommand.COMMAND_WORD:
+            return new ListBackupCommand();
+
+        case RestoreBackupCommand.COMMAND_WORD:
+            return new RestoreBackupCommandParser().parse(arguments);
+
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
+        case SwitchWorkspaceCommand.COMMAND_WORD:
+            return new SwitchWorkspaceCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
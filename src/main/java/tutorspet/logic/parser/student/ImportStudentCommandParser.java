@@ -0,0 +1,40 @@
+package tutorspet.logic.parser.student;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import tutorspet.logic.commands.student.ImportStudentCommand;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportStudentCommand object.
+ */
+public class ImportStudentCommandParser implements Parser<ImportStudentCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "The file path provided is invalid.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportStudentCommand
+     * and returns an ImportStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ImportStudentCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, ipe);
+        }
+        return new ImportStudentCommand(filePath);
+    }
+}
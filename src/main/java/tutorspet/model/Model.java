@@ -1,6 +1,7 @@
 package tutorspet.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -51,6 +52,12 @@ public interface Model {
      */
     void setTutorsPet(ReadOnlyTutorsPet tutorsPet);
 
+    /**
+     * Replaces Tutor's Pet data with the loaded data in {@code tutorsPet}, which becomes the state
+     * that undoing returns to.
+     */
+    void loadTutorsPet(ReadOnlyTutorsPet tutorsPet);
+
     /** Returns the TutorsPet */
     ReadOnlyTutorsPet getTutorsPet();
 
@@ -59,6 +66,22 @@ public interface Model {
      */
     void commit(String commitMessage);
 
+    /**
+     * Starts a transaction, during which commits are deferred, so that all changes made until the transaction ends
+     * are committed together as one state, or discarded together.
+     */
+    void startTransaction();
+
+    /**
+     * Ends the transaction, and commits all changes made during it with the associated {@code commitMessage}.
+     */
+    void commitTransaction(String commitMessage);
+
+    /**
+     * Ends the transaction, and discards all changes made during it.
+     */
+    void rollBackTransaction();
+
     /**
      * Returns true if there is a {@code Command} that can be undone.
      */
@@ -79,11 +102,29 @@ public interface Model {
      */
     String redo();
 
+    /**
+     * Returns an immutable snapshot of the data as of the last commit, undo, redo, load or rollback.
+     * Changes that are not committed yet, such as those in a transaction, are not in the snapshot.
+     * This takes constant time, and can be called from any thread without the lock of this {@code Model}.
+     */
+    TutorsPetSnapshot getSnapshot();
+
     /**
      * Returns a summary of all commands currently recorded by this {@code Model}.
      */
     StateRecords viewStateRecords();
 
+    /**
+     * Returns the number of changes made to the students and classes in the filtered lists, or to the recorded states.
+     * Results computed from the filtered lists and recorded states stay the same until this number changes.
+     */
+    long getMutationCount();
+
+    /**
+     * Returns the lock that guards this {@code Model} when it is read and changed by several threads.
+     */
+    ModelLock getLock();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in the application.
      */
@@ -106,6 +147,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds all the given students.
+     * {@code students} must not already exist in the application, and must not contain duplicate students.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the application.
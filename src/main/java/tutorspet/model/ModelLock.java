@@ -0,0 +1,80 @@
+package tutorspet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Guards a {@code Model} that is read and changed by several threads.
+ * Any number of reads can run at the same time, while a write runs alone.
+ * <p>
+ * Actions run under the lock should only touch the model, and not wait for other threads that use the lock,
+ * as the lock is not reentrant.
+ */
+public class ModelLock {
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Runs {@code action} without blocking writes, and runs it again while holding a read lock if a write happened
+     * in the meantime. The result is the same as that of {@link #read(LockedAction)}, but reads that do not overlap
+     * with a write never wait for the lock.
+     * <p>
+     * {@code action} must not change anything, as it may run while a write is half done. Exceptions thrown by such a
+     * run are ignored.
+     */
+    public <T, E extends Exception> T readOptimistically(LockedAction<T, E> action) throws E {
+        requireNonNull(action);
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = action.run();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (Exception e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(action);
+    }
+
+    /**
+     * Runs {@code action} while holding a read lock, which other reads can hold at the same time.
+     */
+    public <T, E extends Exception> T read(LockedAction<T, E> action) throws E {
+        requireNonNull(action);
+
+        long stamp = lock.readLock();
+        try {
+            return action.run();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs {@code action} while holding the write lock, so that no other read or write runs at the same time.
+     */
+    public <T, E extends Exception> T write(LockedAction<T, E> action) throws E {
+        requireNonNull(action);
+
+        long stamp = lock.writeLock();
+        try {
+            return action.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * An action to run under a {@code ModelLock}.
+     */
+    @FunctionalInterface
+    public interface LockedAction<T, E extends Exception> {
+        T run() throws E;
+    }
+}
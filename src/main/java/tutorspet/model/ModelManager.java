@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import tutorspet.commons.core.GuiSettings;
@@ -25,6 +27,13 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<ModuleClass> filteredModuleClasses;
+    private final ModelLock lock = new ModelLock();
+
+    // The data as of the current state, published for readers on other threads
+    private volatile TutorsPetSnapshot snapshot;
+
+    // Changes of the data are counted through the filtered lists, which change when the data displayed in them does
+    private long mutationCount;
 
     /**
      * Initializes a ModelManager with the given tutorsPet and userPrefs.
@@ -39,6 +48,9 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(versionedTutorsPet.getStudentList());
         filteredModuleClasses = new FilteredList<>(versionedTutorsPet.getModuleClassList());
+        filteredStudents.addListener((ListChangeListener<Student>) change -> mutationCount++);
+        filteredModuleClasses.addListener((ListChangeListener<ModuleClass>) change -> mutationCount++);
+        publishSnapshot();
     }
 
     public ModelManager() {
@@ -88,6 +100,16 @@ public class ModelManager implements Model {
     @Override
     public void setTutorsPet(ReadOnlyTutorsPet tutorsPet) {
         versionedTutorsPet.resetData(tutorsPet);
+        mutationCount++;
+    }
+
+    @Override
+    public void loadTutorsPet(ReadOnlyTutorsPet tutorsPet) {
+        requireNonNull(tutorsPet);
+
+        versionedTutorsPet.load(tutorsPet);
+        mutationCount++;
+        publishSnapshot();
     }
 
     @Override
@@ -98,6 +120,29 @@ public class ModelManager implements Model {
     @Override
     public void commit(String commitMessage) {
         versionedTutorsPet.commit(commitMessage);
+        mutationCount++;
+        publishSnapshot();
+    }
+
+    @Override
+    public void startTransaction() {
+        versionedTutorsPet.startTransaction();
+    }
+
+    @Override
+    public void commitTransaction(String commitMessage) {
+        requireNonNull(commitMessage);
+
+        versionedTutorsPet.commitTransaction(commitMessage);
+        mutationCount++;
+        publishSnapshot();
+    }
+
+    @Override
+    public void rollBackTransaction() {
+        versionedTutorsPet.rollBackTransaction();
+        mutationCount++;
+        publishSnapshot();
     }
 
     @Override
@@ -107,7 +152,10 @@ public class ModelManager implements Model {
 
     @Override
     public String undo() {
-        return versionedTutorsPet.undo();
+        mutationCount++;
+        String commitMessage = versionedTutorsPet.undo();
+        publishSnapshot();
+        return commitMessage;
     }
 
     @Override
@@ -117,7 +165,28 @@ public class ModelManager implements Model {
 
     @Override
     public String redo() {
-        return versionedTutorsPet.redo();
+        mutationCount++;
+        String commitMessage = versionedTutorsPet.redo();
+        publishSnapshot();
+        return commitMessage;
+    }
+
+    @Override
+    public TutorsPetSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes the current state as a new snapshot, if it is not the state of the current snapshot.
+     * The state is already a copy that is never changed, so no copy is made.
+     */
+    private void publishSnapshot() {
+        ReadOnlyTutorsPet currentState = versionedTutorsPet.getCurrentState();
+        if (snapshot == null) {
+            snapshot = new TutorsPetSnapshot(0, currentState);
+        } else if (!snapshot.isOf(currentState)) {
+            snapshot = new TutorsPetSnapshot(snapshot.getVersion() + 1, currentState);
+        }
     }
 
     @Override
@@ -125,6 +194,16 @@ public class ModelManager implements Model {
         return versionedTutorsPet.viewStateRecords();
     }
 
+    @Override
+    public long getMutationCount() {
+        return mutationCount;
+    }
+
+    @Override
+    public ModelLock getLock() {
+        return lock;
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
@@ -145,6 +224,14 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        requireNonNull(students);
+
+        versionedTutorsPet.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
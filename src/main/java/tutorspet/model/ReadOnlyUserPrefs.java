@@ -3,6 +3,7 @@ package tutorspet.model;
 import java.nio.file.Path;
 
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -12,4 +13,6 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getTutorsPetFilePath();
+
+    StorageFormat getTutorsPetStorageFormat();
 }
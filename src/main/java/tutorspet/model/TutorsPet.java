@@ -102,6 +102,14 @@ public class TutorsPet implements ReadOnlyTutorsPet {
         students.add(student);
     }
 
+    /**
+     * Adds all {@code students} to the application.
+     * The students must not already exist in the application, and must not contain duplicate students.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the application.
@@ -0,0 +1,75 @@
+package tutorspet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import javafx.collections.ObservableList;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * The data of Tutor's Pet as of one commit, which never changes.
+ * Snapshots of later commits have greater versions.
+ * <p>
+ * As the data is never changed, a snapshot can be read from any thread without locking, for as long as needed.
+ */
+public final class TutorsPetSnapshot implements ReadOnlyTutorsPet {
+
+    private final long version;
+    private final ReadOnlyTutorsPet tutorsPet;
+
+    /**
+     * Creates a {@code TutorsPetSnapshot} of {@code tutorsPet}, which must never be changed afterwards.
+     * No copy is made.
+     */
+    TutorsPetSnapshot(long version, ReadOnlyTutorsPet tutorsPet) {
+        requireNonNull(tutorsPet);
+
+        this.version = version;
+        this.tutorsPet = tutorsPet;
+    }
+
+    /**
+     * Returns the version of this snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this is a snapshot of {@code tutorsPet} itself.
+     */
+    boolean isOf(ReadOnlyTutorsPet tutorsPet) {
+        return this.tutorsPet == tutorsPet;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return tutorsPet.getStudentList();
+    }
+
+    @Override
+    public ObservableList<ModuleClass> getModuleClassList() {
+        return tutorsPet.getModuleClassList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TutorsPetSnapshot // instanceof handles nulls
+                && version == ((TutorsPetSnapshot) other).version
+                && getStudentList().equals(((TutorsPetSnapshot) other).getStudentList())
+                && getModuleClassList().equals(((TutorsPetSnapshot) other).getModuleClassList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, getStudentList(), getModuleClassList());
+    }
+
+    @Override
+    public String toString() {
+        return "Version " + version + ": " + tutorsPet;
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path tutorsPetFilePath = Paths.get("data" , "tutorspet.json");
+    private StorageFormat tutorsPetStorageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTutorsPetFilePath(newUserPrefs.getTutorsPetFilePath());
+        setTutorsPetStorageFormat(newUserPrefs.getTutorsPetStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -59,6 +62,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tutorsPetFilePath = tutorsPetFilePath;
     }
 
+    public StorageFormat getTutorsPetStorageFormat() {
+        return tutorsPetStorageFormat;
+    }
+
+    public void setTutorsPetStorageFormat(StorageFormat tutorsPetStorageFormat) {
+        requireNonNull(tutorsPetStorageFormat);
+
+        this.tutorsPetStorageFormat = tutorsPetStorageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +84,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && tutorsPetFilePath.equals(o.tutorsPetFilePath);
+                && tutorsPetFilePath.equals(o.tutorsPetFilePath)
+                && tutorsPetStorageFormat.equals(o.tutorsPetStorageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tutorsPetFilePath);
+        return Objects.hash(guiSettings, tutorsPetFilePath, tutorsPetStorageFormat);
     }
 
     @Override
@@ -84,6 +98,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + tutorsPetFilePath);
+        sb.append("\nLocal data file format : " + tutorsPetStorageFormat);
         return sb.toString();
     }
 }
@@ -16,6 +16,8 @@ public class VersionedTutorsPet extends TutorsPet {
 
     private List<TutorsPetState> tutorsPetStateList;
     private int statePointer;
+    // True while a transaction is open, during which commits are left to the end of the transaction.
+    private boolean isInTransaction;
 
     /**
      * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}.
@@ -29,6 +31,18 @@ public class VersionedTutorsPet extends TutorsPet {
         statePointer = 0;
     }
 
+    /**
+     * Replaces the data with {@code newData}, which becomes the initial state, and discards all other states.
+     */
+    public void load(ReadOnlyTutorsPet newData) {
+        requireNonNull(newData);
+
+        resetData(newData);
+        tutorsPetStateList.clear();
+        tutorsPetStateList.add(new TutorsPetState(INITIAL_COMMIT_MESSAGE, this));
+        statePointer = 0;
+    }
+
     /**
      * Saves the current state of the {@code TutorsPet} with the associated {@code commitMessage}.
      *
@@ -37,12 +51,57 @@ public class VersionedTutorsPet extends TutorsPet {
     public void commit(String commitMessage) throws NullPointerException {
         requireNonNull(commitMessage);
 
+        if (isInTransaction) {
+            return;
+        }
+
         pruneStates();
         TutorsPetState state = new TutorsPetState(commitMessage, this);
         tutorsPetStateList.add(state);
         statePointer++;
     }
 
+    /**
+     * Starts a transaction. Until the transaction ends, changes are not committed, so that all of them
+     * are committed together, or discarded together.
+     */
+    public void startTransaction() {
+        assert !isInTransaction;
+
+        isInTransaction = true;
+    }
+
+    /**
+     * Ends the transaction, and commits all changes made during it as one state with the associated
+     * {@code commitMessage}.
+     *
+     * @throws NullPointerException if the {@code commitMessage} is null.
+     */
+    public void commitTransaction(String commitMessage) throws NullPointerException {
+        requireNonNull(commitMessage);
+        assert isInTransaction;
+
+        isInTransaction = false;
+        commit(commitMessage);
+    }
+
+    /**
+     * Ends the transaction, and discards all changes made during it.
+     */
+    public void rollBackTransaction() {
+        assert isInTransaction;
+
+        isInTransaction = false;
+        resetData(tutorsPetStateList.get(statePointer).stateSnapshot);
+    }
+
+    /**
+     * Returns true if a transaction has been started and has not yet ended.
+     */
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
     /**
      * Undoes the most recent undoable command.
      *
@@ -96,6 +155,14 @@ public class VersionedTutorsPet extends TutorsPet {
         return statePointer < tutorsPetStateList.size() - 1;
     }
 
+    /**
+     * Returns a copy of the data as of the current state, which is never changed.
+     * Until the next commit, undo, redo, load or rollback, the same copy is returned.
+     */
+    public ReadOnlyTutorsPet getCurrentState() {
+        return tutorsPetStateList.get(statePointer).stateSnapshot;
+    }
+
     /**
      * Returns a summary of all {@code Command}s currently recorded by this {@code VersionedTutorsPet}.
      */
@@ -14,6 +14,15 @@ public class Attendance {
     public static final int UPPER_BOUND = 100;
     public static final String MESSAGE_CONSTRAINTS =
             String.format("Participation scores must be a whole number between %d to %d.", LOWER_BOUND, UPPER_BOUND);
+
+    private static final Attendance[] CACHE = new Attendance[UPPER_BOUND + 1];
+
+    static {
+        for (int score = LOWER_BOUND; score <= UPPER_BOUND; score++) {
+            CACHE[score] = new Attendance(score);
+        }
+    }
+
     private final int participationScore;
 
     /**
@@ -26,6 +35,16 @@ public class Attendance {
         this.participationScore = participationScore;
     }
 
+    /**
+     * Returns an {@code Attendance} with the given participation score, which is checked to be valid.
+     * Instances are shared between calls with the same score.
+     */
+    public static Attendance valueOf(int participationScore) {
+        checkArgument(isValidParticipationScore(participationScore), MESSAGE_CONSTRAINTS);
+
+        return CACHE[participationScore];
+    }
+
     /**
      * Returns true if the given score is an integer between 0 and 100.
      */
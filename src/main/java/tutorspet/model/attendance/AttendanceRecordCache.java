@@ -0,0 +1,67 @@
+package tutorspet.model.attendance;
+
+import static tutorspet.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the attendance records of lazily loaded {@code AttendanceRecordList}s.
+ * Once the cache is full, the records of the least recently used list are dropped, to be loaded again
+ * the next time that list is accessed.
+ */
+public class AttendanceRecordCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final String MESSAGE_CONSTRAINTS = "Attendance record cache capacity must be positive.";
+
+    private final int capacity;
+    private final Map<Object, List<AttendanceRecord>> cachedRecords;
+
+    /**
+     * Constructs an {@code AttendanceRecordCache} that holds the records of at most {@code capacity} lists.
+     */
+    public AttendanceRecordCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+
+        this.capacity = capacity;
+        this.cachedRecords = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, List<AttendanceRecord>> eldest) {
+                return size() > AttendanceRecordCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the records cached under {@code key}, loading them with {@code loader} if they are not cached.
+     */
+    synchronized List<AttendanceRecord> get(Object key, Supplier<List<AttendanceRecord>> loader) {
+        List<AttendanceRecord> records = cachedRecords.get(key);
+        if (records == null) {
+            records = List.copyOf(loader.get());
+            cachedRecords.put(key, records);
+        }
+        return records;
+    }
+
+    /**
+     * Returns true if records are cached under {@code key}, without marking them as used.
+     */
+    synchronized boolean contains(Object key) {
+        return cachedRecords.containsKey(key);
+    }
+
+    /**
+     * Returns the number of lists whose records are currently cached.
+     */
+    public synchronized int size() {
+        return cachedRecords.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -1,13 +1,18 @@
 package tutorspet.model.attendance;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import tutorspet.model.attendance.PackedAttendanceMap.StudentIndex;
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 import tutorspet.model.attendance.exceptions.InvalidWeekException;
 import tutorspet.model.lesson.NumberOfOccurrences;
@@ -15,19 +20,20 @@ import tutorspet.model.student.Student;
 
 /**
  * Represents the attendance records of a {@code Lesson}.
- * Contains an ordered list of all attendance records.
+ * Contains an ordered list of all attendance records, which may be loaded lazily on first access.
  * Guarantees: immutable.
  */
 public class AttendanceRecordList {
 
-    private final List<AttendanceRecord> recordList;
+    private final int numberOfRecords;
+    private final RecordSource source;
 
     /**
      * Constructor method.
      * Each element in the list is initialized to an empty {@link AttendanceRecord}.
      */
     public AttendanceRecordList(NumberOfOccurrences numberOfOccurrences) {
-        this.recordList = Collections.nCopies(numberOfOccurrences.getNumberOfOccurrences(), new AttendanceRecord());
+        this(Collections.nCopies(numberOfOccurrences.getNumberOfOccurrences(), new AttendanceRecord()));
     }
 
     /**
@@ -37,19 +43,64 @@ public class AttendanceRecordList {
     public AttendanceRecordList(List<AttendanceRecord> recordList) {
         requireNonNull(recordList);
 
-        int size = recordList.size();
-        this.recordList = Arrays.asList(recordList.toArray(new AttendanceRecord[size]));
+        List<AttendanceRecord> records = Arrays.asList(recordList.toArray(new AttendanceRecord[0]));
+        this.numberOfRecords = records.size();
+        this.source = () -> records;
+    }
+
+    /**
+     * Overloaded constructor method.
+     * The {@code numberOfRecords} records are loaded with {@code loader} when they are first accessed,
+     * and are kept in {@code cache} until they are dropped from it.
+     * {@code loader} must return equal records every time it is called.
+     */
+    public AttendanceRecordList(int numberOfRecords, Supplier<List<AttendanceRecord>> loader,
+                                AttendanceRecordCache cache) {
+        requireAllNonNull(loader, cache);
+
+        this.numberOfRecords = numberOfRecords;
+        this.source = new CachedSource(loader, cache);
+    }
+
+    /**
+     * Overloaded constructor method.
+     * The {@code numberOfRecords} records are read from {@code scores}, which holds the packed scores of each
+     * record in turn, when they are first accessed, and are kept in {@code cache} until they are dropped from it.
+     * Lists that are not loaded yet are compared by their packed scores.
+     * The contents of {@code scores} must not change afterwards.
+     *
+     * @see PackedAttendanceMap
+     */
+    public AttendanceRecordList(int numberOfRecords, StudentIndex studentIndex, ByteBuffer scores,
+                                AttendanceRecordCache cache) {
+        requireAllNonNull(studentIndex, scores, cache);
+
+        this.numberOfRecords = numberOfRecords;
+        this.source = new PackedSource(numberOfRecords, studentIndex, scores.slice(), cache);
+    }
+
+    private List<AttendanceRecord> getRecords() {
+        List<AttendanceRecord> records = source.getRecords();
+        assert records.size() == numberOfRecords;
+        return records;
+    }
+
+    /**
+     * Returns the number of attendance records, without loading them.
+     */
+    public int size() {
+        return numberOfRecords;
     }
 
     /**
      * Returns true if week number is less than the total number of occurrences.
      */
     public boolean isWeekContained(Week week) {
-        return week.getZeroBasedWeekIndex() < recordList.size();
+        return week.getZeroBasedWeekIndex() < numberOfRecords;
     }
 
     public List<AttendanceRecord> getAttendanceRecordList() {
-        return Collections.unmodifiableList(recordList);
+        return Collections.unmodifiableList(getRecords());
     }
 
     /**
@@ -64,7 +115,7 @@ public class AttendanceRecordList {
         }
 
         UUID studentUuid = student.getUuid();
-        return recordList.get(week.getZeroBasedWeekIndex()).getAttendance(studentUuid);
+        return getRecords().get(week.getZeroBasedWeekIndex()).getAttendance(studentUuid);
     }
 
     /**
@@ -75,7 +126,7 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        return recordList.get(week.getZeroBasedWeekIndex());
+        return getRecords().get(week.getZeroBasedWeekIndex());
     }
 
     /**
@@ -89,20 +140,135 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        AttendanceRecord targetAttendanceWeek = recordList.get(week.getZeroBasedWeekIndex());
+        AttendanceRecord targetAttendanceWeek = getRecords().get(week.getZeroBasedWeekIndex());
         UUID targetStudentUuid = student.getUuid();
         return targetAttendanceWeek.hasAttendance(targetStudentUuid);
     }
 
+    /**
+     * Returns true if both lists have the same records.
+     * Lists that are both packed and not loaded are compared by their packed scores, so that comparing
+     * lessons does not load their records.
+     */
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof AttendanceRecordList // instanceof handles nulls
-                && ((AttendanceRecordList) other).recordList.equals(recordList));
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceRecordList)) {
+            return false;
+        }
+
+        AttendanceRecordList otherList = (AttendanceRecordList) other;
+        if (numberOfRecords != otherList.numberOfRecords) {
+            return false;
+        }
+        if (source instanceof PackedSource && otherList.source instanceof PackedSource) {
+            PackedSource packedSource = (PackedSource) source;
+            PackedSource otherPackedSource = (PackedSource) otherList.source;
+            if (packedSource.isComparableUnloaded(otherPackedSource)) {
+                return packedSource.hasSameScores(otherPackedSource);
+            }
+        }
+        return otherList.getRecords().equals(getRecords());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(recordList);
+        return Objects.hash(source.getRecordsWithoutCaching());
+    }
+
+    /**
+     * Holds the records of an {@code AttendanceRecordList}, or loads them on demand.
+     */
+    @FunctionalInterface
+    private interface RecordSource {
+
+        /**
+         * Returns the records, loading them if they are not loaded.
+         */
+        List<AttendanceRecord> getRecords();
+
+        /**
+         * Returns the records like {@link #getRecords()}, but without keeping them if they had to be loaded,
+         * so that hashing a list does not fill the cache.
+         */
+        default List<AttendanceRecord> getRecordsWithoutCaching() {
+            return getRecords();
+        }
+    }
+
+    /**
+     * Loads the records with a loader, and keeps them in an {@code AttendanceRecordCache}.
+     */
+    private static class CachedSource implements RecordSource {
+
+        private final Supplier<List<AttendanceRecord>> loader;
+        private final AttendanceRecordCache cache;
+
+        private CachedSource(Supplier<List<AttendanceRecord>> loader, AttendanceRecordCache cache) {
+            this.loader = loader;
+            this.cache = cache;
+        }
+
+        @Override
+        public List<AttendanceRecord> getRecords() {
+            return cache.get(this, loader);
+        }
+
+        @Override
+        public List<AttendanceRecord> getRecordsWithoutCaching() {
+            return isLoaded() ? getRecords() : loader.get();
+        }
+
+        boolean isLoaded() {
+            return cache.contains(this);
+        }
+    }
+
+    /**
+     * Reads the records from a buffer of packed scores, holding the scores of each record in turn.
+     */
+    private static class PackedSource extends CachedSource {
+
+        private final StudentIndex studentIndex;
+        private final ByteBuffer scores;
+
+        /**
+         * Constructs a {@code PackedSource} of the scores from index 0 of {@code scores}, which is not copied.
+         */
+        private PackedSource(int numberOfRecords, StudentIndex studentIndex, ByteBuffer scores,
+                             AttendanceRecordCache cache) {
+            super(() -> unpack(numberOfRecords, studentIndex, scores), cache);
+            this.studentIndex = studentIndex;
+            this.scores = scores;
+        }
+
+        /**
+         * Returns the {@code numberOfRecords} records whose packed scores are in {@code scores}.
+         */
+        private static List<AttendanceRecord> unpack(int numberOfRecords, StudentIndex studentIndex,
+                                                     ByteBuffer scores) {
+            int studentCount = studentIndex.size();
+            List<AttendanceRecord> records = new ArrayList<>();
+            for (int i = 0; i < numberOfRecords; i++) {
+                ByteBuffer recordScores = scores.duplicate().position(i * studentCount).limit((i + 1) * studentCount);
+                records.add(new AttendanceRecord(new PackedAttendanceMap(studentIndex, recordScores)));
+            }
+            return records;
+        }
+
+        /**
+         * Returns true if neither source is loaded, and both index the same students, so that they can be
+         * compared by their packed scores.
+         */
+        boolean isComparableUnloaded(PackedSource other) {
+            return !isLoaded() && !other.isLoaded() && studentIndex.equals(other.studentIndex);
+        }
+
+        boolean hasSameScores(PackedSource other) {
+            return scores.equals(other.scores);
+        }
     }
 }
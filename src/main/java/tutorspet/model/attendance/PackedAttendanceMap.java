@@ -0,0 +1,206 @@
+package tutorspet.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An immutable map of the {@code Attendance} of students in a single lesson occurrence,
+ * read directly from a buffer that holds one score byte per student.
+ * The buffer may be memory-mapped, in which case the scores are never copied onto the heap.
+ * Guarantees: immutable; every score in the buffer is valid or {@link #NO_ATTENDANCE}.
+ */
+public class PackedAttendanceMap extends AbstractMap<UUID, Attendance> {
+
+    /** Score byte of a student without an {@code Attendance}. */
+    public static final int NO_ATTENDANCE = 0xFF;
+
+    public static final String MESSAGE_CONSTRAINTS = "Packed attendance must have one valid score per student.";
+
+    private final StudentIndex studentIndex;
+    private final ByteBuffer scores;
+    private final int size;
+
+    /**
+     * Constructs a {@code PackedAttendanceMap} with the score of the i-th student of {@code studentIndex}
+     * at index i of {@code scores}. The contents of {@code scores} must not change afterwards.
+     */
+    public PackedAttendanceMap(StudentIndex studentIndex, ByteBuffer scores) {
+        requireNonNull(studentIndex);
+        requireNonNull(scores);
+        checkArgument(scores.remaining() == studentIndex.size(), MESSAGE_CONSTRAINTS);
+
+        this.studentIndex = studentIndex;
+        this.scores = scores.slice();
+
+        int size = 0;
+        for (int i = 0; i < this.scores.limit(); i++) {
+            int score = getScore(i);
+            checkArgument(score == NO_ATTENDANCE || Attendance.isValidParticipationScore(score), MESSAGE_CONSTRAINTS);
+            if (score != NO_ATTENDANCE) {
+                size++;
+            }
+        }
+        this.size = size;
+    }
+
+    private int getScore(int index) {
+        return scores.get(index) & 0xFF;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Attendance get(Object key) {
+        Integer index = studentIndex.indexOf(key);
+        if (index == null) {
+            return null;
+        }
+
+        int score = getScore(index);
+        return score == NO_ATTENDANCE ? null : Attendance.valueOf(score);
+    }
+
+    /**
+     * Returns true if {@code other} is a map with the same attendances.
+     * Maps over equal {@code StudentIndex}es are compared by their scores.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof PackedAttendanceMap
+                && studentIndex.equals(((PackedAttendanceMap) other).studentIndex)) {
+            return scores.equals(((PackedAttendanceMap) other).scores);
+        }
+        return super.equals(other);
+    }
+
+    /**
+     * Returns the same hash code as any other map with the same attendances, without creating its entries.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < scores.limit(); i++) {
+            int score = getScore(i);
+            if (score != NO_ATTENDANCE) {
+                hashCode += studentIndex.get(i).hashCode() ^ Attendance.valueOf(score).hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public Set<Entry<UUID, Attendance>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<UUID, Attendance>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates over the students with an {@code Attendance}, in the order of the {@code StudentIndex}.
+     */
+    private class EntryIterator implements Iterator<Entry<UUID, Attendance>> {
+        private int nextIndex = findNext(0);
+
+        private int findNext(int index) {
+            while (index < scores.limit() && getScore(index) == NO_ATTENDANCE) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < scores.limit();
+        }
+
+        @Override
+        public Entry<UUID, Attendance> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Entry<UUID, Attendance> entry = new SimpleImmutableEntry<>(studentIndex.get(nextIndex),
+                    Attendance.valueOf(getScore(nextIndex)));
+            nextIndex = findNext(nextIndex + 1);
+            return entry;
+        }
+    }
+
+    /**
+     * An ordered list of student {@code UUID}s that can be shared by the {@code PackedAttendanceMap}s
+     * of every occurrence of the lessons of a class.
+     * Guarantees: immutable.
+     */
+    public static class StudentIndex {
+
+        private final List<UUID> studentUuids;
+        private final Map<UUID, Integer> indexes = new HashMap<>();
+
+        /**
+         * Constructs a {@code StudentIndex} of the distinct {@code studentUuids}.
+         */
+        public StudentIndex(List<UUID> studentUuids) {
+            requireNonNull(studentUuids);
+
+            this.studentUuids = List.copyOf(studentUuids);
+            for (int i = 0; i < this.studentUuids.size(); i++) {
+                indexes.put(this.studentUuids.get(i), i);
+            }
+            checkArgument(indexes.size() == this.studentUuids.size(), MESSAGE_CONSTRAINTS);
+        }
+
+        public int size() {
+            return studentUuids.size();
+        }
+
+        public UUID get(int index) {
+            return studentUuids.get(index);
+        }
+
+        /**
+         * Returns the index of {@code studentUuid}, or null if it is not in this index.
+         */
+        public Integer indexOf(Object studentUuid) {
+            return indexes.get(studentUuid);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StudentIndex // instanceof handles nulls
+                    && studentUuids.equals(((StudentIndex) other).studentUuids));
+        }
+
+        @Override
+        public int hashCode() {
+            return studentUuids.hashCode();
+        }
+    }
+}
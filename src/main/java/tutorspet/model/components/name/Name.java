@@ -2,12 +2,20 @@ package tutorspet.model.components.name;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.StringUtil.foldCase;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.matches;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
 
 /**
  * Represents a Student's or Class's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Name {
+public class Name implements Comparable<Name> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank.";
@@ -17,9 +25,14 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final CharacterClass ALPHANUMERICS_AND_SPACES = ALPHANUMERICS.with(CharacterClass.of(" "));
 
     public final String fullName;
 
+    // Derived from fullName once, so that searching and sorting names does not need to process it again
+    private final String[] words;
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,13 +43,62 @@ public class Name {
 
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        words = splitIntoWords(foldCase(name));
+        sortKey = String.join(" ", words);
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns the words of {@code name}, which are separated by one or more spaces.
+     */
+    private static String[] splitIntoWords(String name) {
+        List<String> words = new ArrayList<>();
+        int wordStart = 0;
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || name.charAt(i) == ' ') {
+                if (i > wordStart) {
+                    words.add(name.substring(wordStart, i));
+                }
+                wordStart = i + 1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns true if a given string is a valid name, i.e. if it matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matches(test, ALPHANUMERICS, ALPHANUMERICS_AND_SPACES);
+    }
+
+    /**
+     * Returns true if this name has a word equal to {@code foldedWord}, ignoring case.
+     *
+     * @param foldedWord a single word, with its case folded by {@link tutorspet.commons.util.StringUtil#foldCase}.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        for (String word : words) {
+            if (word.equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key that names are sorted by, which is the name in folded case, with single spaces between words.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Compares names by their sort keys, then by their full names so that the order is consistent with equals.
+     */
+    @Override
+    public int compareTo(Name other) {
+        int result = sortKey.compareTo(other.sortKey);
+        return result != 0 ? result : fullName.compareTo(other.fullName);
     }
 
     @Override
@@ -1,25 +1,44 @@
 package tutorspet.model.components.name;
 
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.StringUtil.foldCase;
+
 import java.util.List;
 import java.util.function.Predicate;
 
-import tutorspet.commons.util.StringUtil;
-
 /**
  * Tests that a {@code HasName} object's {@code Name} matches any of the keywords given.
+ * Keywords are matched against whole words of the name, ignoring case.
  */
 public class NameContainsKeywordsPredicate<T extends HasName> implements Predicate<T> {
 
     private final List<String> keywords;
+    // The keywords with their case folded, which are compared with the folded words cached by each name
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords}, each of which must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            String keyword = keywords.get(i).trim();
+            checkArgument(!keyword.isEmpty(), "Keywords cannot be empty");
+            checkArgument(keyword.split("\\s+").length == 1, "Keywords should be single words");
+            foldedKeywords[i] = foldCase(keyword);
+        }
     }
 
     @Override
     public boolean test(T t) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(t.getName().fullName, keyword));
+        Name name = t.getName();
+        for (String foldedKeyword : foldedKeywords) {
+            if (name.containsFoldedWord(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
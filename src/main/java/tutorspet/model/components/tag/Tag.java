@@ -2,6 +2,10 @@ package tutorspet.model.components.tag;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.matches;
+
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
 
 /**
  * Represents a Tag in the application.
@@ -12,6 +16,7 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tag names should only contain alphanumeric characters and spaces,"
             + " and it should not be blank.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final CharacterClass ALPHANUMERICS_AND_SPACES = ALPHANUMERICS.with(CharacterClass.of(" "));
 
     public final String tagName;
 
@@ -28,10 +33,10 @@ public class Tag {
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Returns true if a given string is a valid tag name, i.e. if it matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matches(test, ALPHANUMERICS, ALPHANUMERICS_AND_SPACES);
     }
 
     @Override
@@ -2,6 +2,11 @@ package tutorspet.model.lesson;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.WORD_CHARACTERS;
+import static tutorspet.commons.util.ValidationUtil.matches;
+
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
 
 /**
  * Represents the Venue of a Lesson.
@@ -14,6 +19,8 @@ public class Venue {
             + " these special characters, excluding the parentheses, (" + SPECIAL_CHARACTERS + ")"
             + " and should not be blank.";
     public static final String VALIDATION_REGEX = "[\\w][\\w-.~%:/?#\\[\\]@!$&'()*+,;= ]*";
+    private static final CharacterClass VENUE_CHARACTERS =
+            ALPHANUMERICS.with(CharacterClass.of(SPECIAL_CHARACTERS + " "));
 
     public final String venue;
 
@@ -30,10 +37,10 @@ public class Venue {
     }
 
     /**
-     * Returns true if the given String is a valid venue.
+     * Returns true if the given String is a valid venue, i.e. if it matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidVenue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matches(test, WORD_CHARACTERS, VENUE_CHARACTERS);
     }
 
     @Override
@@ -5,12 +5,15 @@ import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.util.ModuleClassUtil.deleteAllStudentsFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.deleteStudentFromModuleClass;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorspet.model.components.name.Name;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
 import tutorspet.model.student.Student;
@@ -175,11 +178,10 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
      * Returns true if {@code moduleClasses} contains only unique {@code ModuleClass}.
      */
     private boolean moduleClassesAreUnique(List<ModuleClass> moduleClasses) {
-        for (int i = 0; i < moduleClasses.size() - 1; i++) {
-            for (int j = i + 1; j < moduleClasses.size(); j++) {
-                if (moduleClasses.get(i).isSameModuleClass(moduleClasses.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (ModuleClass moduleClass : moduleClasses) {
+            if (!names.add(moduleClass.getName())) {
+                return false;
             }
         }
         return true;
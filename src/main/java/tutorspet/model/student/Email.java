@@ -2,6 +2,10 @@ package tutorspet.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.WORD_CHARACTERS;
+
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
 
 /**
  * Represents a Student's email.
@@ -26,6 +30,10 @@ public class Email {
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
+    private static final CharacterClass LOCAL_PART_CHARACTERS =
+            WORD_CHARACTERS.with(CharacterClass.of(SPECIAL_CHARACTERS));
+    private static final CharacterClass DOMAIN_MIDDLE_CHARACTERS = ALPHANUMERICS.with(CharacterClass.of(".-"));
+    private static final int MIN_DOMAIN_LENGTH = 2;
 
     public final String value;
 
@@ -42,10 +50,21 @@ public class Email {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid email, i.e. if it matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        requireNonNull(test);
+
+        // The local-part cannot contain '@', so the first '@' is the one before the domain
+        int atIndex = test.indexOf('@');
+        int domainIndex = atIndex + 1;
+        int lastIndex = test.length() - 1;
+        return atIndex > 0
+                && LOCAL_PART_CHARACTERS.containsAll(test, 0, atIndex)
+                && test.length() - domainIndex >= MIN_DOMAIN_LENGTH
+                && ALPHANUMERICS.contains(test.charAt(domainIndex))
+                && DOMAIN_MIDDLE_CHARACTERS.containsAll(test, domainIndex + 1, lastIndex)
+                && ALPHANUMERICS.contains(test.charAt(lastIndex));
     }
 
     @Override
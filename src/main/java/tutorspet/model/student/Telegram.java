@@ -2,6 +2,9 @@ package tutorspet.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.ValidationUtil.LETTERS;
+import static tutorspet.commons.util.ValidationUtil.WORD_CHARACTERS;
+import static tutorspet.commons.util.ValidationUtil.matches;
 
 /**
  * Represents a Student's telegram handle.
@@ -14,6 +17,9 @@ public class Telegram {
                     + "should be at least 5 characters long but not exceeding 32 characters,\n"
                     + " and should not start with a number.";
     public static final String VALIDATION_REGEX = "[a-zA-Z][a-zA-Z0-9_]{4,31}";
+    private static final int MIN_LENGTH = 5;
+    private static final int MAX_LENGTH = 32;
+
     public final String value;
 
     /**
@@ -29,10 +35,13 @@ public class Telegram {
     }
 
     /**
-     * Returns true if a given string is a valid telegram handle.
+     * Returns true if a given string is a valid telegram handle, i.e. if it matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        requireNonNull(test);
+
+        return test.length() >= MIN_LENGTH && test.length() <= MAX_LENGTH
+                && matches(test, LETTERS, WORD_CHARACTERS);
     }
 
     @Override
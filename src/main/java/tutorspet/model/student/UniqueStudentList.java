@@ -3,8 +3,11 @@ package tutorspet.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -69,6 +72,23 @@ public class UniqueStudentList implements Iterable<Student> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all students in {@code toAdd} to the list.
+     * The students must not already exist in the list, and must not contain duplicate students.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+
+        List<Student> combined = new ArrayList<>(internalList.size() + toAdd.size());
+        combined.addAll(internalList);
+        combined.addAll(toAdd);
+        if (!studentsAreUnique(combined)) {
+            throw new DuplicateStudentException();
+        }
+
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -147,13 +167,15 @@ public class UniqueStudentList implements Iterable<Student> {
 
     /**
      * Returns true if {@code students} contains only unique students.
+     * As students are the same if they share a telegram or an email, this holds if no two students
+     * share either.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<Telegram> telegrams = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Student student : students) {
+            if (!telegrams.add(student.getTelegram()) || !emails.add(student.getEmail())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,394 @@
+package tutorspet.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_MISSING_LINK;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.logic.Logic;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.JsonAdaptedLesson;
+import tutorspet.storage.JsonAdaptedModuleClass;
+import tutorspet.storage.JsonAdaptedStudent;
+
+/**
+ * Serves an HTTP API over {@code Logic} on the loopback address, so that scripts and dashboards can use the data.
+ * <p>
+ * Every request must carry the random token of the server in the {@code TOKEN_HEADER}, so that other users and
+ * programs on the same computer cannot use it without being given the token. Requests that name a host other than
+ * the loopback address, or that come from a web page on another origin, are rejected, so that web pages cannot
+ * reach the server through the browser by cross-origin requests or DNS rebinding.
+ * Commands must be posted as JSON, which browsers do not send across origins without asking the server first.
+ * <p>
+ * Commands are executed one at a time by a single writer thread. Reads are served concurrently by a pool of reader
+ * threads from the latest immutable snapshot of the data, so reads never wait for commands and never see a command
+ * half done.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String STUDENTS_PATH = "/api/students";
+    public static final String CLASSES_PATH = "/api/classes";
+    public static final String LESSONS_PATH = "/api/lessons";
+    public static final String STATISTICS_PATH = "/api/statistics";
+    public static final String CLASS_PARAMETER = "class";
+    public static final String STUDENT_PARAMETER = "student";
+    public static final String TOKEN_HEADER = "X-TutorsPet-Token";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    public static final String COMMAND_FIELD = "command";
+    public static final String RESULT_FIELD = "feedbackToUser";
+    public static final String ERROR_FIELD = "error";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed on %2$s.";
+    public static final String MESSAGE_MISSING_PARAMETER = "The %1$s parameter is missing.";
+    public static final String MESSAGE_CLASS_NOT_FOUND = "There is no class named %1$s.";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "There is no student with UUID %1$s.";
+    public static final String MESSAGE_SERVER_ERROR = "The request could not be completed.";
+    public static final String MESSAGE_INVALID_TOKEN = "The " + TOKEN_HEADER + " header is missing or invalid.";
+    public static final String MESSAGE_FOREIGN_REQUEST = "Requests must be made to and from the loopback address.";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "The request body must be " + JSON_CONTENT_TYPE + ".";
+    public static final String MESSAGE_INVALID_COMMAND_BODY = "The request body must be a JSON object with a "
+            + COMMAND_FIELD + " string.";
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int STATUS_SERVER_ERROR = 500;
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final String token;
+    private final HttpServer httpServer;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+    private final CountDownLatch exitLatch = new CountDownLatch(1);
+
+    /**
+     * Creates an {@code ApiServer} over {@code logic} on {@code port} of the loopback address.
+     * A port of 0 chooses any free port. The server does not accept requests until it is started.
+     * A new token is generated for every server.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+
+        this.logic = logic;
+        this.token = generateToken();
+        readers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        writer = Executors.newSingleThreadExecutor();
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.setExecutor(readers);
+        httpServer.createContext(COMMANDS_PATH, exchange -> handle(exchange, POST, this::executeCommand));
+        httpServer.createContext(STUDENTS_PATH, exchange -> handle(exchange, GET, this::getStudents));
+        httpServer.createContext(CLASSES_PATH, exchange -> handle(exchange, GET, this::getModuleClasses));
+        httpServer.createContext(LESSONS_PATH, exchange -> handle(exchange, GET, this::getLessons));
+        httpServer.createContext(STATISTICS_PATH, exchange -> handle(exchange, GET, this::getStatistics));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Serving the HTTP API on " + httpServer.getAddress());
+    }
+
+    /**
+     * Returns the port that the server is bound to.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that every request must carry in the {@code TOKEN_HEADER}.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Waits until an exit command is executed through the API.
+     */
+    public void awaitExit() throws InterruptedException {
+        exitLatch.await();
+    }
+
+    /**
+     * Stops accepting requests, and stops once the requests being handled are done.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        readers.shutdown();
+        writer.shutdown();
+        logger.info("Stopped serving the HTTP API");
+    }
+
+    /**
+     * Executes the command in the {@code COMMAND_FIELD} of the JSON body of the request on the writer thread, and
+     * returns its result.
+     */
+    private Object executeCommand(HttpExchange exchange) throws RequestException, IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase(JSON_CONTENT_TYPE)) {
+            throw new RequestException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+
+        String commandText = readCommandText(exchange);
+        CommandResult result;
+        try {
+            result = writer.submit(() -> logic.execute(commandText)).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RequestException(STATUS_SERVER_ERROR, MESSAGE_SERVER_ERROR);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof CommandException || ee.getCause() instanceof ParseException) {
+                throw new RequestException(STATUS_BAD_REQUEST, ee.getCause().getMessage());
+            }
+            throw new IOException(ee.getCause());
+        }
+
+        if (result.isExit()) {
+            exitLatch.countDown();
+        }
+        return Map.of(RESULT_FIELD, result.getFeedbackToUser());
+    }
+
+    /**
+     * Returns the trimmed {@code COMMAND_FIELD} of the JSON body of the request.
+     */
+    private static String readCommandText(HttpExchange exchange) throws RequestException {
+        Object command;
+        try {
+            command = JsonUtil.fromJsonString(new String(exchange.getRequestBody().readAllBytes(), UTF_8), Map.class)
+                    .get(COMMAND_FIELD);
+        } catch (IOException ioe) {
+            throw new RequestException(STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+        }
+        if (!(command instanceof String)) {
+            throw new RequestException(STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+        }
+        return ((String) command).trim();
+    }
+
+    private Object getStudents(HttpExchange exchange) {
+        return logic.getSnapshot().getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList());
+    }
+
+    private Object getModuleClasses(HttpExchange exchange) {
+        return logic.getSnapshot().getModuleClassList().stream()
+                .map(JsonAdaptedModuleClass::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the lessons of the class named by the {@code CLASS_PARAMETER}.
+     */
+    private Object getLessons(HttpExchange exchange) throws RequestException {
+        Map<String, String> parameters = parseQuery(exchange);
+        ModuleClass moduleClass = findModuleClass(logic.getSnapshot(), getParameter(parameters, CLASS_PARAMETER));
+        return moduleClass.getLessons().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the attendance summary of the student with the UUID in the {@code STUDENT_PARAMETER}, in the class
+     * named by the {@code CLASS_PARAMETER}.
+     */
+    private Object getStatistics(HttpExchange exchange) throws RequestException {
+        Map<String, String> parameters = parseQuery(exchange);
+        // Both are looked up in the same snapshot, even if a command is executed in between
+        ReadOnlyTutorsPet tutorsPet = logic.getSnapshot();
+        ModuleClass moduleClass = findModuleClass(tutorsPet, getParameter(parameters, CLASS_PARAMETER));
+        Student student = findStudent(tutorsPet, getParameter(parameters, STUDENT_PARAMETER));
+        if (!moduleClass.hasStudentUuid(student.getUuid())) {
+            throw new RequestException(STATUS_NOT_FOUND, MESSAGE_MISSING_LINK);
+        }
+        return new JsonAdaptedStatistics(student, moduleClass);
+    }
+
+    private static ModuleClass findModuleClass(ReadOnlyTutorsPet tutorsPet, String name) throws RequestException {
+        return tutorsPet.getModuleClassList().stream()
+                .filter(moduleClass -> moduleClass.getName().fullName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new RequestException(STATUS_NOT_FOUND,
+                        String.format(MESSAGE_CLASS_NOT_FOUND, name)));
+    }
+
+    private static Student findStudent(ReadOnlyTutorsPet tutorsPet, String uuid) throws RequestException {
+        return tutorsPet.getStudentList().stream()
+                .filter(student -> student.getUuid().toString().equals(uuid))
+                .findFirst()
+                .orElseThrow(() -> new RequestException(STATUS_NOT_FOUND,
+                        String.format(MESSAGE_STUDENT_NOT_FOUND, uuid)));
+    }
+
+    /**
+     * Returns the decoded parameters in the query string of the request.
+     */
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            if (separatorIndex > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separatorIndex), UTF_8),
+                        URLDecoder.decode(parameter.substring(separatorIndex + 1), UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static String getParameter(Map<String, String> parameters, String name) throws RequestException {
+        String value = parameters.get(name);
+        if (value == null) {
+            throw new RequestException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_PARAMETER, name));
+        }
+        return value;
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} if it is made to and from the loopback address, carries the token
+     * and uses {@code method}, and sends the result as JSON.
+     * Errors are sent as JSON with an {@code ERROR_FIELD}.
+     */
+    private void handle(HttpExchange exchange, String method, RequestHandler handler) throws IOException {
+        int status;
+        Object body;
+        try {
+            checkOrigin(exchange);
+            checkToken(exchange);
+            if (!exchange.getRequestMethod().equals(method)) {
+                throw new RequestException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+            }
+            body = handler.handle(exchange);
+            status = STATUS_OK;
+        } catch (RequestException re) {
+            status = re.status;
+            body = Map.of(ERROR_FIELD, re.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not handle " + exchange.getRequestURI() + ": " + e);
+            status = STATUS_SERVER_ERROR;
+            body = Map.of(ERROR_FIELD, MESSAGE_SERVER_ERROR);
+        }
+
+        byte[] bytes = JsonUtil.toCompactJsonString(body).getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * Checks that the request names the loopback address as its host, and that it does not come from a web page on
+     * another host.
+     */
+    private static void checkOrigin(HttpExchange exchange) throws RequestException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !isLoopbackHost(host.replaceFirst(":\\d+$", ""))) {
+            throw new RequestException(STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+        }
+
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        if (origin == null) {
+            return;
+        }
+        try {
+            if (!isLoopbackHost(new URI(origin).getHost())) {
+                throw new RequestException(STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+            }
+        } catch (URISyntaxException use) {
+            throw new RequestException(STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+        }
+    }
+
+    private static boolean isLoopbackHost(String host) {
+        return host != null && LOOPBACK_HOSTS.contains(host.toLowerCase());
+    }
+
+    /**
+     * Checks that the request carries the token of the server.
+     * The token is compared in constant time, so that its characters cannot be guessed one at a time.
+     */
+    private void checkToken(HttpExchange exchange) throws RequestException {
+        String requestToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        if (requestToken == null || !MessageDigest.isEqual(requestToken.getBytes(UTF_8), token.getBytes(UTF_8))) {
+            throw new RequestException(STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+        }
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Handles a request, and returns the object to send as JSON in the response.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Object handle(HttpExchange exchange) throws RequestException, IOException;
+    }
+
+    /**
+     * Signals that a request cannot be completed, with the HTTP status to respond with.
+     */
+    private static class RequestException extends Exception {
+
+        private final int status;
+
+        private RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package tutorspet.server;
+
+import static tutorspet.logic.util.LessonUtil.getAbsentWeekFromLesson;
+import static tutorspet.logic.util.LessonUtil.getParticipationScoreFromLesson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Jackson-friendly summary of a {@link Student}'s attendance in a {@link ModuleClass}, as shown by the
+ * {@code stats} command.
+ */
+class JsonAdaptedStatistics {
+
+    private final String studentUuid;
+    private final String studentName;
+    private final String className;
+    // Null if the student has not attended any lesson
+    private final Double averageParticipation;
+    private final List<LessonStatistics> lessons = new ArrayList<>();
+
+    /**
+     * Summarizes {@code student}'s attendance in {@code moduleClass}, which the student must be in.
+     */
+    JsonAdaptedStatistics(Student student, ModuleClass moduleClass) {
+        assert moduleClass.hasStudentUuid(student.getUuid());
+
+        studentUuid = student.getUuid().toString();
+        studentName = student.getName().fullName;
+        className = moduleClass.getName().fullName;
+
+        int totalScore = 0;
+        int attendedCount = 0;
+        for (Lesson lesson : moduleClass.getLessons()) {
+            List<Integer> scores = getParticipationScoreFromLesson(lesson, student);
+            for (int score : scores) {
+                totalScore += score;
+                attendedCount++;
+            }
+            lessons.add(new LessonStatistics(lesson.printLesson(), scores, getAbsentWeekFromLesson(lesson, student)));
+        }
+        averageParticipation = attendedCount == 0 ? null : (double) totalScore / attendedCount;
+    }
+
+    /**
+     * Jackson-friendly summary of the attendance in one lesson.
+     */
+    private static class LessonStatistics {
+
+        private final String lesson;
+        private final List<Integer> participationScores;
+        private final List<Integer> absentWeeks;
+
+        private LessonStatistics(String lesson, List<Integer> participationScores, List<Integer> absentWeeks) {
+            this.lesson = lesson;
+            this.participationScores = participationScores;
+            this.absentWeeks = absentWeeks;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package tutorspet.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+
+/**
+ * Represents a storage for backups of TutorsPet.
+ */
+public interface BackupStorage {
+
+    /**
+     * Returns the directory the backups are kept in.
+     */
+    Path getBackupDirectoryPath();
+
+    /**
+     * Saves a backup of the given {@link ReadOnlyTutorsPet}, taken at {@code time}.
+     * If the data is unchanged since the latest backup, no backup is saved and the latest backup is used instead.
+     *
+     * @param tutorsPet cannot be null.
+     * @return the id of the backup that holds the data.
+     * @throws IOException if there was any problem writing to the backups.
+     */
+    String backUpTutorsPet(ReadOnlyTutorsPet tutorsPet, Instant time) throws IOException;
+
+    /**
+     * Returns the ids of all backups, from the oldest to the latest.
+     *
+     * @throws IOException if there was any problem reading the backups.
+     */
+    List<String> getBackupIds() throws IOException;
+
+    /**
+     * Returns the TutorsPet data held by the backup with the given id.
+     * Returns {@code Optional.empty()} if there is no such backup.
+     *
+     * @throws DataConversionException if the backup is not in the expected format.
+     * @throws IOException if there was any problem when reading from the backups.
+     */
+    Optional<ReadOnlyTutorsPet> readBackup(String backupId) throws DataConversionException, IOException;
+
+    /**
+     * Deletes the backups that are no longer kept as of {@code time}, and the data that only they used.
+     *
+     * @throws IOException if there was any problem deleting from the backups.
+     */
+    void pruneBackups(Instant time) throws IOException;
+}
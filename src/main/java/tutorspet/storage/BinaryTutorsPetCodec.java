@@ -0,0 +1,410 @@
+package tutorspet.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordCache;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.PackedAttendanceMap;
+import tutorspet.model.attendance.PackedAttendanceMap.StudentIndex;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Reads and writes TutorsPet data in a compact, versioned binary format.
+ * <p>
+ * The format consists of a magic number and version, a table of the names, tags and venues used in the data,
+ * the students with their {@code UUID}s as two longs, and the classes. Class members are stored as indexes
+ * into the student list, and the attendance of each lesson occurrence as one score byte per class member.
+ * A CRC32 checksum of the preceding bytes ends the file.
+ */
+class BinaryTutorsPetCodec {
+
+    public static final int MAGIC_NUMBER = 0x54504554; // "TPET"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Data is not in the Tutor's Pet binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary data is corrupted.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary data contains an invalid reference.";
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns true if {@code header} starts with the magic number of this format.
+     */
+    public static boolean isBinaryFormat(byte[] header) {
+        return header.length >= Integer.BYTES
+                && ((header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16
+                | (header[2] & 0xFF) << 8 | (header[3] & 0xFF)) == MAGIC_NUMBER;
+    }
+
+    /**
+     * Writes {@code tutorsPet} to {@code out}. {@code out} is not closed.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void write(ReadOnlyTutorsPet tutorsPet, OutputStream out) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(out, BUFFER_SIZE), checksum));
+
+        Map<String, Integer> stringTable = buildStringTable(tutorsPet);
+        Map<UUID, Integer> studentIndexes = new HashMap<>();
+
+        data.writeInt(MAGIC_NUMBER);
+        data.writeShort(VERSION);
+
+        data.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            data.writeUTF(string);
+        }
+
+        List<Student> students = tutorsPet.getStudentList();
+        data.writeInt(students.size());
+        for (Student student : students) {
+            studentIndexes.put(student.getUuid(), studentIndexes.size());
+            data.writeLong(student.getUuid().getMostSignificantBits());
+            data.writeLong(student.getUuid().getLeastSignificantBits());
+            data.writeInt(stringTable.get(student.getName().fullName));
+            data.writeUTF(student.getTelegram().value);
+            data.writeUTF(student.getEmail().value);
+            data.writeInt(student.getTags().size());
+            for (Tag tag : student.getTags()) {
+                data.writeInt(stringTable.get(tag.tagName));
+            }
+        }
+
+        List<ModuleClass> moduleClasses = tutorsPet.getModuleClassList();
+        data.writeInt(moduleClasses.size());
+        for (ModuleClass moduleClass : moduleClasses) {
+            data.writeInt(stringTable.get(moduleClass.getName().fullName));
+
+            // Each member is mapped to its position in the class, which is where its scores are written
+            Map<UUID, Integer> memberIndexes = new HashMap<>();
+            data.writeInt(moduleClass.getStudentUuids().size());
+            for (UUID member : moduleClass.getStudentUuids()) {
+                Integer studentIndex = studentIndexes.get(member);
+                if (studentIndex == null) {
+                    throw new IOException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS);
+                }
+                memberIndexes.put(member, memberIndexes.size());
+                data.writeInt(studentIndex);
+            }
+
+            data.writeInt(moduleClass.getLessons().size());
+            for (Lesson lesson : moduleClass.getLessons()) {
+                writeLesson(data, lesson, memberIndexes, stringTable);
+            }
+        }
+
+        data.flush();
+        data.writeLong(checksum.getValue());
+        data.flush();
+    }
+
+    private static void writeLesson(DataOutputStream data, Lesson lesson, Map<UUID, Integer> memberIndexes,
+                                    Map<String, Integer> stringTable) throws IOException {
+        data.writeShort(toMinuteOfDay(lesson.getStartTime()));
+        data.writeShort(toMinuteOfDay(lesson.getEndTime()));
+        data.writeByte(lesson.getDay().ordinal());
+        data.writeByte(lesson.getNumberOfOccurrences().value);
+        data.writeInt(stringTable.get(lesson.getVenue().venue));
+
+        byte[] scores = new byte[memberIndexes.size()];
+        for (AttendanceRecord record : lesson.getAttendanceRecordList().getAttendanceRecordList()) {
+            Arrays.fill(scores, (byte) PackedAttendanceMap.NO_ATTENDANCE);
+            for (Map.Entry<UUID, Attendance> attendance : record.getAttendanceRecord().entrySet()) {
+                Integer memberIndex = memberIndexes.get(attendance.getKey());
+                if (memberIndex == null) {
+                    throw new IOException(JsonAdaptedModuleClass.MESSAGE_INVALID_STUDENTS_IN_LESSON);
+                }
+                scores[memberIndex] = (byte) attendance.getValue().getParticipationScore();
+            }
+            data.write(scores);
+        }
+    }
+
+    /**
+     * Returns the distinct names, tags and venues in {@code tutorsPet}, mapped to their index in the table.
+     */
+    private static Map<String, Integer> buildStringTable(ReadOnlyTutorsPet tutorsPet) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Student student : tutorsPet.getStudentList()) {
+            stringTable.putIfAbsent(student.getName().fullName, stringTable.size());
+            for (Tag tag : student.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            stringTable.putIfAbsent(moduleClass.getName().fullName, stringTable.size());
+            for (Lesson lesson : moduleClass.getLessons()) {
+                stringTable.putIfAbsent(lesson.getVenue().venue, stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    /**
+     * Reads TutorsPet data from {@code buffer}, from its position to its limit.
+     * The attendance of each lesson occurrence is read directly from {@code buffer} when it is looked up,
+     * so the contents of {@code buffer} must not change afterwards. The attendance records of a lesson
+     * are only created when they are first accessed, and are kept in {@code cache}.
+     *
+     * @throws IOException if the data is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet read(ByteBuffer buffer, AttendanceRecordCache cache)
+            throws IOException, IllegalValueException {
+        ByteBuffer contents = buffer.slice();
+        if (contents.remaining() < Integer.BYTES || contents.getInt(0) != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        if (contents.remaining() < Integer.BYTES + Short.BYTES + Long.BYTES) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        int checksumPosition = contents.limit() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(contents.duplicate().limit(checksumPosition));
+        if (contents.getLong(checksumPosition) != checksum.getValue()) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        BufferInput data = new BufferInput(contents.limit(checksumPosition));
+        data.readInt();
+        int version = data.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] stringTable = new String[readCount(data)];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = data.readUTF();
+        }
+
+        int studentCount = readCount(data);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(readStudent(data, stringTable));
+        }
+
+        int moduleClassCount = readCount(data);
+        List<ModuleClass> moduleClasses = new ArrayList<>();
+        for (int i = 0; i < moduleClassCount; i++) {
+            moduleClasses.add(readModuleClass(data, stringTable, students, cache));
+        }
+
+        if (data.available() != 0) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        return JsonSerializableTutorsPet.toModelType(students, moduleClasses);
+    }
+
+    private static Student readStudent(BufferInput data, String[] stringTable)
+            throws IOException, IllegalValueException {
+        UUID uuid = new UUID(data.readLong(), data.readLong());
+
+        String name = readString(data, stringTable);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        String telegram = data.readUTF();
+        if (!Telegram.isValidTelegram(telegram)) {
+            throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
+        }
+
+        String email = data.readUTF();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readCount(data);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(data, stringTable);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        return new Student(uuid, new Name(name), new Telegram(telegram), new Email(email), tags);
+    }
+
+    private static ModuleClass readModuleClass(BufferInput data, String[] stringTable, List<Student> students,
+                                               AttendanceRecordCache cache)
+            throws IOException, IllegalValueException {
+        String name = readString(data, stringTable);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        UUID[] members = new UUID[readCount(data)];
+        for (int i = 0; i < members.length; i++) {
+            int studentIndex = data.readInt();
+            if (studentIndex < 0 || studentIndex >= students.size()) {
+                throw new IOException(MESSAGE_INVALID_REFERENCE);
+            }
+            members[i] = students.get(studentIndex).getUuid();
+        }
+        StudentIndex memberIndex;
+        try {
+            memberIndex = new StudentIndex(List.of(members));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS);
+        }
+
+        int lessonCount = readCount(data);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            lessons.add(readLesson(data, stringTable, memberIndex, cache));
+        }
+        JsonAdaptedModuleClass.validateLessonTimings(lessons);
+
+        return new ModuleClass(new Name(name), new HashSet<>(List.of(members)), lessons);
+    }
+
+    private static Lesson readLesson(BufferInput data, String[] stringTable, StudentIndex memberIndex,
+                                     AttendanceRecordCache cache)
+            throws IOException, IllegalValueException {
+        LocalTime startTime = readTime(data);
+        LocalTime endTime = readTime(data);
+        if (!Lesson.isValidStartTimeEndTime(startTime, endTime)) {
+            throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+        }
+
+        int dayIndex = data.readUnsignedByte();
+        if (dayIndex >= Day.values().length) {
+            throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
+        }
+        Day day = Day.values()[dayIndex];
+
+        int numberOfOccurrences = data.readUnsignedByte();
+        if (!NumberOfOccurrences.isValidNumberOfOccurrences(numberOfOccurrences)) {
+            throw new IllegalValueException(NumberOfOccurrences.MESSAGE_CONSTRAINTS);
+        }
+
+        String venue = readString(data, stringTable);
+        if (!Venue.isValidVenue(venue)) {
+            throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
+        }
+
+        int memberCount = memberIndex.size();
+        // The scores are only checked when the records are first decoded, so that reading does not touch them
+        ByteBuffer scores = data.readBuffer(numberOfOccurrences * memberCount);
+
+        AttendanceRecordList attendanceRecordList =
+                new AttendanceRecordList(numberOfOccurrences, memberIndex, scores, cache);
+
+        return new Lesson(startTime, endTime, day, new NumberOfOccurrences(numberOfOccurrences), new Venue(venue),
+                attendanceRecordList);
+    }
+
+    private static LocalTime readTime(BufferInput data) throws IOException, IllegalValueException {
+        int minuteOfDay = data.readUnsignedShort();
+        if (minuteOfDay >= 24 * MINUTES_PER_HOUR) {
+            throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+        }
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    private static int readCount(BufferInput data) throws IOException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException(MESSAGE_INVALID_REFERENCE);
+        }
+        return count;
+    }
+
+    private static String readString(BufferInput data, String[] stringTable) throws IOException {
+        int index = data.readInt();
+        if (index < 0 || index >= stringTable.length) {
+            throw new IOException(MESSAGE_INVALID_REFERENCE);
+        }
+        return stringTable[index];
+    }
+
+    /**
+     * Reads primitive values and strings from a {@code ByteBuffer}, advancing its position.
+     * Unlike the other reads, {@link #readBuffer(int)} does not copy the bytes it returns.
+     */
+    private static class BufferInput extends DataInputStream {
+        private final ByteBuffer buffer;
+
+        BufferInput(ByteBuffer buffer) {
+            super(new InputStream() {
+                @Override
+                public int read() {
+                    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] bytes, int offset, int length) {
+                    if (!buffer.hasRemaining()) {
+                        return -1;
+                    }
+                    int count = Math.min(length, buffer.remaining());
+                    buffer.get(bytes, offset, count);
+                    return count;
+                }
+
+                @Override
+                public int available() {
+                    return buffer.remaining();
+                }
+            });
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns a view of the next {@code length} bytes.
+         */
+        ByteBuffer readBuffer(int length) throws EOFException {
+            if (buffer.remaining() < length) {
+                throw new EOFException();
+            }
+            ByteBuffer view = buffer.slice().limit(length);
+            buffer.position(buffer.position() + length);
+            return view;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.AttendanceRecordCache;
+
+/**
+ * A class to access TutorsPet data stored as a binary file on the hard disk.
+ * Files in the json format are still read, and are replaced by the binary format on the next save.
+ * <p>
+ * The attendance in a binary file is not loaded onto the heap. Instead, a private copy of the file is
+ * memory-mapped and attendance is looked up in the mapping, until the attendance of a lesson is edited.
+ * The data file itself is never mapped, as some platforms do not allow a mapped file to be replaced,
+ * and saves replace the data file.
+ * The attendance records of each lesson are only created when first accessed, and those of the least
+ * recently used lessons are dropped once the {@code AttendanceRecordCache} is full.
+ */
+public class BinaryTutorsPetStorage implements TutorsPetStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTutorsPetStorage.class);
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String ARCHIVE_FILE_PREFIX = "tutorspet";
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    private final Path filePath;
+    private final AttendanceRecordCache attendanceRecordCache;
+
+    public BinaryTutorsPetStorage(Path filePath) {
+        this(filePath, AttendanceRecordCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code BinaryTutorsPetStorage} that keeps the attendance records of at most
+     * {@code attendanceCacheCapacity} lessons loaded at a time.
+     */
+    public BinaryTutorsPetStorage(Path filePath, int attendanceCacheCapacity) {
+        this.filePath = filePath;
+        this.attendanceRecordCache = new AttendanceRecordCache(attendanceCacheCapacity);
+    }
+
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        writeFile(tutorsPet, filePath);
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} to a binary data file at {@code binaryFilePath}.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if there was an error reading or writing the files.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(binaryFilePath);
+
+        try {
+            writeFile(JsonTutorsPetCodec.readTutorsPet(jsonFilePath), binaryFilePath);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} to a json data file at {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     * @throws IOException if there was an error reading or writing the files.
+     */
+    public static void convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(binaryFilePath);
+        requireNonNull(jsonFilePath);
+
+        TutorsPet tutorsPet;
+        try {
+            tutorsPet = BinaryTutorsPetCodec.read(ByteBuffer.wrap(Files.readAllBytes(binaryFilePath)),
+                    new AttendanceRecordCache(AttendanceRecordCache.DEFAULT_CAPACITY));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, jsonFilePath);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, falling back to the json format if the file is not binary.
+     */
+    private TutorsPet readFile(Path filePath) throws IOException, IllegalValueException {
+        byte[] header = new byte[Integer.BYTES];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int length = in.readNBytes(header, 0, header.length);
+            if (length < header.length || !BinaryTutorsPetCodec.isBinaryFormat(header)) {
+                logger.info("Reading " + filePath + " in the json format");
+                return JsonTutorsPetCodec.readTutorsPet(filePath);
+            }
+        }
+
+        return BinaryTutorsPetCodec.read(mapPrivateCopy(filePath), attendanceRecordCache);
+    }
+
+    /**
+     * Returns a read-only mapping of a copy of the file at {@code filePath}.
+     * The copy is deleted right away where the platform allows it, and otherwise when the application exits.
+     */
+    private static ByteBuffer mapPrivateCopy(Path filePath) throws IOException {
+        Path copyPath = Files.createTempFile(ARCHIVE_FILE_PREFIX, ARCHIVE_FILE_SUFFIX);
+        try {
+            Files.copy(filePath, copyPath, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(copyPath, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } finally {
+            try {
+                Files.delete(copyPath);
+            } catch (IOException ioe) {
+                copyPath.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code tutorsPet} to {@code filePath}.
+     * The existing file is only replaced once the new file has been written in full.
+     */
+    private static void writeFile(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+
+        try (OutputStream out = Files.newOutputStream(temporaryPath)) {
+            BinaryTutorsPetCodec.write(tutorsPet, out);
+        }
+
+        FileUtil.replaceFile(temporaryPath, filePath);
+    }
+}
@@ -0,0 +1,365 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access backups of TutorsPet data stored in a directory on the hard disk.
+ * <p>
+ * Each student and each class is stored as a json chunk named by the SHA-256 hash of its contents, so a chunk
+ * is stored only once however many backups use it. A backup is a manifest that lists the chunks of its students
+ * and classes, so a new backup only writes the students and classes that changed since earlier backups.
+ * <p>
+ * Backups are named by the UTC time they were taken. Every backup from the last day is kept, then the latest
+ * backup of each day for the last month. Older backups are deleted when the backups are pruned, along with the
+ * chunks that no remaining backup uses.
+ */
+public class ChunkedBackupStorage implements BackupStorage {
+
+    public static final String BACKUP_DIRECTORY_SUFFIX = ".backups";
+    public static final Duration DEFAULT_KEEP_ALL_PERIOD = Duration.ofDays(1);
+    public static final Duration DEFAULT_KEEP_DAILY_PERIOD = Duration.ofDays(30);
+
+    public static final String MESSAGE_INVALID_CHUNK = "Backup refers to a missing or corrupted chunk: %s";
+
+    private static final String MANIFEST_DIRECTORY = "manifests";
+    private static final String CHUNK_DIRECTORY = "chunks";
+    private static final String JSON_FILE_SUFFIX = ".json";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int CHUNK_SUBDIRECTORY_LENGTH = 2;
+
+    private static final DateTimeFormatter BACKUP_ID_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd-HHmmss");
+    private static final Pattern BACKUP_ID_PATTERN = Pattern.compile("\\d{8}-\\d{6}");
+    private static final Pattern CHUNK_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedBackupStorage.class);
+
+    private final Path directoryPath;
+    private final Duration keepAllPeriod;
+    private final Duration keepDailyPeriod;
+
+    public ChunkedBackupStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_KEEP_ALL_PERIOD, DEFAULT_KEEP_DAILY_PERIOD);
+    }
+
+    /**
+     * Creates a {@code ChunkedBackupStorage} that keeps every backup younger than {@code keepAllPeriod}, and
+     * the latest backup of each day for backups younger than {@code keepDailyPeriod}.
+     */
+    public ChunkedBackupStorage(Path directoryPath, Duration keepAllPeriod, Duration keepDailyPeriod) {
+        requireNonNull(directoryPath);
+        requireNonNull(keepAllPeriod);
+        requireNonNull(keepDailyPeriod);
+
+        this.directoryPath = directoryPath;
+        this.keepAllPeriod = keepAllPeriod;
+        this.keepDailyPeriod = keepDailyPeriod;
+    }
+
+    /**
+     * Returns the location of the directory that holds the backups of the data at {@code filePath}.
+     */
+    public static Path getBackupDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the time the backup with the given id was taken.
+     *
+     * @throws IllegalArgumentException if {@code backupId} is not a valid backup id.
+     */
+    public static Instant getBackupTime(String backupId) {
+        requireNonNull(backupId);
+
+        if (!BACKUP_ID_PATTERN.matcher(backupId).matches()) {
+            throw new IllegalArgumentException(backupId);
+        }
+        try {
+            return LocalDateTime.parse(backupId, BACKUP_ID_FORMAT).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalArgumentException(backupId, dtpe);
+        }
+    }
+
+    @Override
+    public Path getBackupDirectoryPath() {
+        return directoryPath;
+    }
+
+    @Override
+    public synchronized String backUpTutorsPet(ReadOnlyTutorsPet tutorsPet, Instant time) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(time);
+
+        Files.createDirectories(directoryPath.resolve(MANIFEST_DIRECTORY));
+        List<String> studentChunks = new ArrayList<>();
+        for (Student student : tutorsPet.getStudentList()) {
+            studentChunks.add(writeChunk(JsonUtil.toCompactJsonString(new JsonAdaptedStudent(student))));
+        }
+        List<String> classChunks = new ArrayList<>();
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            classChunks.add(writeChunk(JsonUtil.toCompactJsonString(new JsonAdaptedModuleClass(moduleClass))));
+        }
+
+        List<String> backupIds = getBackupIds();
+        if (!backupIds.isEmpty()) {
+            String latestBackupId = backupIds.get(backupIds.size() - 1);
+            Optional<JsonAdaptedBackupManifest> latestManifest = readManifestOrEmpty(latestBackupId);
+            if (latestManifest.isPresent() && latestManifest.get().getStudents().equals(studentChunks)
+                    && latestManifest.get().getClasses().equals(classChunks)) {
+                return latestBackupId;
+            }
+        }
+
+        // Backups are named by the second they were taken, so a later backup in the same second takes the next one
+        Instant backupTime = time;
+        String backupId = toBackupId(backupTime);
+        while (Files.exists(getManifestPath(backupId))) {
+            backupTime = backupTime.plusSeconds(1);
+            backupId = toBackupId(backupTime);
+        }
+
+        Path manifestPath = getManifestPath(backupId);
+        Path temporaryPath = manifestPath.resolveSibling(manifestPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        JsonUtil.saveJsonFile(new JsonAdaptedBackupManifest(studentChunks, classChunks), temporaryPath);
+        FileUtil.replaceFile(temporaryPath, manifestPath);
+        return backupId;
+    }
+
+    @Override
+    public synchronized List<String> getBackupIds() throws IOException {
+        Path manifestDirectory = directoryPath.resolve(MANIFEST_DIRECTORY);
+        if (!Files.isDirectory(manifestDirectory)) {
+            return new ArrayList<>();
+        }
+
+        try (Stream<Path> paths = Files.list(manifestDirectory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(JSON_FILE_SUFFIX))
+                    .map(fileName -> fileName.substring(0, fileName.length() - JSON_FILE_SUFFIX.length()))
+                    .filter(backupId -> BACKUP_ID_PATTERN.matcher(backupId).matches())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTutorsPet> readBackup(String backupId)
+            throws DataConversionException, IOException {
+        requireNonNull(backupId);
+
+        if (!BACKUP_ID_PATTERN.matcher(backupId).matches()) {
+            return Optional.empty();
+        }
+        Optional<JsonAdaptedBackupManifest> manifest =
+                JsonUtil.readJsonFile(getManifestPath(backupId), JsonAdaptedBackupManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Student> students = new ArrayList<>();
+            for (String chunk : manifest.get().getStudents()) {
+                JsonAdaptedStudent jsonAdaptedStudent = JsonUtil.fromJsonString(readChunk(chunk),
+                        JsonAdaptedStudent.class);
+                if (jsonAdaptedStudent == null) {
+                    throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT);
+                }
+                students.add(jsonAdaptedStudent.toModelType());
+            }
+
+            List<ModuleClass> moduleClasses = new ArrayList<>();
+            for (String chunk : manifest.get().getClasses()) {
+                JsonAdaptedModuleClass jsonAdaptedModuleClass = JsonUtil.fromJsonString(readChunk(chunk),
+                        JsonAdaptedModuleClass.class);
+                if (jsonAdaptedModuleClass == null) {
+                    throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS);
+                }
+                moduleClasses.add(jsonAdaptedModuleClass.toModelType());
+            }
+
+            return Optional.of(JsonSerializableTutorsPet.toModelType(students, moduleClasses));
+        } catch (IOException ioe) {
+            logger.warning("Error reading backup " + backupId + " in " + directoryPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in backup " + backupId + " in " + directoryPath + ": "
+                    + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public synchronized void pruneBackups(Instant time) throws IOException {
+        requireNonNull(time);
+
+        List<String> backupIds = getBackupIds();
+        Collections.reverse(backupIds);
+
+        // The latest backup is always kept, and then the backups from newest to oldest by their age
+        List<String> keptBackupIds = new ArrayList<>();
+        Set<LocalDate> keptDays = new HashSet<>();
+        boolean hasDeletedBackup = false;
+        for (String backupId : backupIds) {
+            Instant backupTime = getBackupTime(backupId);
+            LocalDate backupDay = LocalDateTime.ofInstant(backupTime, ZoneOffset.UTC).toLocalDate();
+            Duration age = Duration.between(backupTime, time);
+            boolean isKept = keptBackupIds.isEmpty()
+                    || age.compareTo(keepAllPeriod) <= 0
+                    || (age.compareTo(keepDailyPeriod) <= 0 && !keptDays.contains(backupDay));
+            if (isKept) {
+                keptBackupIds.add(backupId);
+                keptDays.add(backupDay);
+            } else {
+                Files.deleteIfExists(getManifestPath(backupId));
+                hasDeletedBackup = true;
+            }
+        }
+
+        if (hasDeletedBackup) {
+            deleteUnusedChunks(keptBackupIds);
+        }
+    }
+
+    private static String toBackupId(Instant time) {
+        return BACKUP_ID_FORMAT.format(LocalDateTime.ofInstant(time, ZoneOffset.UTC));
+    }
+
+    private Path getManifestPath(String backupId) {
+        return directoryPath.resolve(MANIFEST_DIRECTORY).resolve(backupId + JSON_FILE_SUFFIX);
+    }
+
+    private Path getChunkPath(String hash) {
+        return directoryPath.resolve(CHUNK_DIRECTORY).resolve(hash.substring(0, CHUNK_SUBDIRECTORY_LENGTH))
+                .resolve(hash + JSON_FILE_SUFFIX);
+    }
+
+    private Optional<JsonAdaptedBackupManifest> readManifestOrEmpty(String backupId) {
+        try {
+            return JsonUtil.readJsonFile(getManifestPath(backupId), JsonAdaptedBackupManifest.class);
+        } catch (DataConversionException dce) {
+            logger.warning("Backup " + backupId + " in " + directoryPath + " could not be read: " + dce);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores {@code contents} as a chunk if no chunk with the same contents is stored yet.
+     *
+     * @return the hash of the chunk.
+     */
+    private String writeChunk(String contents) throws IOException {
+        byte[] bytes = contents.getBytes(UTF_8);
+        String hash = hash(bytes);
+        Path chunkPath = getChunkPath(hash);
+        if (Files.exists(chunkPath)) {
+            return hash;
+        }
+
+        Files.createDirectories(chunkPath.getParent());
+        Path temporaryPath = chunkPath.resolveSibling(chunkPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryPath, bytes);
+        FileUtil.replaceFile(temporaryPath, chunkPath);
+        return hash;
+    }
+
+    /**
+     * Returns the contents of the chunk with the given hash, after checking that they match the hash.
+     */
+    private String readChunk(String hash) throws IOException, IllegalValueException {
+        if (hash == null || !CHUNK_HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHUNK, hash));
+        }
+        Path chunkPath = getChunkPath(hash);
+        if (!Files.exists(chunkPath)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHUNK, hash));
+        }
+
+        byte[] bytes = Files.readAllBytes(chunkPath);
+        if (!hash(bytes).equals(hash)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHUNK, hash));
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    private static String hash(byte[] bytes) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(nsae);
+        }
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest(bytes)) {
+            hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Deletes the chunks that are not used by any of the backups in {@code backupIds}.
+     * A backup that cannot be read is treated as using every chunk, so that no chunk it may use is deleted.
+     */
+    private void deleteUnusedChunks(List<String> backupIds) throws IOException {
+        Set<String> usedChunks = new HashSet<>();
+        for (String backupId : backupIds) {
+            Optional<JsonAdaptedBackupManifest> manifest = readManifestOrEmpty(backupId);
+            if (!manifest.isPresent()) {
+                return;
+            }
+            usedChunks.addAll(manifest.get().getStudents());
+            usedChunks.addAll(manifest.get().getClasses());
+        }
+
+        Path chunkDirectory = directoryPath.resolve(CHUNK_DIRECTORY);
+        if (!Files.isDirectory(chunkDirectory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(chunkDirectory)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String fileName = path.getFileName().toString();
+                String hash = fileName.endsWith(JSON_FILE_SUFFIX)
+                        ? fileName.substring(0, fileName.length() - JSON_FILE_SUFFIX.length())
+                        : fileName;
+                if (!usedChunks.contains(hash)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+}
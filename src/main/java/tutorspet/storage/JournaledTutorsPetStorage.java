@@ -0,0 +1,410 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.util.Pair;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access TutorsPet data stored as a json snapshot and an append-only journal on the hard disk.
+ * Each save appends only the students and classes that changed since the previous save to the journal.
+ * Once the journal grows past a configured number of entries or bytes, a new snapshot is written in the
+ * background and the entries it contains are dropped from the journal.
+ */
+public class JournaledTutorsPetStorage implements TutorsPetStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 100;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTutorsPetStorage.class);
+
+    // Shared by all storages, so that opening a storage for each workspace does not leave a thread behind.
+    private static final Executor SHARED_COMPACTION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TutorsPet journal compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final int maxJournalEntries;
+    private final long maxJournalBytes;
+    private final Executor compactionExecutor;
+    private final Object journalLock = new Object();
+
+    // State that was last written to the snapshot and journal at filePath, or null if unknown.
+    private List<Student> savedStudents;
+    private List<ModuleClass> savedModuleClasses;
+    private long sequence;
+
+    // Guarded by journalLock.
+    private int journalEntries;
+    private long journalBytes;
+    private boolean isCompacting;
+    // Number of snapshots written by saveSnapshot, so that a compaction can tell if its journal was replaced.
+    private long snapshotCount;
+
+    /**
+     * Creates a {@code JournaledTutorsPetStorage} with the default compaction thresholds,
+     * compacting on a background thread that is shared by all such storages.
+     */
+    public JournaledTutorsPetStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_BYTES, SHARED_COMPACTION_EXECUTOR);
+    }
+
+    /**
+     * Creates a {@code JournaledTutorsPetStorage} that compacts the journal on {@code compactionExecutor}
+     * once it holds {@code maxJournalEntries} entries or {@code maxJournalBytes} bytes.
+     */
+    public JournaledTutorsPetStorage(Path filePath, int maxJournalEntries, long maxJournalBytes,
+                                     Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+
+        this.filePath = filePath;
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalBytes = maxJournalBytes;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Loads the snapshot at {@code filePath} and replays the journal entries that are newer than it.
+     * An incomplete last journal entry, as left behind by an interrupted write, is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        boolean hasSnapshot = Files.exists(filePath);
+        if (!hasSnapshot && !Files.exists(journalPath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Student> students = new ArrayList<>();
+        List<ModuleClass> moduleClasses = new ArrayList<>();
+        long lastSequence = 0;
+        if (hasSnapshot) {
+            try {
+                Pair<TutorsPet, Long> snapshot = JsonTutorsPetCodec.readTutorsPetWithJournalSequence(filePath);
+                students.addAll(snapshot.getKey().getStudentList());
+                moduleClasses.addAll(snapshot.getKey().getModuleClassList());
+                lastSequence = snapshot.getValue();
+            } catch (IOException ioe) {
+                logger.warning("Error reading from json file " + filePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        byte[] journal = Files.exists(journalPath) ? Files.readAllBytes(journalPath) : new byte[0];
+        int entries = 0;
+        int start = 0;
+        while (start < journal.length) {
+            int end = start;
+            while (end < journal.length && journal[end] != '\n') {
+                end++;
+            }
+            if (end == journal.length) {
+                logger.warning("Discarding incomplete entry at the end of " + journalPath);
+                break;
+            }
+
+            try {
+                JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(
+                        new String(journal, start, end - start, UTF_8), JsonAdaptedJournalEntry.class);
+                if (entry.getSequence() > lastSequence) {
+                    entry.applyToStudents(students);
+                    entry.applyToModuleClasses(moduleClasses);
+                    lastSequence = entry.getSequence();
+                }
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+            entries++;
+            start = end + 1;
+        }
+
+        TutorsPet tutorsPet;
+        try {
+            tutorsPet = JsonSerializableTutorsPet.toModelType(students, moduleClasses);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            synchronized (journalLock) {
+                if (start < journal.length) {
+                    Files.write(journalPath, Arrays.copyOf(journal, start));
+                }
+                journalEntries = entries;
+                journalBytes = start;
+            }
+            savedStudents = students;
+            savedModuleClasses = moduleClasses;
+            sequence = lastSequence;
+        }
+
+        return Optional.of(tutorsPet);
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Only saves to {@code filePath} of this storage are journaled, other locations receive a full json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
+            return;
+        }
+
+        List<Student> students = new ArrayList<>(tutorsPet.getStudentList());
+        List<ModuleClass> moduleClasses = new ArrayList<>(tutorsPet.getModuleClassList());
+
+        try {
+            if (savedStudents == null || savedModuleClasses == null) {
+                saveSnapshot(tutorsPet);
+            } else {
+                appendEntry(students, moduleClasses);
+            }
+        } catch (IOException ioe) {
+            // The files may be partially written, so the next save rewrites the snapshot in full.
+            savedStudents = null;
+            savedModuleClasses = null;
+            throw ioe;
+        }
+
+        savedStudents = students;
+        savedModuleClasses = moduleClasses;
+    }
+
+    /**
+     * Replaces the snapshot and journal at {@code filePath} with a snapshot of {@code tutorsPet}.
+     * The journal is only dropped once the snapshot has been moved into place, so that no change is lost
+     * if the snapshot cannot be written.
+     * The snapshot records a sequence no lower than that of the last entry in the journal, even if this storage
+     * has not read the journal, so that the entries are not replayed on top of it if the journal is not dropped.
+     */
+    private void saveSnapshot(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        synchronized (journalLock) {
+            sequence = Math.max(sequence, readLastJournalSequence(getJournalFilePath(filePath)));
+            JsonTutorsPetCodec.writeTutorsPet(tutorsPet, sequence, filePath);
+            snapshotCount++;
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            journalEntries = 0;
+            journalBytes = 0;
+        }
+    }
+
+    /**
+     * Appends the difference between the last saved state and {@code students} and {@code moduleClasses}
+     * to the journal, and schedules a compaction if the journal has grown too large.
+     */
+    private void appendEntry(List<Student> students, List<ModuleClass> moduleClasses) throws IOException {
+        int studentIndex = commonPrefixLength(savedStudents, students);
+        int studentSuffix = commonSuffixLength(savedStudents, students, studentIndex);
+        int classIndex = commonPrefixLength(savedModuleClasses, moduleClasses);
+        int classSuffix = commonSuffixLength(savedModuleClasses, moduleClasses, classIndex);
+
+        int studentsRemoved = savedStudents.size() - studentIndex - studentSuffix;
+        List<Student> studentsAdded = students.subList(studentIndex, students.size() - studentSuffix);
+        int classesRemoved = savedModuleClasses.size() - classIndex - classSuffix;
+        List<ModuleClass> classesAdded = moduleClasses.subList(classIndex, moduleClasses.size() - classSuffix);
+
+        if (studentsRemoved == 0 && studentsAdded.isEmpty() && classesRemoved == 0 && classesAdded.isEmpty()) {
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(sequence + 1,
+                studentIndex, studentsRemoved,
+                studentsAdded.stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()),
+                classIndex, classesRemoved,
+                classesAdded.stream().map(JsonAdaptedModuleClass::new).collect(Collectors.toList()));
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(UTF_8);
+
+        synchronized (journalLock) {
+            Path journalPath = getJournalFilePath(filePath);
+            FileUtil.createParentDirsOfFile(journalPath);
+            Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            sequence++;
+            journalEntries++;
+            journalBytes += line.length;
+
+            if (!isCompacting && (journalEntries >= maxJournalEntries || journalBytes >= maxJournalBytes)) {
+                isCompacting = true;
+                long snapshotSequence = sequence;
+                long snapshotBytes = journalBytes;
+                int snapshotEntries = journalEntries;
+                long expectedSnapshotCount = snapshotCount;
+                compactionExecutor.execute(() -> compact(students, moduleClasses,
+                        snapshotSequence, snapshotBytes, snapshotEntries, expectedSnapshotCount));
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence of the last complete entry in the journal at {@code journalPath} that can be read,
+     * or 0 if there is none.
+     */
+    private static long readLastJournalSequence(Path journalPath) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        int end = journal.length;
+        while (end > 0 && journal[end - 1] != '\n') {
+            end--;
+        }
+        while (end > 0) {
+            int start = end - 1;
+            while (start > 0 && journal[start - 1] != '\n') {
+                start--;
+            }
+            try {
+                return JsonUtil.fromJsonString(new String(journal, start, end - 1 - start, UTF_8),
+                        JsonAdaptedJournalEntry.class).getSequence();
+            } catch (IOException ioe) {
+                logger.warning("Skipping unreadable entry in " + journalPath + ": " + ioe);
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    /**
+     * Writes {@code students} and {@code moduleClasses} as the new snapshot and drops the first
+     * {@code snapshotBytes} bytes, holding {@code snapshotEntries} entries, from the journal.
+     * Entries appended while the snapshot is being written are kept. Nothing is done if a full snapshot has
+     * been saved since the compaction was scheduled, as that snapshot is newer.
+     * The snapshot is written to a temporary file of its own without holding the lock of the journal, so that
+     * saves are not held up. Only moving it into place and trimming the journal are done under the lock.
+     */
+    private void compact(List<Student> students, List<ModuleClass> moduleClasses, long snapshotSequence,
+                         long snapshotBytes, int snapshotEntries, long expectedSnapshotCount) {
+        Path temporarySnapshotPath = null;
+        try {
+            TutorsPet snapshot = new TutorsPet();
+            snapshot.setStudents(students);
+            snapshot.setModuleClasses(moduleClasses);
+            temporarySnapshotPath = JsonTutorsPetCodec.writeTemporaryTutorsPet(snapshot, snapshotSequence, filePath);
+
+            synchronized (journalLock) {
+                if (snapshotCount != expectedSnapshotCount) {
+                    logger.fine("Skipped compaction, as a newer snapshot was saved");
+                    return;
+                }
+                FileUtil.replaceFile(temporarySnapshotPath, filePath);
+
+                Path journalPath = getJournalFilePath(filePath);
+                byte[] journal = Files.readAllBytes(journalPath);
+                Path temporaryJournalPath = journalPath.resolveSibling(
+                        journalPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+                Files.write(temporaryJournalPath, Arrays.copyOfRange(journal, (int) snapshotBytes, journal.length));
+                FileUtil.replaceFile(temporaryJournalPath, journalPath);
+                journalEntries -= snapshotEntries;
+                journalBytes -= snapshotBytes;
+            }
+            logger.fine("Compacted journal into snapshot at sequence " + snapshotSequence);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal : " + StringUtil.getDetails(ioe));
+        } finally {
+            deleteTemporaryFile(temporarySnapshotPath);
+            synchronized (journalLock) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    private static void deleteTemporaryFile(Path temporaryPath) {
+        if (temporaryPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete " + temporaryPath + ": " + ioe);
+        }
+    }
+
+    // Entries are compared by identity, as the model never changes a student or class in place, and equal entries
+    // can still differ in what is saved, such as the UUID of a student.
+    private static <T> int commonPrefixLength(List<T> before, List<T> after) {
+        int length = 0;
+        int limit = Math.min(before.size(), after.size());
+        while (length < limit && before.get(length) == after.get(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static <T> int commonSuffixLength(List<T> before, List<T> after, int prefixLength) {
+        int length = 0;
+        int limit = Math.min(before.size(), after.size()) - prefixLength;
+        while (length < limit && before.get(before.size() - 1 - length) == after.get(after.size() - 1 - length)) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,39 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a backup.
+ * The manifest lists the hash of the chunk holding each student and each class, in order.
+ */
+class JsonAdaptedBackupManifest {
+
+    private final List<String> students = new ArrayList<>();
+    private final List<String> classes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedBackupManifest} with the given chunk hashes.
+     */
+    @JsonCreator
+    public JsonAdaptedBackupManifest(@JsonProperty("students") List<String> students,
+                                     @JsonProperty("classes") List<String> classes) {
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+    }
+
+    public List<String> getStudents() {
+        return students;
+    }
+
+    public List<String> getClasses() {
+        return classes;
+    }
+}
@@ -0,0 +1,103 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Jackson-friendly version of a single journal entry.
+ * An entry replaces {@code studentsRemoved} students starting at {@code studentIndex} with {@code students},
+ * and {@code classesRemoved} classes starting at {@code classIndex} with {@code classes}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry %d is invalid.";
+
+    private final long sequence;
+    private final int studentIndex;
+    private final int studentsRemoved;
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final int classIndex;
+    private final int classesRemoved;
+    private final List<JsonAdaptedModuleClass> classes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+                                   @JsonProperty("studentIndex") int studentIndex,
+                                   @JsonProperty("studentsRemoved") int studentsRemoved,
+                                   @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                   @JsonProperty("classIndex") int classIndex,
+                                   @JsonProperty("classesRemoved") int classesRemoved,
+                                   @JsonProperty("classes") List<JsonAdaptedModuleClass> classes) {
+        this.sequence = sequence;
+        this.studentIndex = studentIndex;
+        this.studentsRemoved = studentsRemoved;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        this.classIndex = classIndex;
+        this.classesRemoved = classesRemoved;
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies the student changes of this entry to {@code studentList}.
+     *
+     * @throws IllegalValueException if the entry does not fit {@code studentList} or contains invalid students.
+     */
+    public void applyToStudents(List<Student> studentList) throws IllegalValueException {
+        checkRange(studentIndex, studentsRemoved, studentList.size());
+
+        List<Student> modelStudents = new ArrayList<>();
+        for (JsonAdaptedStudent student : students) {
+            if (student == null) {
+                throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT);
+            }
+            modelStudents.add(student.toModelType());
+        }
+
+        studentList.subList(studentIndex, studentIndex + studentsRemoved).clear();
+        studentList.addAll(studentIndex, modelStudents);
+    }
+
+    /**
+     * Applies the class changes of this entry to {@code moduleClassList}.
+     *
+     * @throws IllegalValueException if the entry does not fit {@code moduleClassList} or contains invalid classes.
+     */
+    public void applyToModuleClasses(List<ModuleClass> moduleClassList) throws IllegalValueException {
+        checkRange(classIndex, classesRemoved, moduleClassList.size());
+
+        List<ModuleClass> modelModuleClasses = new ArrayList<>();
+        for (JsonAdaptedModuleClass moduleClass : classes) {
+            if (moduleClass == null) {
+                throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS);
+            }
+            modelModuleClasses.add(moduleClass.toModelType());
+        }
+
+        moduleClassList.subList(classIndex, classIndex + classesRemoved).clear();
+        moduleClassList.addAll(classIndex, modelModuleClasses);
+    }
+
+    private void checkRange(int index, int removed, int size) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index > size - removed) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, sequence));
+        }
+    }
+}
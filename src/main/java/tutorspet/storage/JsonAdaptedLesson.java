@@ -6,9 +6,12 @@ import static tutorspet.model.lesson.Venue.isValidVenue;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.attendance.AttendanceRecordList;
@@ -38,6 +41,7 @@ public class JsonAdaptedLesson {
 
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * The attendance record list may be left unbound, see {@link JsonAdaptedAttendanceRecordList.Deserializer}.
      */
     @JsonCreator
     public JsonAdaptedLesson(@JsonProperty("startTime") String startTime,
@@ -46,6 +50,7 @@ public class JsonAdaptedLesson {
                              @JsonProperty("numberOfOccurrences") int numberOfOccurrences,
                              @JsonProperty("venue") String venue,
                              @JsonProperty("attendanceRecordList")
+                             @JsonDeserialize(using = JsonAdaptedAttendanceRecordList.Deserializer.class)
                                          JsonAdaptedAttendanceRecordList attendanceRecordList) {
         this.startTime = startTime;
         this.endTime = endTime;
@@ -67,6 +72,17 @@ public class JsonAdaptedLesson {
         attendanceRecordList = new JsonAdaptedAttendanceRecordList(source.getAttendanceRecordList());
     }
 
+    int getNumberOfOccurrences() {
+        return numberOfOccurrences;
+    }
+
+    /**
+     * Returns a copy of this lesson with its attendance replaced by {@code attendanceRecordList}.
+     */
+    JsonAdaptedLesson withAttendanceRecordList(JsonAdaptedAttendanceRecordList attendanceRecordList) {
+        return new JsonAdaptedLesson(startTime, endTime, day, numberOfOccurrences, venue, attendanceRecordList);
+    }
+
     private LocalTime convertToTime(String time, String errorMsg) throws IllegalValueException {
         try {
             return LocalTime.parse(time, Lesson.TIME_FORMATTER);
@@ -81,6 +97,31 @@ public class JsonAdaptedLesson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
+        requireAttendanceRecordList();
+        return toModelType(attendanceRecordList.toModelType());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object, whose
+     * attendances must all be of students with {@code studentUuids}.
+     * The attendance records of a lesson that was read with an {@code AttendanceRecordCache} are only converted and
+     * checked when they are first accessed, see {@link JsonAdaptedAttendanceRecordList.Deserializer}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
+     */
+    Lesson toModelType(Set<UUID> studentUuids) throws IllegalValueException {
+        requireAttendanceRecordList();
+        return toModelType(attendanceRecordList.toModelType(studentUuids));
+    }
+
+    private void requireAttendanceRecordList() throws IllegalValueException {
+        if (attendanceRecordList == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    AttendanceRecordList.class.getSimpleName()));
+        }
+    }
+
+    private Lesson toModelType(AttendanceRecordList modelAttendanceRecordList) throws IllegalValueException {
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, START_TIME_FIELD));
         }
@@ -120,13 +161,7 @@ public class JsonAdaptedLesson {
         }
         final Venue modelVenue = new Venue(venue);
 
-        if (attendanceRecordList == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    AttendanceRecordList.class.getSimpleName()));
-        }
-        final AttendanceRecordList modelAttendanceRecordList = attendanceRecordList.toModelType();
-
-        if (modelAttendanceRecordList.getAttendanceRecordList().size() != modelNumberOfOccurrences.value) {
+        if (modelAttendanceRecordList.size() != modelNumberOfOccurrences.value) {
             throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT,
                     AttendanceRecordList.class.getSimpleName()));
         }
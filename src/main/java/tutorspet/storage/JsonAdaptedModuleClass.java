@@ -3,9 +3,13 @@ package tutorspet.storage;
 import static java.util.UUID.fromString;
 import static tutorspet.storage.JsonAdaptedStudent.STUDENT_UUID_FIELD;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -15,8 +19,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
 
 /**
  * Jackson-friendly version of {@link ModuleClass}.
@@ -24,11 +30,15 @@ import tutorspet.model.moduleclass.ModuleClass;
 public class JsonAdaptedModuleClass {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Class' %s field is missing!";
-    public static final String MESSAGE_INVALID_STUDENTS_IN_LESSON = "Invalid student(s) found in lesson(s).";
+    public static final String MESSAGE_INVALID_STUDENTS_IN_LESSON =
+            JsonAdaptedAttendanceRecordList.MESSAGE_INVALID_STUDENTS;
     public static final String INVALID_FIELD_MESSAGE_FORMAT = "Class' %s field is invalid!";
     public static final String DUPLICATE_LESSON_MESSAGE_FORMAT = "%s contains duplicate lesson(s).";
     public static final String OVERLAP_LESSON_MESSAGE_FORMAT = "%s contains overlapping lesson(s).";
 
+    private static final Comparator<Lesson> LESSON_TIMING_ORDER =
+            Comparator.comparing(Lesson::getStartTime).thenComparing(Lesson::getEndTime);
+
     private final JsonAdaptedName name;
     private final List<JsonAdaptedUuid> studentUuids = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
@@ -62,6 +72,17 @@ public class JsonAdaptedModuleClass {
                 .collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedLesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns a copy of this class with its lessons replaced by {@code lessons}.
+     */
+    JsonAdaptedModuleClass withLessons(List<JsonAdaptedLesson> lessons) {
+        return new JsonAdaptedModuleClass(name, studentUuids, lessons);
+    }
+
     /**
      * Converts the contained {@code List<JsonAdaptedUuid> studentUuids} to a {@code List<UUID>}.
      *
@@ -87,60 +108,62 @@ public class JsonAdaptedModuleClass {
     }
 
     /**
-     * Checks if a {@code lesson} already exists in a list.
-     * Duplicates are detected by calling {@code isSameLesson} method in {@code Lesson} class.
-     * Returns true if there is a duplicate.
+     * Checks that no two of {@code lessons} are the same or overlap, by sorting the lessons of each {@code Day}
+     * by their timings and comparing each lesson with the lessons before it in a single sweep.
+     * Duplicates are reported ahead of overlaps, as same lessons also overlap.
+     *
+     * @throws IllegalValueException if any of the {@code Lesson}s are duplicate or overlap.
      */
-    private boolean hasDuplicateLessons(List<Lesson> lessons, Lesson lessonToCheck) {
-        return lessons.stream().anyMatch(lessonToCheck::isSameLesson);
-    }
+    static void validateLessonTimings(List<Lesson> lessons) throws IllegalValueException {
+        Map<Day, List<Lesson>> lessonsByDay = lessons.stream()
+                .collect(Collectors.groupingBy(Lesson::getDay, () -> new EnumMap<>(Day.class), Collectors.toList()));
+
+        boolean hasOverlapLessons = false;
+        for (List<Lesson> lessonsOnDay : lessonsByDay.values()) {
+            lessonsOnDay.sort(LESSON_TIMING_ORDER);
+
+            Lesson previousLesson = null;
+            LocalTime latestEndTime = null;
+            for (Lesson lesson : lessonsOnDay) {
+                if (previousLesson != null && lesson.isSameLesson(previousLesson)) {
+                    throw new IllegalValueException(String.format(DUPLICATE_LESSON_MESSAGE_FORMAT,
+                            ModuleClass.class.getSimpleName()));
+                }
+                if (latestEndTime != null && lesson.getStartTime().isBefore(latestEndTime)) {
+                    hasOverlapLessons = true;
+                }
+                if (latestEndTime == null || lesson.getEndTime().isAfter(latestEndTime)) {
+                    latestEndTime = lesson.getEndTime();
+                }
+                previousLesson = lesson;
+            }
+        }
 
-    /**
-     * Checks if a {@code lesson} timing overlaps with another {@code Lesson} in the list.
-     * Overlapping lessons are detected by calling the {@code isOverlapLesson} method in {@code Lesson} class.
-     * Returns true if there is an overlap.
-     */
-    private boolean hasOverlapLessons(List<Lesson> lessons, Lesson lessonToCheck) {
-        return lessons.stream().anyMatch(lessonToCheck::isOverlapLesson);
+        if (hasOverlapLessons) {
+            throw new IllegalValueException(String.format(OVERLAP_LESSON_MESSAGE_FORMAT,
+                    ModuleClass.class.getSimpleName()));
+        }
     }
 
     /**
-     * Converts the contained {@code List<JsonAdaptedLesson> lessons} to a {@code List<Lesson>}.
+     * Converts the contained {@code List<JsonAdaptedLesson> lessons} to a {@code List<Lesson>}, whose attendances
+     * must all be of students with {@code studentUuids}.
+     * Each lesson is converted exactly once.
      *
      * @throws IllegalValueException if any of the {@code Lesson}s are null, duplicate or overlap.
      */
-    private List<Lesson> getLessonList() throws IllegalValueException {
+    private List<Lesson> getLessonList(Set<UUID> studentUuids) throws IllegalValueException {
         List<Lesson> lessonList = new ArrayList<>();
         for (JsonAdaptedLesson jsonLesson : lessons) {
             if (jsonLesson == null) {
                 throw new IllegalValueException(
                         String.format(MISSING_FIELD_MESSAGE_FORMAT, Lesson.class.getSimpleName()));
             }
-
-            if (hasDuplicateLessons(lessonList, jsonLesson.toModelType())) {
-                throw new IllegalValueException(String.format(DUPLICATE_LESSON_MESSAGE_FORMAT,
-                        ModuleClass.class.getSimpleName()));
-            } else if (hasOverlapLessons(lessonList, jsonLesson.toModelType())) {
-                throw new IllegalValueException(String.format(OVERLAP_LESSON_MESSAGE_FORMAT,
-                        ModuleClass.class.getSimpleName()));
-            } else {
-                lessonList.add(jsonLesson.toModelType());
-            }
+            lessonList.add(jsonLesson.toModelType(studentUuids));
         }
-        return lessonList;
-    }
 
-    private void validateAttendanceRecords(List<Lesson> lessonList, Set<UUID> studentUuids)
-            throws IllegalValueException {
-        Set<UUID> students = lessonList.stream().flatMap(lesson ->
-                lesson.getAttendanceRecordList().getAttendanceRecordList().stream()
-                        .flatMap(record -> record.getAttendanceRecord().keySet().stream()))
-                .collect(Collectors.toUnmodifiableSet());
-        for (UUID studentUuid : students) {
-            if (!studentUuids.contains(studentUuid)) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
-            }
-        }
+        validateLessonTimings(lessonList);
+        return lessonList;
     }
 
     /**
@@ -158,9 +181,7 @@ public class JsonAdaptedModuleClass {
         List<UUID> studentUuids = getUuidList();
         final Set<UUID> studentUuidSet = new HashSet<>(studentUuids);
 
-        final List<Lesson> lessonList = getLessonList();
-
-        validateAttendanceRecords(lessonList, studentUuidSet);
+        final List<Lesson> lessonList = getLessonList(studentUuidSet);
 
         return new ModuleClass(modelName, studentUuidSet, lessonList);
     }
@@ -0,0 +1,44 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded data directory.
+ * The manifest names the shard holding the students and the shard holding each class, in order.
+ */
+class JsonAdaptedShardManifest {
+
+    private final String students;
+    private final List<String> classes = new ArrayList<>();
+    private final long nextShardId;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given shard file names.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("students") String students,
+                                    @JsonProperty("classes") List<String> classes,
+                                    @JsonProperty("nextShardId") long nextShardId) {
+        this.students = students;
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+        this.nextShardId = nextShardId;
+    }
+
+    public String getStudents() {
+        return students;
+    }
+
+    public List<String> getClasses() {
+        return classes;
+    }
+
+    public long getNextShardId() {
+        return nextShardId;
+    }
+}
@@ -11,12 +11,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.TutorsPet;
+import tutorspet.model.components.name.Name;
 import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
 import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
 
 
 /**
@@ -56,68 +58,73 @@ class JsonSerializableTutorsPet {
     }
 
     /**
-     * Converts students into the model's {@code TutorsPet} object.
+     * Converts this Tutor's Pet into the model's {@code TutorsPet} object.
+     * The students and classes are converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    private void studentsToModelType(TutorsPet tutorsPet) throws IllegalValueException {
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            if (jsonAdaptedStudent == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENT);
-            }
+    public TutorsPet toModelType() throws IllegalValueException {
+        return toModelType(ParallelConverter.convertAll(students, JsonSerializableTutorsPet::toModelStudent),
+                ParallelConverter.convertAll(classes, JsonSerializableTutorsPet::toModelModuleClass));
+    }
 
-            Student student = jsonAdaptedStudent.toModelType();
-            if (tutorsPet.hasStudent(student) || tutorsPet.hasStudentUuid(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            tutorsPet.addStudent(student);
+    /**
+     * Converts {@code jsonAdaptedStudent}, which may be null, into the model's {@code Student} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Student toModelStudent(JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException {
+        if (jsonAdaptedStudent == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENT);
         }
+        return jsonAdaptedStudent.toModelType();
     }
 
     /**
-     * Converts classes into the model's {@code TutorsPet} object.
+     * Converts {@code jsonAdaptedModuleClass}, which may be null, into the model's {@code ModuleClass} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    private void classesToModelType(TutorsPet tutorsPet) throws IllegalValueException {
-        // Get all UUIDs under "students" field in tutorspet.json.
-        ObservableList<Student> students = tutorsPet.getStudentList();
-        Set<UUID> uniqueStudentUuids = new HashSet<>();
-        for (Student student : students) {
-            uniqueStudentUuids.add(student.getUuid());
+    static ModuleClass toModelModuleClass(JsonAdaptedModuleClass jsonAdaptedModuleClass)
+            throws IllegalValueException {
+        if (jsonAdaptedModuleClass == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
         }
+        return jsonAdaptedModuleClass.toModelType();
+    }
 
-        for (JsonAdaptedModuleClass jsonAdaptedModuleClass : classes) {
-            if (jsonAdaptedModuleClass == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
+    /**
+     * Converts already converted {@code students} and {@code moduleClasses} into the model's {@code TutorsPet}
+     * object, checking them against the same constraints as {@link #toModelType()}.
+     * The constraints are checked in a single pass with hash sets, and each list is then installed at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TutorsPet toModelType(List<Student> students, List<ModuleClass> moduleClasses)
+            throws IllegalValueException {
+        Set<UUID> uniqueStudentUuids = new HashSet<>();
+        Set<Telegram> uniqueTelegrams = new HashSet<>();
+        Set<Email> uniqueEmails = new HashSet<>();
+        for (Student student : students) {
+            if (!uniqueStudentUuids.add(student.getUuid()) || !uniqueTelegrams.add(student.getTelegram())
+                    || !uniqueEmails.add(student.getEmail())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
             }
+        }
 
-            ModuleClass moduleClass = jsonAdaptedModuleClass.toModelType();
-            if (tutorsPet.hasModuleClass(moduleClass)) {
+        Set<Name> uniqueModuleClassNames = new HashSet<>();
+        for (ModuleClass moduleClass : moduleClasses) {
+            if (!uniqueModuleClassNames.add(moduleClass.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
             }
-
-            // Check that the set of student UUIDs within a class is a subset of
-            // all student UUIDs in uniqueStudentUuids. Otherwise, Tutor's Pet will not
-            // boot up due to data corruption.
-            Set<UUID> moduleClassStudentUuids = moduleClass.getStudentUuids();
-            if (!uniqueStudentUuids.containsAll(moduleClassStudentUuids)) {
+            if (!uniqueStudentUuids.containsAll(moduleClass.getStudentUuids())) {
                 throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS);
             }
-
-            tutorsPet.addModuleClass(moduleClass);
         }
-    }
 
-    /**
-     * Converts this Tutor's Pet into the model's {@code TutorsPet} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public TutorsPet toModelType() throws IllegalValueException {
         TutorsPet tutorsPet = new TutorsPet();
-        studentsToModelType(tutorsPet);
-        classesToModelType(tutorsPet);
+        tutorsPet.setStudents(students);
+        tutorsPet.setModuleClasses(moduleClasses);
         return tutorsPet;
     }
 }
@@ -0,0 +1,351 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import javafx.util.Pair;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordCache;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Reads and writes TutorsPet data in the json format of {@link JsonSerializableTutorsPet} as a stream.
+ * Model objects are written to the file as they are visited, without building the {@code JsonAdapted*}
+ * objects or the file contents in memory. As students and classes are immutable, the json of each is kept
+ * for as long as the object is in use, so a save only encodes the students and classes that changed.
+ * When reading, students and classes are bound to their {@code JsonAdapted*} objects in bounded batches,
+ * and each batch is converted in parallel. The attendance records of each lesson are kept as json, and are only
+ * converted when they are first accessed. They are then kept in an {@code AttendanceRecordCache} that is shared
+ * by all the data read, until they are dropped from it.
+ * <p>
+ * Files with a name ending in {@value #COMPRESSED_FILE_SUFFIX} are gzip-compressed as they are written.
+ * Compressed files are recognised by their contents when reading, whatever their name.
+ */
+class JsonTutorsPetCodec {
+
+    public static final String MESSAGE_INVALID_FORMAT = "Tutor's Pet data is not in the expected format.";
+
+    public static final String COMPRESSED_FILE_SUFFIX = ".gz";
+
+    static final String STUDENTS_FIELD = "students";
+    static final String CLASSES_FIELD = "classes";
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CONVERSION_BATCH_SIZE = 1024;
+
+    // Students and classes are written inside the top-level object of the file.
+    private static final int FRAGMENT_DEPTH = 1;
+
+    private static final AttendanceRecordCache ATTENDANCE_RECORD_CACHE =
+            new AttendanceRecordCache(AttendanceRecordCache.DEFAULT_CAPACITY);
+
+    private static final WeakIdentityCache<Student, SerializableString> STUDENT_FRAGMENTS =
+            new WeakIdentityCache<>();
+    private static final WeakIdentityCache<ModuleClass, SerializableString> MODULE_CLASS_FRAGMENTS =
+            new WeakIdentityCache<>();
+
+    /**
+     * Writes {@code tutorsPet} to {@code filePath}, compressing it if {@code filePath} is a compressed file name.
+     * The existing file is only replaced once the new file has been written in full.
+     */
+    public static void writeTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        writeTutorsPet(tutorsPet, null, filePath);
+    }
+
+    /**
+     * Writes {@code tutorsPet} to {@code filePath}, recording {@code journalSequence} as the
+     * last journal entry it contains.
+     */
+    public static void writeTutorsPet(ReadOnlyTutorsPet tutorsPet, long journalSequence, Path filePath)
+            throws IOException {
+        writeTutorsPet(tutorsPet, Long.valueOf(journalSequence), filePath);
+    }
+
+    private static void writeTutorsPet(ReadOnlyTutorsPet tutorsPet, Long journalSequence, Path filePath)
+            throws IOException {
+        Path temporaryPath = writeTemporaryFile(tutorsPet, journalSequence, filePath);
+        try {
+            FileUtil.replaceFile(temporaryPath, filePath);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Writes {@code tutorsPet} like {@link #writeTutorsPet(ReadOnlyTutorsPet, long, Path)}, but to a new temporary
+     * file next to {@code filePath}, and returns the location of that file. The caller moves it into place.
+     * Each call writes a different file, so that the same data file can be written by several threads at once.
+     */
+    static Path writeTemporaryTutorsPet(ReadOnlyTutorsPet tutorsPet, long journalSequence, Path filePath)
+            throws IOException {
+        return writeTemporaryFile(tutorsPet, journalSequence, filePath);
+    }
+
+    private static Path writeTemporaryFile(ReadOnlyTutorsPet tutorsPet, Long journalSequence, Path filePath)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+
+        try (OutputStream out = openOutputStream(temporaryPath, isCompressedFileName(filePath));
+             JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : tutorsPet.getStudentList()) {
+                generator.writeRawValue(getStudentFragment(student));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(CLASSES_FIELD);
+            for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+                generator.writeRawValue(getModuleClassFragment(moduleClass));
+            }
+            generator.writeEndArray();
+            if (journalSequence != null) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+            }
+            generator.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryPath);
+            throw e;
+        }
+        return temporaryPath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} should be written compressed.
+     */
+    public static boolean isCompressedFileName(Path filePath) {
+        return filePath.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    private static OutputStream openOutputStream(Path filePath, boolean isCompressed) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+        return isCompressed ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    /**
+     * Returns the json of {@code student} as it is written in the students array of the file.
+     * The json is cached for as long as {@code student} is in use, as students are immutable.
+     */
+    static SerializableString getStudentFragment(Student student) throws IOException {
+        SerializableString fragment = STUDENT_FRAGMENTS.get(student);
+        if (fragment == null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (JsonGenerator generator = JsonUtil.createNestedJsonGenerator(bytes, FRAGMENT_DEPTH)) {
+                writeStudent(generator, student);
+            }
+            fragment = new SerializedString(bytes.toString(UTF_8));
+            STUDENT_FRAGMENTS.put(student, fragment);
+        }
+        return fragment;
+    }
+
+    /**
+     * Returns the json of {@code moduleClass} as it is written in the classes array of the file.
+     * The json is cached for as long as {@code moduleClass} is in use, as classes are immutable.
+     */
+    static SerializableString getModuleClassFragment(ModuleClass moduleClass) throws IOException {
+        SerializableString fragment = MODULE_CLASS_FRAGMENTS.get(moduleClass);
+        if (fragment == null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (JsonGenerator generator = JsonUtil.createNestedJsonGenerator(bytes, FRAGMENT_DEPTH)) {
+                writeModuleClass(generator, moduleClass);
+            }
+            fragment = new SerializedString(bytes.toString(UTF_8));
+            MODULE_CLASS_FRAGMENTS.put(moduleClass, fragment);
+        }
+        return fragment;
+    }
+
+    private static void writeStudent(JsonGenerator generator, Student student) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("uuid", student.getUuid().toString());
+        generator.writeStringField("name", student.getName().fullName);
+        generator.writeStringField("telegram", student.getTelegram().value);
+        generator.writeStringField("email", student.getEmail().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : student.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeModuleClass(JsonGenerator generator, ModuleClass moduleClass) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", moduleClass.getName().fullName);
+        generator.writeArrayFieldStart("studentUuids");
+        for (UUID studentUuid : moduleClass.getStudentUuids()) {
+            generator.writeString(studentUuid.toString());
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("lessons");
+        for (Lesson lesson : moduleClass.getLessons()) {
+            writeLesson(generator, lesson);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeLesson(JsonGenerator generator, Lesson lesson) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("startTime", lesson.getStartTime().toString());
+        generator.writeStringField("endTime", lesson.getEndTime().toString());
+        generator.writeStringField("day", lesson.getDay().toString());
+        generator.writeNumberField("numberOfOccurrences", lesson.getNumberOfOccurrences().value);
+        generator.writeStringField("venue", lesson.getVenue().toString());
+        generator.writeObjectFieldStart("attendanceRecordList");
+        generator.writeArrayFieldStart("recordList");
+        List<AttendanceRecord> attendanceRecords = lesson.getAttendanceRecordList().getAttendanceRecordList();
+        for (int i = 0; i < attendanceRecords.size(); i++) {
+            generator.writeStartObject();
+            generator.writeNumberField("week", i + 1);
+            generator.writeArrayFieldStart("records");
+            for (Map.Entry<UUID, Attendance> entry : attendanceRecords.get(i).getAttendanceRecord().entrySet()) {
+                generator.writeStartObject();
+                generator.writeStringField("studentUuid", entry.getKey().toString());
+                generator.writeNumberField("attendance", entry.getValue().getParticipationScore());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the TutorsPet data at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath) throws IOException, IllegalValueException {
+        return readTutorsPetWithJournalSequence(filePath).getKey();
+    }
+
+    /**
+     * Reads the TutorsPet data at {@code filePath}, which must exist, together with the sequence number
+     * of the last journal entry it contains. The sequence number is 0 if the file does not record one.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Pair<TutorsPet, Long> readTutorsPetWithJournalSequence(Path filePath)
+            throws IOException, IllegalValueException {
+        List<Student> students = null;
+        List<ModuleClass> moduleClasses = null;
+        long journalSequence = 0;
+
+        try (InputStream in = openInputStream(filePath);
+             JsonParser parser = JsonUtil.createJsonParser(in,
+                     Map.of(AttendanceRecordCache.class, ATTENDANCE_RECORD_CACHE))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_FORMAT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case STUDENTS_FIELD:
+                    students = readStudents(parser);
+                    break;
+                case CLASSES_FIELD:
+                    moduleClasses = readModuleClasses(parser);
+                    break;
+                case JOURNAL_SEQUENCE_FIELD:
+                    journalSequence = parser.getValueAsLong();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (students == null || moduleClasses == null) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_FORMAT);
+            }
+        }
+
+        return new Pair<>(JsonSerializableTutorsPet.toModelType(students, moduleClasses), journalSequence);
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading, decompressing it if it starts with the gzip magic number.
+     */
+    private static InputStream openInputStream(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(Short.BYTES);
+            int magic = in.read() | in.read() << Byte.SIZE;
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    private static List<Student> readStudents(JsonParser parser) throws IOException, IllegalValueException {
+        return readArray(parser, JsonAdaptedStudent.class, JsonSerializableTutorsPet::toModelStudent);
+    }
+
+    private static List<ModuleClass> readModuleClasses(JsonParser parser) throws IOException, IllegalValueException {
+        return readArray(parser, JsonAdaptedModuleClass.class, JsonSerializableTutorsPet::toModelModuleClass);
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser}, binding its elements to {@code adaptedClass}
+     * in batches of {@value #CONVERSION_BATCH_SIZE} and converting each batch in parallel.
+     */
+    private static <T, R> List<R> readArray(JsonParser parser, Class<T> adaptedClass,
+                                            ParallelConverter.Conversion<T, R> conversion)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_INVALID_FORMAT);
+        }
+
+        List<R> converted = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : parser.readValueAs(adaptedClass));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                converted.addAll(ParallelConverter.convertAll(batch, conversion));
+                batch.clear();
+            }
+        }
+        converted.addAll(ParallelConverter.convertAll(batch, conversion));
+        return converted;
+    }
+}
@@ -3,6 +3,7 @@ package tutorspet.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +11,6 @@ import java.util.logging.Logger;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.commons.exceptions.IllegalValueException;
-import tutorspet.commons.util.FileUtil;
-import tutorspet.commons.util.JsonUtil;
 import tutorspet.model.ReadOnlyTutorsPet;
 
 /**
@@ -45,14 +44,16 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
     public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTutorsPet> jsonTutorsPet = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTutorsPet.class);
-        if (!jsonTutorsPet.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonTutorsPet.get().toModelType());
+            return Optional.of(JsonTutorsPetCodec.readTutorsPet(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,7 +74,6 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
         requireNonNull(tutorsPet);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTutorsPet(tutorsPet), filePath);
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
     }
 }
@@ -0,0 +1,346 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.model.lesson.NumberOfOccurrences.isValidNumberOfOccurrences;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.core.index.Index;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.attendance.JsonAdaptedAttendanceRecord;
+import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
+import tutorspet.storage.page.PagedKeyValueStore;
+
+/**
+ * A class to access TutorsPet data stored as records in a {@code PagedKeyValueStore} on the hard disk.
+ * Each student, class and weekly attendance record of a lesson is a json record of its own, keyed by the
+ * student's UUID, the class' name, and the class, lesson and week respectively. The order of the students and
+ * classes is kept in two more records.
+ * Each save only writes the records that changed since the previous save, in place.
+ * Files in the json format are still read, and are replaced by a store on the next save.
+ */
+public class PagedTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String MESSAGE_MISSING_RECORD = "Page file is missing the record: %s";
+
+    private static final String STUDENT_ORDER_KEY = "students";
+    private static final String CLASS_ORDER_KEY = "classes";
+    private static final String STUDENT_KEY_PREFIX = "student/";
+    private static final String CLASS_KEY_PREFIX = "class/";
+    private static final String ATTENDANCE_KEY_PREFIX = "attendance/";
+    private static final String KEY_SEPARATOR = "/";
+    private static final String ORDER_SEPARATOR = "\n";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(PagedTutorsPetStorage.class);
+
+    private final Path filePath;
+
+    // Records that were last written to or read from filePath, by key, or null if unknown.
+    private Map<String, Object> savedRecords;
+    private String savedStudentOrder;
+    private String savedClassOrder;
+
+    public PagedTutorsPetStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Page file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!PagedKeyValueStore.isPageFile(filePath)) {
+                logger.info("Reading " + filePath + " in the json format");
+                return Optional.of(JsonTutorsPetCodec.readTutorsPet(filePath));
+            }
+
+            Map<String, Object> records = new HashMap<>();
+            TutorsPet tutorsPet;
+            String studentOrder;
+            String classOrder;
+            try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+                studentOrder = readString(store, STUDENT_ORDER_KEY);
+                classOrder = readString(store, CLASS_ORDER_KEY);
+                tutorsPet = JsonSerializableTutorsPet.toModelType(readStudents(store, studentOrder, records),
+                        readModuleClasses(store, classOrder, records));
+            }
+
+            if (filePath.equals(this.filePath)) {
+                savedRecords = records;
+                savedStudentOrder = studentOrder;
+                savedClassOrder = classOrder;
+            }
+            return Optional.of(tutorsPet);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from page file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static List<Student> readStudents(PagedKeyValueStore store, String studentOrder,
+                                              Map<String, Object> records)
+            throws IOException, IllegalValueException {
+        List<Student> students = new ArrayList<>();
+        for (String uuid : splitOrder(studentOrder)) {
+            String key = STUDENT_KEY_PREFIX + uuid;
+            Student student = JsonSerializableTutorsPet.toModelStudent(
+                    JsonUtil.fromJsonString(readString(store, key), JsonAdaptedStudent.class));
+            if (!getStudentKey(student).equals(key)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, key));
+            }
+            students.add(student);
+            records.put(key, student);
+        }
+        return students;
+    }
+
+    private static List<ModuleClass> readModuleClasses(PagedKeyValueStore store, String classOrder,
+                                                       Map<String, Object> records)
+            throws IOException, IllegalValueException {
+        List<ModuleClass> moduleClasses = new ArrayList<>();
+        for (String className : splitOrder(classOrder)) {
+            String key = CLASS_KEY_PREFIX + className;
+            JsonAdaptedModuleClass jsonModuleClass =
+                    JsonUtil.fromJsonString(readString(store, key), JsonAdaptedModuleClass.class);
+            if (jsonModuleClass == null) {
+                throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS);
+            }
+
+            List<JsonAdaptedLesson> lessons = new ArrayList<>();
+            for (int i = 0; i < jsonModuleClass.getLessons().size(); i++) {
+                JsonAdaptedLesson lesson = jsonModuleClass.getLessons().get(i);
+                lessons.add(lesson == null ? null
+                        : lesson.withAttendanceRecordList(readAttendanceRecordList(store, className, i, lesson)));
+            }
+
+            ModuleClass moduleClass = JsonSerializableTutorsPet.toModelModuleClass(
+                    jsonModuleClass.withLessons(lessons));
+            if (!getModuleClassKey(moduleClass).equals(key)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, key));
+            }
+            moduleClasses.add(moduleClass);
+            records.put(key, moduleClass);
+            records.putAll(getAttendanceRecords(moduleClass));
+        }
+        return moduleClasses;
+    }
+
+    /**
+     * Reads the attendance of the {@code lessonIndex}-th lesson of the class named {@code className}.
+     * Missing weeks are left out, to be reported when the lesson is converted.
+     */
+    private static JsonAdaptedAttendanceRecordList readAttendanceRecordList(PagedKeyValueStore store,
+            String className, int lessonIndex, JsonAdaptedLesson lesson) throws IOException {
+        List<JsonAdaptedAttendanceRecord> records = new ArrayList<>();
+        if (isValidNumberOfOccurrences(lesson.getNumberOfOccurrences())) {
+            for (int week = 1; week <= lesson.getNumberOfOccurrences(); week++) {
+                byte[] value = store.get(getAttendanceKey(className, lessonIndex, week));
+                if (value != null) {
+                    records.add(JsonUtil.fromJsonString(new String(value, UTF_8), JsonAdaptedAttendanceRecord.class));
+                }
+            }
+        }
+        return new JsonAdaptedAttendanceRecordList(records);
+    }
+
+    private static String readString(PagedKeyValueStore store, String key)
+            throws IOException, IllegalValueException {
+        byte[] value = store.get(key);
+        if (value == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, key));
+        }
+        return new String(value, UTF_8);
+    }
+
+    private static List<String> splitOrder(String order) {
+        return order.isEmpty() ? List.of() : Arrays.asList(order.split(ORDER_SEPARATOR, -1));
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Every record is written if {@code filePath} was not the location of the previous save.
+     * A file that is not a page file is replaced once the new file has been written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        boolean isSameFile = filePath.equals(this.filePath);
+        if (Files.exists(filePath) && PagedKeyValueStore.isPageFile(filePath)) {
+            try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+                writeRecords(store, tutorsPet, isSameFile && savedRecords != null, isSameFile);
+            }
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        Files.deleteIfExists(temporaryPath);
+        Files.deleteIfExists(PagedKeyValueStore.getJournalPath(temporaryPath));
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(temporaryPath)) {
+            writeRecords(store, tutorsPet, false, isSameFile);
+        }
+        FileUtil.replaceFile(temporaryPath, filePath);
+    }
+
+    /**
+     * Writes the records of {@code tutorsPet} to {@code store} and removes all other records.
+     * If {@code isIncremental}, only the records that changed since the previous save are written.
+     * If {@code isRemembered}, the written records are remembered for the next save.
+     */
+    private void writeRecords(PagedKeyValueStore store, ReadOnlyTutorsPet tutorsPet, boolean isIncremental,
+                              boolean isRemembered) throws IOException {
+        Map<String, Object> records = new HashMap<>();
+
+        for (Student student : tutorsPet.getStudentList()) {
+            String key = getStudentKey(student);
+            if (!isIncremental || savedRecords.get(key) != student) {
+                putJson(store, key, new JsonAdaptedStudent(student));
+            }
+            records.put(key, student);
+        }
+
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            String key = getModuleClassKey(moduleClass);
+            if (!isIncremental || savedRecords.get(key) != moduleClass) {
+                JsonAdaptedModuleClass jsonModuleClass = new JsonAdaptedModuleClass(moduleClass);
+                putJson(store, key, jsonModuleClass.withLessons(jsonModuleClass.getLessons().stream()
+                        .map(lesson -> lesson.withAttendanceRecordList(null))
+                        .collect(Collectors.toList())));
+            }
+            records.put(key, moduleClass);
+
+            List<Lesson> lessons = moduleClass.getLessons();
+            for (int i = 0; i < lessons.size(); i++) {
+                List<AttendanceRecord> lessonRecords =
+                        lessons.get(i).getAttendanceRecordList().getAttendanceRecordList();
+                for (int week = 0; week < lessonRecords.size(); week++) {
+                    String attendanceKey = getAttendanceKey(moduleClass.getName().fullName, i, week + 1);
+                    AttendanceRecord record = lessonRecords.get(week);
+                    if (!isIncremental || savedRecords.get(attendanceKey) != record) {
+                        putJson(store, attendanceKey,
+                                new JsonAdaptedAttendanceRecord(new Week(Index.fromZeroBased(week)), record));
+                    }
+                    records.put(attendanceKey, record);
+                }
+            }
+        }
+
+        String studentOrder = joinOrder(tutorsPet.getStudentList().stream()
+                .map(student -> student.getUuid().toString()).collect(Collectors.toList()));
+        if (!isIncremental || !studentOrder.equals(savedStudentOrder)) {
+            store.put(STUDENT_ORDER_KEY, studentOrder.getBytes(UTF_8));
+        }
+        String classOrder = joinOrder(tutorsPet.getModuleClassList().stream()
+                .map(moduleClass -> moduleClass.getName().fullName).collect(Collectors.toList()));
+        if (!isIncremental || !classOrder.equals(savedClassOrder)) {
+            store.put(CLASS_ORDER_KEY, classOrder.getBytes(UTF_8));
+        }
+
+        Collection<String> previousKeys = isIncremental ? savedRecords.keySet() : store.keySet();
+        for (String key : previousKeys) {
+            if (!records.containsKey(key) && !key.equals(STUDENT_ORDER_KEY) && !key.equals(CLASS_ORDER_KEY)) {
+                store.remove(key);
+            }
+        }
+
+        store.commit();
+
+        if (isRemembered) {
+            savedRecords = records;
+            savedStudentOrder = studentOrder;
+            savedClassOrder = classOrder;
+        }
+    }
+
+    private static void putJson(PagedKeyValueStore store, String key, Object jsonAdaptedObject) throws IOException {
+        store.put(key, JsonUtil.toCompactJsonString(jsonAdaptedObject).getBytes(UTF_8));
+    }
+
+    private static String joinOrder(List<String> order) {
+        return String.join(ORDER_SEPARATOR, order);
+    }
+
+    private static String getStudentKey(Student student) {
+        return STUDENT_KEY_PREFIX + student.getUuid();
+    }
+
+    private static String getModuleClassKey(ModuleClass moduleClass) {
+        return CLASS_KEY_PREFIX + moduleClass.getName().fullName;
+    }
+
+    private static String getAttendanceKey(String className, int lessonIndex, int oneBasedWeek) {
+        return ATTENDANCE_KEY_PREFIX + className + KEY_SEPARATOR + lessonIndex + KEY_SEPARATOR + oneBasedWeek;
+    }
+
+    /**
+     * Returns the attendance records of every lesson of {@code moduleClass}, by key.
+     * These are the records that {@link #writeRecords} writes for {@code moduleClass}.
+     */
+    private static Map<String, AttendanceRecord> getAttendanceRecords(ModuleClass moduleClass) {
+        Map<String, AttendanceRecord> records = new HashMap<>();
+        List<Lesson> lessons = moduleClass.getLessons();
+        for (int i = 0; i < lessons.size(); i++) {
+            List<AttendanceRecord> lessonRecords = lessons.get(i).getAttendanceRecordList().getAttendanceRecordList();
+            for (int week = 1; week <= lessonRecords.size(); week++) {
+                records.put(getAttendanceKey(moduleClass.getName().fullName, i, week), lessonRecords.get(week - 1));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,61 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts {@code JsonAdapted*} objects into model objects in parallel on the common fork/join pool.
+ * The results are merged in the order of the sources. If any conversions fail, the error of the first
+ * failing source is reported, so that the outcome does not depend on the order in which conversions finish.
+ */
+class ParallelConverter {
+
+    /** Lists with fewer sources than this are converted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Represents the conversion of a single source.
+     */
+    @FunctionalInterface
+    interface Conversion<T, R> {
+        R convert(T source) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the result of applying {@code conversion} to each of {@code sources}, in order.
+     *
+     * @throws IllegalValueException if the conversion of any source failed.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> List<R> convertAll(List<T> sources, Conversion<T, R> conversion) throws IllegalValueException {
+        int size = sources.size();
+        Object[] results = new Object[size];
+        Exception[] errors = new Exception[size];
+
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                results[i] = conversion.convert(sources.get(i));
+            } catch (IllegalValueException | RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+
+        List<R> converted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (errors[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) errors[i];
+            } else if (errors[i] != null) {
+                throw (RuntimeException) errors[i];
+            }
+            converted.add((R) results[i]);
+        }
+        return converted;
+    }
+}
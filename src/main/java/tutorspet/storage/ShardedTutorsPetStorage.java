@@ -0,0 +1,294 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access TutorsPet data stored as a directory of json shards on the hard disk.
+ * The students are stored in one shard and each class in a shard of its own. A manifest names the shards
+ * that make up the data, and is replaced last, so that a save takes effect all at once.
+ * Each save only writes the shards whose contents changed since the previous save.
+ * Until the first save, the data is read from the json data file that the directory replaces, if there is one.
+ */
+public class ShardedTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Shard manifest refers to an invalid shard: %s";
+
+    private static final String STUDENTS_SHARD_PREFIX = "students-";
+    private static final String CLASS_SHARD_PREFIX = "class-";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Pattern SHARD_FILE_NAME_PATTERN = Pattern.compile("(?:students|class)-(\\d+)\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTutorsPetStorage.class);
+
+    private final Path directoryPath;
+
+    // Shards that were last written to or read from directoryPath, or null if unknown.
+    private List<Student> savedStudents;
+    private String savedStudentsShard;
+    private Map<ModuleClass, String> savedModuleClassShards;
+    private List<String> savedClassShards;
+    private long nextShardId;
+
+    public ShardedTutorsPetStorage(Path directoryPath) {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+    }
+
+    /**
+     * Returns the location of the data directory that replaces the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the location of the json data file that the data directory at {@code directoryPath} replaces,
+     * or null if {@code directoryPath} is not named after a data file.
+     */
+    public static Path getJsonFilePath(Path directoryPath) {
+        String directoryName = directoryPath.getFileName().toString();
+        if (!directoryName.endsWith(SHARD_DIRECTORY_SUFFIX)
+                || directoryName.length() == SHARD_DIRECTORY_SUFFIX.length()) {
+            return null;
+        }
+        return directoryPath.resolveSibling(
+                directoryName.substring(0, directoryName.length() - SHARD_DIRECTORY_SUFFIX.length()));
+    }
+
+    public Path getTutorsPetFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     * If the directory has no manifest, the json data file it replaces is read instead.
+     *
+     * @param directoryPath location of the data directory. Cannot be null.
+     * @throws DataConversionException if the manifest, any shard or the json data file is not in the
+     *     correct format.
+     */
+    public synchronized Optional<ReadOnlyTutorsPet> readTutorsPet(Path directoryPath)
+            throws DataConversionException, IOException {
+        requireNonNull(directoryPath);
+
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        Optional<JsonAdaptedShardManifest> manifest =
+                JsonUtil.readJsonFile(manifestPath, JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return readJsonFile(getJsonFilePath(directoryPath));
+        }
+
+        try {
+            String studentsShard = manifest.get().getStudents();
+            List<Student> students = new ArrayList<>(
+                    JsonTutorsPetCodec.readTutorsPet(resolveShard(directoryPath, studentsShard)).getStudentList());
+
+            List<ModuleClass> moduleClasses = new ArrayList<>();
+            Map<ModuleClass, String> moduleClassShards = new IdentityHashMap<>();
+            for (String classShard : manifest.get().getClasses()) {
+                ModuleClass moduleClass = readModuleClassShard(resolveShard(directoryPath, classShard));
+                moduleClasses.add(moduleClass);
+                moduleClassShards.put(moduleClass, classShard);
+            }
+
+            TutorsPet tutorsPet = JsonSerializableTutorsPet.toModelType(students, moduleClasses);
+
+            if (directoryPath.equals(this.directoryPath)) {
+                savedStudents = students;
+                savedStudentsShard = studentsShard;
+                savedModuleClassShards = moduleClassShards;
+                savedClassShards = new ArrayList<>(manifest.get().getClasses());
+                nextShardId = Math.max(manifest.get().getNextShardId(), findNextShardId(directoryPath));
+            }
+            return Optional.of(tutorsPet);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shards in " + directoryPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the json data file at {@code jsonFilePath}, with the changes in its journal, if there is one.
+     */
+    private static Optional<ReadOnlyTutorsPet> readJsonFile(Path jsonFilePath)
+            throws DataConversionException, IOException {
+        if (jsonFilePath == null) {
+            return Optional.empty();
+        }
+
+        JournaledTutorsPetStorage jsonStorage = new JournaledTutorsPetStorage(jsonFilePath,
+                JournaledTutorsPetStorage.DEFAULT_MAX_JOURNAL_ENTRIES,
+                JournaledTutorsPetStorage.DEFAULT_MAX_JOURNAL_BYTES, Runnable::run);
+        Optional<ReadOnlyTutorsPet> tutorsPet = jsonStorage.readTutorsPet();
+        if (tutorsPet.isPresent()) {
+            logger.info("Read " + jsonFilePath + " in the json format");
+        }
+        return tutorsPet;
+    }
+
+    private static Path resolveShard(Path directoryPath, String shard) throws IllegalValueException {
+        if (shard == null || !SHARD_FILE_NAME_PATTERN.matcher(shard).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_NAME, shard));
+        }
+        return directoryPath.resolve(shard);
+    }
+
+    private static ModuleClass readModuleClassShard(Path shardPath) throws IOException, IllegalValueException {
+        JsonAdaptedModuleClass jsonAdaptedModuleClass =
+                JsonUtil.fromJsonString(FileUtil.readFromFile(shardPath), JsonAdaptedModuleClass.class);
+        if (jsonAdaptedModuleClass == null) {
+            throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS);
+        }
+        return jsonAdaptedModuleClass.toModelType();
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Every shard is written if {@code directoryPath} was not the location of the previous save.
+     *
+     * @param directoryPath location of the data directory. Cannot be null.
+     */
+    public synchronized void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path directoryPath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(directoryPath);
+
+        boolean hasSavedShards = directoryPath.equals(this.directoryPath) && savedStudents != null;
+        Files.createDirectories(directoryPath);
+        long shardId = hasSavedShards ? nextShardId : findNextShardId(directoryPath);
+
+        List<Student> students = new ArrayList<>(tutorsPet.getStudentList());
+        String studentsShard;
+        if (hasSavedShards && isSameInstances(students, savedStudents)) {
+            studentsShard = savedStudentsShard;
+        } else {
+            studentsShard = STUDENTS_SHARD_PREFIX + shardId++ + SHARD_FILE_SUFFIX;
+            TutorsPet studentsOnly = new TutorsPet();
+            studentsOnly.setStudents(students);
+            JsonTutorsPetCodec.writeTutorsPet(studentsOnly, directoryPath.resolve(studentsShard));
+        }
+
+        Map<ModuleClass, String> moduleClassShards = new IdentityHashMap<>();
+        List<String> classShards = new ArrayList<>();
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            String classShard = hasSavedShards ? savedModuleClassShards.get(moduleClass) : null;
+            if (classShard == null) {
+                classShard = CLASS_SHARD_PREFIX + shardId++ + SHARD_FILE_SUFFIX;
+                JsonUtil.saveJsonFile(new JsonAdaptedModuleClass(moduleClass), directoryPath.resolve(classShard));
+            }
+            moduleClassShards.put(moduleClass, classShard);
+            classShards.add(classShard);
+        }
+
+        if (hasSavedShards && shardId == nextShardId && classShards.equals(savedClassShards)) {
+            return;
+        }
+
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        Path temporaryPath = directoryPath.resolve(MANIFEST_FILE_NAME + TEMPORARY_FILE_SUFFIX);
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(studentsShard, classShards, shardId), temporaryPath);
+        FileUtil.replaceFile(temporaryPath, manifestPath);
+
+        if (directoryPath.equals(this.directoryPath)) {
+            savedStudents = students;
+            savedStudentsShard = studentsShard;
+            savedModuleClassShards = moduleClassShards;
+            savedClassShards = classShards;
+            nextShardId = shardId;
+        }
+
+        Set<String> referencedShards = new HashSet<>(classShards);
+        referencedShards.add(studentsShard);
+        deleteUnreferencedShards(directoryPath, referencedShards);
+    }
+
+    private static boolean isSameInstances(List<?> list, List<?> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an id that is larger than that of every shard in {@code directoryPath}.
+     */
+    private static long findNextShardId(Path directoryPath) throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return 1;
+        }
+
+        long nextShardId = 1;
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Matcher matcher = SHARD_FILE_NAME_PATTERN.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    nextShardId = Math.max(nextShardId, Long.parseLong(matcher.group(1)) + 1);
+                }
+            }
+        }
+        return nextShardId;
+    }
+
+    /**
+     * Deletes the shards in {@code directoryPath} that are no longer named by the manifest.
+     * Failures are logged and otherwise ignored, as the shards are not part of the saved data.
+     */
+    private static void deleteUnreferencedShards(Path directoryPath, Set<String> referencedShards) {
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                String fileName = path.getFileName().toString();
+                if (SHARD_FILE_NAME_PATTERN.matcher(fileName).matches() && !referencedShards.contains(fileName)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error deleting unused shards in " + directoryPath + ": " + ioe);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package tutorspet.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import tutorspet.commons.exceptions.DataConversionException;
@@ -12,7 +14,7 @@ import tutorspet.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends TutorsPetStorage, UserPrefsStorage {
+public interface Storage extends TutorsPetStorage, UserPrefsStorage, BackupStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -23,9 +25,32 @@ public interface Storage extends TutorsPetStorage, UserPrefsStorage {
     @Override
     Path getTutorsPetFilePath();
 
+    /**
+     * Returns the storage of the data file.
+     */
+    TutorsPetStorage getTutorsPetStorage();
+
+    /**
+     * Replaces the storage of the data file with {@code tutorsPetStorage}, and keeps backups next to its data file
+     * from then on.
+     */
+    void setTutorsPetStorage(TutorsPetStorage tutorsPetStorage);
+
     @Override
     Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException;
 
     @Override
     void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException;
+
+    @Override
+    String backUpTutorsPet(ReadOnlyTutorsPet tutorsPet, Instant time) throws IOException;
+
+    @Override
+    List<String> getBackupIds() throws IOException;
+
+    @Override
+    Optional<ReadOnlyTutorsPet> readBackup(String backupId) throws DataConversionException, IOException;
+
+    @Override
+    void pruneBackups(Instant time) throws IOException;
 }
@@ -1,7 +1,11 @@
 package tutorspet.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -19,14 +23,27 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TutorsPetStorage tutorsPetStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackupStorage backupStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TutorsPetStorage} and {@code UserPrefStorage}.
+     * Backups are kept in a directory next to the data of {@code tutorsPetStorage}.
      */
     public StorageManager(TutorsPetStorage tutorsPetStorage, UserPrefsStorage userPrefsStorage) {
+        this(tutorsPetStorage, userPrefsStorage, new ChunkedBackupStorage(
+                ChunkedBackupStorage.getBackupDirectoryPath(tutorsPetStorage.getTutorsPetFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code TutorsPetStorage}, {@code UserPrefStorage} and
+     * {@code BackupStorage}.
+     */
+    public StorageManager(TutorsPetStorage tutorsPetStorage, UserPrefsStorage userPrefsStorage,
+                          BackupStorage backupStorage) {
         super();
         this.tutorsPetStorage = tutorsPetStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backupStorage = backupStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -49,6 +66,21 @@ public class StorageManager implements Storage {
 
     // ================ TutorsPet methods ==============================
 
+    @Override
+    public TutorsPetStorage getTutorsPetStorage() {
+        return tutorsPetStorage;
+    }
+
+    @Override
+    public void setTutorsPetStorage(TutorsPetStorage tutorsPetStorage) {
+        requireNonNull(tutorsPetStorage);
+
+        logger.fine("Switching to data file: " + tutorsPetStorage.getTutorsPetFilePath());
+        this.tutorsPetStorage = tutorsPetStorage;
+        backupStorage = new ChunkedBackupStorage(
+                ChunkedBackupStorage.getBackupDirectoryPath(tutorsPetStorage.getTutorsPetFilePath()));
+    }
+
     @Override
     public Path getTutorsPetFilePath() {
         return tutorsPetStorage.getTutorsPetFilePath();
@@ -75,4 +107,33 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         tutorsPetStorage.saveTutorsPet(tutorsPet, filePath);
     }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public Path getBackupDirectoryPath() {
+        return backupStorage.getBackupDirectoryPath();
+    }
+
+    @Override
+    public String backUpTutorsPet(ReadOnlyTutorsPet tutorsPet, Instant time) throws IOException {
+        logger.fine("Attempting to back up data to: " + backupStorage.getBackupDirectoryPath());
+        return backupStorage.backUpTutorsPet(tutorsPet, time);
+    }
+
+    @Override
+    public List<String> getBackupIds() throws IOException {
+        return backupStorage.getBackupIds();
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readBackup(String backupId) throws DataConversionException, IOException {
+        logger.fine("Attempting to read backup: " + backupId);
+        return backupStorage.readBackup(backupId);
+    }
+
+    @Override
+    public void pruneBackups(Instant time) throws IOException {
+        backupStorage.pruneBackups(time);
+    }
 }
@@ -0,0 +1,88 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of values for immutable objects, keyed by the identity of the object rather than by its equality.
+ * The objects are only weakly referenced, so an entry is dropped once its object is no longer used elsewhere.
+ * <p>
+ * The cache is thread-safe.
+ */
+class WeakIdentityCache<K, V> {
+
+    private final Map<IdentityWeakReference<K>, V> entries = new HashMap<>();
+    private final ReferenceQueue<K> staleKeys = new ReferenceQueue<>();
+
+    /**
+     * Returns the value cached for {@code key}, or null if there is none.
+     */
+    public synchronized V get(K key) {
+        requireNonNull(key);
+
+        expungeStaleEntries();
+        return entries.get(new IdentityWeakReference<>(key, null));
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, replacing the value cached for it if there is one.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+
+        expungeStaleEntries();
+        entries.put(new IdentityWeakReference<>(key, staleKeys), value);
+    }
+
+    /**
+     * Returns the number of entries in the cache, excluding those whose object is known to be no longer used.
+     */
+    public synchronized int size() {
+        expungeStaleEntries();
+        return entries.size();
+    }
+
+    private void expungeStaleEntries() {
+        for (Reference<? extends K> staleKey = staleKeys.poll(); staleKey != null; staleKey = staleKeys.poll()) {
+            entries.remove(staleKey);
+        }
+    }
+
+    /**
+     * A weak reference that is equal to another only if both refer to the same object.
+     * A cleared reference is only equal to itself.
+     */
+    private static class IdentityWeakReference<T> extends WeakReference<T> {
+
+        private final int hashCode;
+
+        private IdentityWeakReference(T referent, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityWeakReference)) {
+                return false;
+            }
+
+            Object referent = get();
+            return referent != null && referent == ((IdentityWeakReference<?>) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class JsonAdaptedAttendanceRecord {
     public static final String MESSAGE_INVALID_ATTENDANCE = "Attendance record contains invalid value(s).";
 
     private final int week;
+    @JsonProperty("records")
     private final List<JsonAdaptedStudentAttendance> attendances = new ArrayList<>();
 
     /**
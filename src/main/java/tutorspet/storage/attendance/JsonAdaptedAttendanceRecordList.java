@@ -1,18 +1,30 @@
 package tutorspet.storage.attendance;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.nCopies;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import javafx.util.Pair;
 import tutorspet.commons.core.index.Index;
 import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
 import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordCache;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
 
@@ -24,6 +36,9 @@ public class JsonAdaptedAttendanceRecordList {
     public static final String MESSAGE_DUPLICATE_ATTENDANCE_RECORD = "Attendance list contains duplicate record(s).";
     public static final String MESSAGE_INVALID_RECORD = "Attendance list contains invalid record(s).";
     public static final String MESSAGE_MISSING_ATTENDANCE_RECORD_LIST = "Attendance list data is corrupted.";
+    public static final String MESSAGE_INVALID_STUDENTS = "Invalid student(s) found in lesson(s).";
+
+    private static final String RECORD_LIST_FIELD = "recordList";
 
     private final List<JsonAdaptedAttendanceRecord> recordList = new ArrayList<>();
 
@@ -82,4 +97,115 @@ public class JsonAdaptedAttendanceRecordList {
 
         return new AttendanceRecordList(attendanceRecords);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted attendance record list object into the model's
+     * {@code AttendanceRecordList} object, whose attendances must all be of students with {@code studentUuids}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted attendance records.
+     */
+    public AttendanceRecordList toModelType(Set<UUID> studentUuids) throws IllegalValueException {
+        AttendanceRecordList attendanceRecordList = toModelType();
+        for (AttendanceRecord record : attendanceRecordList.getAttendanceRecordList()) {
+            if (!studentUuids.containsAll(record.getAttendanceRecord().keySet())) {
+                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS);
+            }
+        }
+        return attendanceRecordList;
+    }
+
+    /**
+     * Binds an attendance record list, as it was written by {@link JsonAdaptedAttendanceRecordList}, to an
+     * adapted list whose records are only bound and converted when they are first accessed. The records are then
+     * kept in the {@code AttendanceRecordCache} that is given as the attribute {@code AttendanceRecordCache.class}.
+     * The list is bound at once if there is no such attribute.
+     */
+    public static class Deserializer extends JsonDeserializer<JsonAdaptedAttendanceRecordList> {
+
+        @Override
+        public JsonAdaptedAttendanceRecordList deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            Object cache = context.getAttribute(AttendanceRecordCache.class);
+            if (!(cache instanceof AttendanceRecordCache)) {
+                return context.readValue(parser, JsonAdaptedAttendanceRecordList.class);
+            }
+
+            // The list is kept as its json, with the number of records counted as it is copied
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            int numberOfRecords = 0;
+            try (JsonGenerator generator = parser.getCodec().getFactory().createGenerator(json)) {
+                int depth = 0;
+                boolean isInRecordList = false;
+                do {
+                    JsonToken token = parser.getCurrentToken();
+                    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                        if (depth == 1) {
+                            isInRecordList = RECORD_LIST_FIELD.equals(parser.getCurrentName());
+                        } else if (depth == 2 && isInRecordList) {
+                            numberOfRecords++;
+                        }
+                        depth++;
+                    } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                        depth--;
+                    }
+                    generator.copyCurrentEvent(parser);
+                } while (depth > 0 && parser.nextToken() != null);
+            }
+            return new UnboundAttendanceRecordList(json.toByteArray(), numberOfRecords, (AttendanceRecordCache) cache);
+        }
+    }
+
+    /**
+     * An adapted attendance record list that is kept as json until its records are needed.
+     */
+    private static class UnboundAttendanceRecordList extends JsonAdaptedAttendanceRecordList {
+
+        private final byte[] json;
+        private final int numberOfRecords;
+        private final AttendanceRecordCache cache;
+
+        private UnboundAttendanceRecordList(byte[] json, int numberOfRecords, AttendanceRecordCache cache) {
+            super((List<JsonAdaptedAttendanceRecord>) null);
+            this.json = json;
+            this.numberOfRecords = numberOfRecords;
+            this.cache = cache;
+        }
+
+        @Override
+        public AttendanceRecordList toModelType() throws IllegalValueException {
+            return bind().toModelType();
+        }
+
+        /**
+         * Returns an {@code AttendanceRecordList} of the {@code numberOfRecords} records counted in the json, which
+         * are only kept once they are first accessed.
+         * The records are checked against the data constraints at once, as an invalid file must be rejected when it
+         * is read, but the converted records are not kept.
+         */
+        @Override
+        public AttendanceRecordList toModelType(Set<UUID> studentUuids) throws IllegalValueException {
+            bind().toModelType(studentUuids);
+            return new AttendanceRecordList(numberOfRecords, () -> load(studentUuids), cache);
+        }
+
+        private List<AttendanceRecord> load(Set<UUID> studentUuids) {
+            try {
+                List<AttendanceRecord> records = bind().toModelType(studentUuids).getAttendanceRecordList();
+                if (records.size() != numberOfRecords) {
+                    throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+                }
+                return records;
+            } catch (IllegalValueException ive) {
+                throw new IllegalArgumentException(ive.getMessage(), ive);
+            }
+        }
+
+        private JsonAdaptedAttendanceRecordList bind() throws IllegalValueException {
+            try {
+                return JsonUtil.fromJsonString(new String(json, UTF_8), JsonAdaptedAttendanceRecordList.class);
+            } catch (IOException ioe) {
+                throw new IllegalValueException(MESSAGE_MISSING_ATTENDANCE_RECORD_LIST, ioe);
+            }
+        }
+    }
 }
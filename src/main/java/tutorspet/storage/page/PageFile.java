@@ -0,0 +1,314 @@
+package tutorspet.storage.page;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A file of fixed-size pages that are updated in place.
+ * Page 0 is the header, which holds the number of pages and the head of the list of free pages.
+ * <p>
+ * Changes are grouped into transactions that end with {@link #commit()}. Before a page that existed at the
+ * start of a transaction is first overwritten, its original contents are appended to a rollback journal
+ * next to the file. If a transaction does not complete, the journal is played back the next time the file
+ * is opened, restoring the file to its state at the start of that transaction.
+ */
+class PageFile implements Closeable {
+
+    static final int PAGE_SIZE = 4096;
+    static final int HEADER_PAGE = 0;
+
+    static final String MESSAGE_NOT_PAGE_FILE = "Not a Tutor's Pet page file.";
+    static final String MESSAGE_CORRUPTED_PAGE_FILE = "Page file is corrupted.";
+
+    private static final int MAGIC_NUMBER = 0x54505047;
+    private static final int VERSION = 1;
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final FileChannel channel;
+
+    private int pageCount;
+    private int freeListHead;
+
+    // State of the current transaction.
+    private int committedPageCount;
+    private final Set<Integer> journaledPages = new HashSet<>();
+    private FileChannel journal;
+
+    private PageFile(Path filePath, FileChannel channel) {
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, creating an empty one with {@code reservedPages} zeroed pages
+     * after the header if it does not exist.
+     *
+     * @throws IOException if the file could not be opened or is not a page file.
+     */
+    static PageFile open(Path filePath, int reservedPages) throws IOException {
+        requireNonNull(filePath);
+
+        boolean isNewFile = !Files.exists(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        PageFile pageFile = new PageFile(filePath, channel);
+        try {
+            if (isNewFile) {
+                pageFile.pageCount = 1 + reservedPages;
+                pageFile.freeListHead = 0;
+                pageFile.writeHeader();
+                writeFully(channel, ByteBuffer.allocate(reservedPages * PAGE_SIZE), PAGE_SIZE);
+                channel.force(true);
+            } else {
+                pageFile.rollBack();
+                pageFile.readHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        pageFile.committedPageCount = pageFile.pageCount;
+        return pageFile;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the header of a page file.
+     */
+    static boolean isPageFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the magic number is read in full or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC_NUMBER;
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns the contents of page {@code pageNumber}.
+     */
+    ByteBuffer readPage(int pageNumber) throws IOException {
+        checkPageNumber(pageNumber);
+
+        return readPageAt(pageNumber);
+    }
+
+    /**
+     * Replaces the contents of page {@code pageNumber} with the {@code PAGE_SIZE} bytes remaining in {@code page}.
+     */
+    void writePage(int pageNumber, ByteBuffer page) throws IOException {
+        checkPageNumber(pageNumber);
+        assert page.remaining() == PAGE_SIZE;
+
+        journalPage(pageNumber);
+        writeFully(channel, page.duplicate(), (long) pageNumber * PAGE_SIZE);
+    }
+
+    /**
+     * Returns the number of a page that is not in use, taking it from the free list if possible.
+     */
+    int allocatePage() throws IOException {
+        if (freeListHead == 0) {
+            return pageCount++;
+        }
+
+        int pageNumber = freeListHead;
+        int nextFreePage = readPage(pageNumber).getInt();
+        if (nextFreePage != 0) {
+            checkPageNumber(nextFreePage);
+        }
+        freeListHead = nextFreePage;
+        return pageNumber;
+    }
+
+    /**
+     * Adds page {@code pageNumber} to the free list.
+     */
+    void freePage(int pageNumber) throws IOException {
+        ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+        page.putInt(0, freeListHead);
+        writePage(pageNumber, page);
+        freeListHead = pageNumber;
+    }
+
+    /**
+     * Ends the current transaction, making its changes durable.
+     */
+    void commit() throws IOException {
+        writeHeader();
+        channel.force(true);
+
+        if (journal != null) {
+            journal.close();
+            journal = null;
+            Files.delete(journalPath);
+        }
+        journaledPages.clear();
+        committedPageCount = pageCount;
+    }
+
+    /**
+     * Closes the file. Changes since the last {@link #commit()} are rolled back when the file is next opened.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void checkPageNumber(int pageNumber) throws IOException {
+        if (pageNumber <= HEADER_PAGE || pageNumber >= pageCount) {
+            throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+        }
+    }
+
+    /**
+     * Appends the original contents of page {@code pageNumber} to the journal, if the page existed at the start
+     * of the current transaction and has not been journaled yet.
+     */
+    private void journalPage(int pageNumber) throws IOException {
+        if (pageNumber >= committedPageCount || journaledPages.contains(pageNumber)) {
+            return;
+        }
+
+        if (journal == null) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer journalHeader = ByteBuffer.allocate(Integer.BYTES).putInt(0, committedPageCount);
+            writeFully(journal, journalHeader);
+        }
+
+        ByteBuffer original = readPageAt(pageNumber);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + PAGE_SIZE);
+        record.putInt(pageNumber).put(original).flip();
+        writeFully(journal, record);
+        journal.force(false);
+        journaledPages.add(pageNumber);
+    }
+
+    /**
+     * Restores the pages saved in the journal of an incomplete transaction, if there is one.
+     * A record that was not written in full is ignored, as its page was not overwritten yet.
+     */
+    private void rollBack() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try (FileChannel journalChannel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            ByteBuffer journalHeader = ByteBuffer.allocate(Integer.BYTES);
+            if (readFully(journalChannel, journalHeader)) {
+                int originalPageCount = journalHeader.getInt(0);
+                ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + PAGE_SIZE);
+                while (readFully(journalChannel, record)) {
+                    int pageNumber = record.getInt(0);
+                    if (pageNumber < 0 || pageNumber >= originalPageCount) {
+                        throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+                    }
+                    record.position(Integer.BYTES);
+                    writeFully(channel, record, (long) pageNumber * PAGE_SIZE);
+                    record.clear();
+                }
+                channel.truncate((long) originalPageCount * PAGE_SIZE);
+                channel.force(true);
+            }
+        }
+        Files.delete(journalPath);
+    }
+
+    /**
+     * Returns the contents of page {@code pageNumber}, which may be the header.
+     */
+    private ByteBuffer readPageAt(int pageNumber) throws IOException {
+        ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+        long position = (long) pageNumber * PAGE_SIZE;
+        while (page.hasRemaining()) {
+            int read = channel.read(page, position);
+            if (read < 0) {
+                throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+            }
+            position += read;
+        }
+        page.flip();
+        return page;
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = readPageAt(HEADER_PAGE);
+        if (header.getInt() != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_PAGE_FILE);
+        }
+        if (header.getInt() != VERSION || header.getInt() != PAGE_SIZE) {
+            throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+        }
+        pageCount = header.getInt();
+        freeListHead = header.getInt();
+        if (pageCount <= HEADER_PAGE || (long) pageCount * PAGE_SIZE > channel.size()
+                || freeListHead < 0 || freeListHead >= pageCount) {
+            throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        journalPage(HEADER_PAGE);
+        ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+        header.putInt(MAGIC_NUMBER).putInt(VERSION).putInt(PAGE_SIZE).putInt(pageCount).putInt(freeListHead);
+        header.clear();
+        writeFully(channel, header, 0);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Fills {@code buffer} from the current position of {@code channel}.
+     * Returns false if the channel ended before the buffer was filled.
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return filePath.toString();
+    }
+}
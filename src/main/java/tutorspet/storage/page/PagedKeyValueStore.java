@@ -0,0 +1,293 @@
+package tutorspet.storage.page;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.page.PageFile.MESSAGE_CORRUPTED_PAGE_FILE;
+import static tutorspet.storage.page.PageFile.PAGE_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A store of byte values by string key, kept in a {@code PageFile}.
+ * <p>
+ * Each value is stored in a chain of pages, which is rewritten in place when the value changes, so that
+ * changing a value only writes the pages of that value. Pages that are no longer used are put on the free list
+ * of the page file and used again for later values.
+ * The keys are indexed by a hash table with a fixed number of buckets. The table of bucket heads is kept in
+ * page 1, and each bucket is a chain of pages that lists the head page of the value of each of its keys.
+ * A bucket is only rewritten when a key in it is added or removed.
+ * <p>
+ * Changes are made durable by {@link #commit()}. Changes that are not committed are rolled back.
+ */
+public class PagedKeyValueStore implements Closeable {
+
+    public static final int BUCKET_COUNT = PAGE_SIZE / Integer.BYTES;
+
+    private static final int BUCKET_TABLE_PAGE = 1;
+    private static final int CHAIN_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int CHAIN_PAYLOAD_SIZE = PAGE_SIZE - CHAIN_HEADER_SIZE;
+
+    private final PageFile pageFile;
+    private final int[] bucketHeads = new int[BUCKET_COUNT];
+    private final List<Map<String, Integer>> buckets = new ArrayList<>(BUCKET_COUNT);
+    private final Set<Integer> changedBuckets = new HashSet<>();
+
+    private PagedKeyValueStore(PageFile pageFile) {
+        this.pageFile = pageFile;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Opens the store in the file at {@code filePath}, creating an empty store if the file does not exist.
+     * Changes that were not committed when the file was last used are rolled back.
+     *
+     * @throws IOException if the file could not be read or is not a valid store.
+     */
+    public static PagedKeyValueStore open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        PageFile pageFile = PageFile.open(filePath, BUCKET_TABLE_PAGE);
+        PagedKeyValueStore store = new PagedKeyValueStore(pageFile);
+        try {
+            store.readBuckets();
+        } catch (IOException | RuntimeException e) {
+            pageFile.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a page file.
+     */
+    public static boolean isPageFile(Path filePath) throws IOException {
+        return PageFile.isPageFile(filePath);
+    }
+
+    /**
+     * Returns the location of the rollback journal of the store at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return PageFile.getJournalPath(filePath);
+    }
+
+    /**
+     * Returns the number of pages in the file, including the pages on the free list.
+     */
+    public int getPageCount() {
+        return pageFile.getPageCount();
+    }
+
+    /**
+     * Returns all keys in the store.
+     */
+    public Set<String> keySet() {
+        Set<String> keys = new HashSet<>();
+        buckets.forEach(bucket -> keys.addAll(bucket.keySet()));
+        return keys;
+    }
+
+    /**
+     * Returns the value stored under {@code key}, or null if there is none.
+     */
+    public byte[] get(String key) throws IOException {
+        requireNonNull(key);
+
+        Integer head = getBucket(key).get(key);
+        return head == null ? null : readChain(head);
+    }
+
+    /**
+     * Stores {@code value} under {@code key}, replacing the existing value if there is one.
+     */
+    public void put(String key, byte[] value) throws IOException {
+        requireNonNull(key);
+        requireNonNull(value);
+
+        Map<String, Integer> bucket = getBucket(key);
+        Integer head = bucket.get(key);
+        int newHead = writeChain(head == null ? 0 : head, value);
+        if (head == null || head != newHead) {
+            bucket.put(key, newHead);
+            changedBuckets.add(getBucketIndex(key));
+        }
+    }
+
+    /**
+     * Removes the value stored under {@code key}, if there is one.
+     */
+    public void remove(String key) throws IOException {
+        requireNonNull(key);
+
+        Integer head = getBucket(key).remove(key);
+        if (head != null) {
+            freeChain(head);
+            changedBuckets.add(getBucketIndex(key));
+        }
+    }
+
+    /**
+     * Writes the changed buckets and makes all changes since the last commit durable.
+     */
+    public void commit() throws IOException {
+        boolean isBucketTableChanged = false;
+        for (int bucketIndex : changedBuckets) {
+            int head = bucketHeads[bucketIndex];
+            Map<String, Integer> bucket = buckets.get(bucketIndex);
+            int newHead;
+            if (bucket.isEmpty()) {
+                if (head != 0) {
+                    freeChain(head);
+                }
+                newHead = 0;
+            } else {
+                newHead = writeChain(head, serializeBucket(bucket));
+            }
+            if (newHead != head) {
+                bucketHeads[bucketIndex] = newHead;
+                isBucketTableChanged = true;
+            }
+        }
+        changedBuckets.clear();
+
+        if (isBucketTableChanged) {
+            ByteBuffer bucketTable = ByteBuffer.allocate(PAGE_SIZE);
+            bucketTable.asIntBuffer().put(bucketHeads);
+            pageFile.writePage(BUCKET_TABLE_PAGE, bucketTable);
+        }
+        pageFile.commit();
+    }
+
+    /**
+     * Closes the store. Changes since the last {@link #commit()} are discarded.
+     */
+    @Override
+    public void close() throws IOException {
+        pageFile.close();
+    }
+
+    private static int getBucketIndex(String key) {
+        return Math.floorMod(key.hashCode(), BUCKET_COUNT);
+    }
+
+    private Map<String, Integer> getBucket(String key) {
+        return buckets.get(getBucketIndex(key));
+    }
+
+    private void readBuckets() throws IOException {
+        pageFile.readPage(BUCKET_TABLE_PAGE).asIntBuffer().get(bucketHeads);
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            if (bucketHeads[bucketIndex] == 0) {
+                continue;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(readChain(bucketHeads[bucketIndex])));
+            int entryCount = in.readInt();
+            if (entryCount < 0) {
+                throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+            }
+            for (int i = 0; i < entryCount; i++) {
+                String key = in.readUTF();
+                int head = in.readInt();
+                if (getBucketIndex(key) != bucketIndex || buckets.get(bucketIndex).put(key, head) != null) {
+                    throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+                }
+            }
+        }
+    }
+
+    private static byte[] serializeBucket(Map<String, Integer> bucket) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(bucket.size());
+        for (Map.Entry<String, Integer> entry : bucket.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the pages of the chain starting at page {@code head}, in order.
+     */
+    private List<Integer> readChainPages(int head) throws IOException {
+        List<Integer> pages = new ArrayList<>();
+        for (int page = head; page != 0; page = pageFile.readPage(page).getInt()) {
+            // A chain cannot be longer than the file, unless it is a cycle
+            if (pages.size() >= pageFile.getPageCount()) {
+                throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+            }
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private byte[] readChain(int head) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int pagesRead = 0;
+        for (int pageNumber = head; pageNumber != 0; pagesRead++) {
+            if (pagesRead >= pageFile.getPageCount()) {
+                throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+            }
+
+            ByteBuffer page = pageFile.readPage(pageNumber);
+            pageNumber = page.getInt();
+            int length = page.getInt();
+            if (length < 0 || length > CHAIN_PAYLOAD_SIZE) {
+                throw new IOException(MESSAGE_CORRUPTED_PAGE_FILE);
+            }
+            data.write(page.array(), page.position(), length);
+        }
+        return data.toByteArray();
+    }
+
+    /**
+     * Writes {@code data} to the chain starting at page {@code head}, or to a new chain if {@code head} is 0.
+     * The pages of the existing chain are reused, and those that are not needed are freed.
+     *
+     * @return the head page of the written chain.
+     */
+    private int writeChain(int head, byte[] data) throws IOException {
+        List<Integer> existingPages = head == 0 ? List.of() : readChainPages(head);
+        int pageCount = Math.max(1, (data.length + CHAIN_PAYLOAD_SIZE - 1) / CHAIN_PAYLOAD_SIZE);
+
+        int[] pages = new int[pageCount];
+        for (int i = 0; i < pageCount; i++) {
+            pages[i] = i < existingPages.size() ? existingPages.get(i) : pageFile.allocatePage();
+        }
+        for (int i = pageCount; i < existingPages.size(); i++) {
+            pageFile.freePage(existingPages.get(i));
+        }
+
+        for (int i = 0; i < pageCount; i++) {
+            int offset = i * CHAIN_PAYLOAD_SIZE;
+            int length = Math.min(CHAIN_PAYLOAD_SIZE, data.length - offset);
+            ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+            page.putInt(i + 1 < pageCount ? pages[i + 1] : 0).putInt(length).put(data, offset, length);
+            page.clear();
+            pageFile.writePage(pages[i], page);
+        }
+        return pages[0];
+    }
+
+    private void freeChain(int head) throws IOException {
+        for (int page : readChainPages(head)) {
+            pageFile.freePage(page);
+        }
+    }
+}
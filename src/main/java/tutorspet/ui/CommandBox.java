@@ -96,6 +96,17 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Enables or disables the entering of commands.
+     * The command box takes the focus when it is enabled.
+     */
+    void setInputEnabled(boolean isEnabled) {
+        commandTextField.setDisable(!isEnabled);
+        if (isEnabled) {
+            commandTextField.requestFocus();
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
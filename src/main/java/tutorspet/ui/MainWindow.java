@@ -28,6 +28,8 @@ import tutorspet.ui.stylesheet.exceptions.StylesheetException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading data...";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -39,6 +41,7 @@ public class MainWindow extends UiPart<Stage> {
     private StudentListPanel studentListPanel;
     private ModuleClassListPanel moduleClassListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
     private Stylesheet stylesheet;
 
@@ -134,10 +137,26 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTutorsPetFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows that the data is still loading, and disables command input until it is loaded.
+     */
+    void showLoading() {
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        commandBox.setInputEnabled(false);
+    }
+
+    /**
+     * Clears the loading message and enables command input.
+     */
+    void showDataLoaded() {
+        resultDisplay.setFeedbackToUser("");
+        commandBox.setInputEnabled(true);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -223,7 +242,7 @@ public class MainWindow extends UiPart<Stage> {
      *
      * @see tutorspet.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -9,4 +9,13 @@ public interface Ui {
 
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
+
+    /** Shows the data that has finished loading, and accepts commands from then on. */
+    void showDataLoaded();
+
+    /** Executes {@code commandText} as if it was entered by the user, and shows its result. */
+    void executeCommand(String commandText);
+
+    /** Shows the error {@code e} that stopped the data from loading, and exits the App. */
+    void showDataLoadFailure(Throwable e);
 }
@@ -11,6 +11,8 @@ import tutorspet.MainApp;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.util.StringUtil;
 import tutorspet.logic.Logic;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
 
 /**
  * The manager of the UI component.
@@ -44,12 +46,33 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); // This should be called before creating other UI parts.
             mainWindow.fillInnerParts();
+            mainWindow.showLoading();
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
 
+    @Override
+    public void showDataLoaded() {
+        logger.info("Data loaded");
+        mainWindow.showDataLoaded();
+    }
+
+    @Override
+    public void executeCommand(String commandText) {
+        try {
+            mainWindow.executeCommand(commandText);
+        } catch (CommandException | ParseException e) {
+            // The error is already shown in the main window
+        }
+    }
+
+    @Override
+    public void showDataLoadFailure(Throwable e) {
+        showFatalErrorDialogAndShutdown("Fatal error while loading data", e);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
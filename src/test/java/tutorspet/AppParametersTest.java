@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,6 +40,59 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "setup.txt");
+        expected.setScriptPath(Paths.get("setup.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validPort_success() {
+        parametersStub.namedParameters.put("port", "8080");
+        expected.setPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidPort_success() {
+        parametersStub.namedParameters.put("port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("port", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("setup.txt"));
+        assertEquals(expected, AppParameters.parse(
+                Arrays.asList("--headless", "--config=config.json", "--script=setup.txt")));
+    }
+
+    @Test
+    public void parse_rawParametersNotNamed_ignored() {
+        assertEquals(expected, AppParameters.parse(
+                Arrays.asList("--headless", "config=config.json", "--=a", "--script")));
+    }
+
+    @Test
+    public void parse_rawParametersInvalidPath_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--config=config.json", "--script=a\0")));
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
@@ -49,6 +103,16 @@ public class AppParametersTest {
 
         // different objects -> returns false
         assertFalse(expected.equals(parametersStub));
+
+        // different script path -> returns false
+        AppParameters withScript = new AppParameters();
+        withScript.setScriptPath(Paths.get("setup.txt"));
+        assertFalse(expected.equals(withScript));
+
+        // different port -> returns false
+        AppParameters withPort = new AppParameters();
+        withPort.setPort(8080);
+        assertFalse(expected.equals(withPort));
     }
 
     @Test
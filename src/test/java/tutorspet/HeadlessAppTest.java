@@ -0,0 +1,126 @@
+package tutorspet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.HeadlessApp.EXIT_FAILURE;
+import static tutorspet.HeadlessApp.EXIT_SUCCESS;
+import static tutorspet.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.core.Config;
+import tutorspet.commons.util.ConfigUtil;
+import tutorspet.logic.commands.ExitCommand;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.student.AddStudentCommand;
+import tutorspet.logic.commands.student.ClearStudentCommand;
+import tutorspet.logic.commands.student.FindStudentCommand;
+import tutorspet.logic.commands.student.ListStudentCommand;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JsonUserPrefsStorage;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY_COMMAND =
+            AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+    private AppParameters appParameters;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTutorsPetFilePath(temporaryFolder.resolve("tutorspet.json"));
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+
+        appParameters = new AppParameters();
+        appParameters.setConfigPath(configFilePath);
+    }
+
+    @Test
+    public void run_validCommands_resultsWritten() {
+        String input = ClearStudentCommand.COMMAND_WORD + "\n"
+                + "\n"
+                + "# a comment\n"
+                + ADD_AMY_COMMAND + "\n"
+                + FindStudentCommand.COMMAND_WORD + " amy\n";
+
+        assertEquals(EXIT_SUCCESS, run(input));
+        String[] lines = getOutput(output).split("\n");
+        assertEquals(ClearStudentCommand.MESSAGE_SUCCESS, lines[0]);
+        assertEquals(String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1), lines[lines.length - 1]);
+        assertEquals("", getOutput(errorOutput));
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndRestRun() {
+        String input = "unknown\n" + ListStudentCommand.COMMAND_WORD + "\n";
+
+        assertEquals(EXIT_FAILURE, run(input));
+        assertEquals(ListStudentCommand.MESSAGE_SUCCESS + "\n", getOutput(output));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + "\n", getOutput(errorOutput));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() {
+        String input = ExitCommand.COMMAND_WORD + "\n" + ListStudentCommand.COMMAND_WORD + "\n";
+
+        assertEquals(EXIT_SUCCESS, run(input));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n", getOutput(output));
+    }
+
+    @Test
+    public void run_changesSaved_changesLoadedOnNextRun() {
+        run(ClearStudentCommand.COMMAND_WORD + "\n" + ADD_AMY_COMMAND + "\n");
+        output.reset();
+
+        assertEquals(EXIT_SUCCESS, run(FindStudentCommand.COMMAND_WORD + " amy\n"));
+        assertEquals(String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1) + "\n", getOutput(output));
+    }
+
+    @Test
+    public void run_script_scriptRunInsteadOfInput() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, ClearStudentCommand.COMMAND_WORD + "\n" + ADD_AMY_COMMAND + "\n");
+        appParameters.setScriptPath(scriptPath);
+
+        assertEquals(EXIT_SUCCESS, run(ListStudentCommand.COMMAND_WORD + "\n"));
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptPath) + "\n", getOutput(output));
+    }
+
+    /**
+     * Runs a new {@code HeadlessApp} with {@code input}, and returns its exit code.
+     */
+    private int run(String input) {
+        HeadlessApp app = new HeadlessApp(appParameters);
+        return app.run(new BufferedReader(new StringReader(input)), new PrintStream(output, true, UTF_8),
+                new PrintStream(errorOutput, true, UTF_8));
+    }
+
+    private static String getOutput(ByteArrayOutputStream stream) {
+        return stream.toString(UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
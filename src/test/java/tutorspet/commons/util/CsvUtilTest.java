@@ -0,0 +1,39 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.commons.util.CsvUtil.MESSAGE_UNTERMINATED_QUOTE;
+import static tutorspet.commons.util.CsvUtil.splitRow;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitRow_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> splitRow(null));
+    }
+
+    @Test
+    public void splitRow_unquotedFields_fieldsTrimmed() {
+        assertEquals(List.of(""), splitRow(""));
+        assertEquals(List.of("a", "b", "c"), splitRow("a, b ,c"));
+        assertEquals(List.of("a", "", ""), splitRow("a,,"));
+        assertEquals(List.of("John Doe", "johnDO3"), splitRow(" John Doe ,johnDO3"));
+    }
+
+    @Test
+    public void splitRow_quotedFields_quotesRemoved() {
+        assertEquals(List.of("Doe, John", "b"), splitRow("\"Doe, John\",b"));
+        assertEquals(List.of(" a ", "b"), splitRow(" \" a \" ,b"));
+        assertEquals(List.of("say \"hi\""), splitRow("\"say \"\"hi\"\"\""));
+        assertEquals(List.of("", "b"), splitRow("\"\",b"));
+    }
+
+    @Test
+    public void splitRow_unterminatedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, MESSAGE_UNTERMINATED_QUOTE, () -> splitRow("\"a,b"));
+    }
+}
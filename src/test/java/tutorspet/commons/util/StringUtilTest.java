@@ -1,8 +1,10 @@
 package tutorspet.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.util.StringUtil.containsWordIgnoreCase;
+import static tutorspet.commons.util.StringUtil.foldCase;
 import static tutorspet.commons.util.StringUtil.getDetails;
 import static tutorspet.testutil.Assert.assertThrows;
 
@@ -126,6 +128,28 @@ public class StringUtilTest {
         assertTrue(containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", foldCase(""));
+        assertEquals("  aaa bbb@1 ", foldCase("  AaA bBB@1 "));
+
+        // Folded forms are equal exactly when the strings are equal ignoring case
+        String[] strings = {"abc", "ABC", "abd", "\u212a", "k", "K", "\u0130", "i", "\u00df", "SS", "\u03c3", "\u03c2"};
+        for (String first : strings) {
+            for (String second : strings) {
+                assertEquals(first.equalsIgnoreCase(second), foldCase(first).equals(foldCase(second)),
+                        first + " and " + second);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
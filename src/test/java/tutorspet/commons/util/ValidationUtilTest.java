@@ -0,0 +1,81 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.util.ValidationUtil.ALPHANUMERICS;
+import static tutorspet.commons.util.ValidationUtil.LETTERS;
+import static tutorspet.commons.util.ValidationUtil.WORD_CHARACTERS;
+import static tutorspet.commons.util.ValidationUtil.matches;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.util.ValidationUtil.CharacterClass;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void characterClasses_sameAsRegex() {
+        for (char c = 0; c < 256; c++) {
+            String test = String.valueOf(c);
+            assertTrue(LETTERS.contains(c) == test.matches("[a-zA-Z]"), test);
+            assertTrue(ALPHANUMERICS.contains(c) == test.matches("\\p{Alnum}"), test);
+            assertTrue(ALPHANUMERICS.contains(c) == test.matches("[^\\W_]"), test);
+            assertTrue(WORD_CHARACTERS.contains(c) == test.matches("\\w"), test);
+        }
+    }
+
+    @Test
+    public void of_nonAsciiCharacter_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CharacterClass.of("aé"));
+    }
+
+    @Test
+    public void ofRanges_unpairedBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CharacterClass.ofRanges('a', 'z', 'A'));
+    }
+
+    @Test
+    public void with_otherClass_containsBoth() {
+        CharacterClass union = CharacterClass.of("ab").with(CharacterClass.of("bc"));
+        assertTrue(union.containsAll("abc", 0, 3));
+        assertFalse(union.contains('d'));
+    }
+
+    @Test
+    public void containsAll() {
+        CharacterClass digits = CharacterClass.ofRanges('0', '9');
+
+        // empty range -> returns true
+        assertTrue(digits.containsAll("abc", 1, 1));
+
+        // only range checked -> returns true
+        assertTrue(digits.containsAll("a123b", 1, 4));
+
+        // character outside class in range -> returns false
+        assertFalse(digits.containsAll("a123b", 1, 5));
+    }
+
+    @Test
+    public void matches_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> matches(null, LETTERS, ALPHANUMERICS));
+    }
+
+    @Test
+    public void matches_firstAndRestCharacters() {
+        // empty string -> returns false
+        assertFalse(matches("", LETTERS, ALPHANUMERICS));
+
+        // first character not in first class -> returns false
+        assertFalse(matches("1abc", LETTERS, ALPHANUMERICS));
+
+        // later character not in rest class -> returns false
+        assertFalse(matches("abc_", LETTERS, ALPHANUMERICS));
+
+        // single character -> returns true
+        assertTrue(matches("a", LETTERS, ALPHANUMERICS));
+
+        // all characters in their classes -> returns true
+        assertTrue(matches("abc123", LETTERS, ALPHANUMERICS));
+    }
+}
@@ -0,0 +1,83 @@
+package tutorspet.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.ViewHistoryCommand;
+import tutorspet.logic.commands.lesson.DisplayVenueCommand;
+
+public class CommandResultCacheTest {
+
+    private static final CommandResult RESULT = new CommandResult("result");
+    private static final CommandResult OTHER_RESULT = new CommandResult("other result");
+
+    private final CommandResultCache cache = new CommandResultCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandResultCache(0));
+    }
+
+    @Test
+    public void get_nullCommand_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.get(null, 0));
+    }
+
+    @Test
+    public void put_nullResult_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.put(new ViewHistoryCommand(), 0, null));
+    }
+
+    @Test
+    public void get_equalCommandSameMutationCount_returnsResult() {
+        cache.put(new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM), 1, RESULT);
+
+        assertSame(RESULT, cache.get(new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM), 1));
+
+        // different command -> returns null
+        assertNull(cache.get(new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_SECOND_ITEM), 1));
+        assertNull(cache.get(new ViewHistoryCommand(), 1));
+    }
+
+    @Test
+    public void get_differentMutationCount_cacheCleared() {
+        cache.put(new ViewHistoryCommand(), 1, RESULT);
+
+        assertNull(cache.get(new ViewHistoryCommand(), 2));
+        assertEquals(0, cache.size());
+
+        // results from before the change are not returned after it
+        assertNull(cache.get(new ViewHistoryCommand(), 1));
+    }
+
+    @Test
+    public void put_equalCommand_resultReplaced() {
+        cache.put(new ViewHistoryCommand(), 1, RESULT);
+        cache.put(new ViewHistoryCommand(), 1, OTHER_RESULT);
+
+        assertSame(OTHER_RESULT, cache.get(new ViewHistoryCommand(), 1));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedDropped() {
+        DisplayVenueCommand firstCommand = new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM);
+        DisplayVenueCommand secondCommand = new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_SECOND_ITEM);
+        cache.put(firstCommand, 1, RESULT);
+        cache.put(secondCommand, 1, OTHER_RESULT);
+        cache.get(firstCommand, 1);
+
+        cache.put(new ViewHistoryCommand(), 1, RESULT);
+
+        assertEquals(2, cache.size());
+        assertSame(RESULT, cache.get(firstCommand, 1));
+        assertNull(cache.get(secondCommand, 1));
+    }
+}
@@ -0,0 +1,71 @@
+package tutorspet.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class FxThreadListTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FxThreadList<>(null));
+    }
+
+    @Test
+    public void constructor_validSource_elementsCopied() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+        assertEquals(List.of("a", "b"), new FxThreadList<>(source).asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_sourceChanged_changesApplied() {
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        ObservableList<String> list = new FxThreadList<>(source).asUnmodifiableObservableList();
+
+        source.add("b");
+        assertEquals(List.of("a", "b"), list);
+
+        source.setAll("c");
+        assertEquals(List.of("c"), list);
+
+        source.remove(0);
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_sourceChanged_onlyChangedElementsReplaced() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> list = new FxThreadList<>(source).asUnmodifiableObservableList();
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " " + change.getRemoved() + " " + change.getAddedSubList());
+            }
+        });
+
+        source.add(1, "d");
+        source.remove("c");
+        assertEquals(List.of("1 [] [d]", "3 [c] []"), changes);
+
+        changes.clear();
+        FXCollections.sort(source, Comparator.reverseOrder());
+        assertEquals(List.of("d", "b", "a"), list);
+        assertEquals(List.of("0 [a, d, b] [d, b, a]"), changes);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        ObservableList<String> list = new FxThreadList<>(FXCollections.observableArrayList("a"))
+                .asUnmodifiableObservableList();
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
@@ -1,6 +1,11 @@
 package tutorspet.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutorspet.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
@@ -13,20 +18,35 @@ import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalStudent.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.SwitchWorkspaceCommand;
+import tutorspet.logic.commands.UndoCommand;
+import tutorspet.logic.commands.ViewHistoryCommand;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
 import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
 import tutorspet.model.UserPrefs;
 import tutorspet.model.student.Student;
 import tutorspet.storage.JsonTutorsPetStorage;
@@ -74,6 +94,22 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListStudentCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommandRepeated_resultReused() throws Exception {
+        CommandResult result = logic.execute(ViewHistoryCommand.COMMAND_WORD);
+        assertSame(result, logic.execute(ViewHistoryCommand.COMMAND_WORD));
+
+        // model changed -> result computed again
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        CommandResult resultAfterChange = logic.execute(ViewHistoryCommand.COMMAND_WORD);
+        assertNotEquals(result, resultAfterChange);
+        assertSame(resultAfterChange, logic.execute(ViewHistoryCommand.COMMAND_WORD));
+
+        // filtered list changed -> result computed again
+        model.updateFilteredStudentList(student -> false);
+        assertNotSame(resultAfterChange, logic.execute(ViewHistoryCommand.COMMAND_WORD));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonTutorsPetIoExceptionThrowingStub
@@ -94,6 +130,111 @@ public class LogicManagerTest {
         assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommandStorageThrowsIoException_success() throws Exception {
+        JsonTutorsPetStorage tutorsPetStorage =
+                new JsonTutorsPetIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTutorsPet.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(tutorsPetStorage, userPrefsStorage));
+
+        // read-only commands do not save the data
+        logic.execute(ViewHistoryCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_dataUnchanged_notSavedAgain() throws Exception {
+        Path tutorsPetFilePath = temporaryFolder.resolve("tutorsPet.json");
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(Files.exists(tutorsPetFilePath));
+
+        // nothing committed -> not saved
+        Files.delete(tutorsPetFilePath);
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertFalse(Files.exists(tutorsPetFilePath));
+
+        // new snapshot -> saved
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new TutorsPet(), new JsonTutorsPetStorage(tutorsPetFilePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void execute_commandsFromSeveralThreads_success() throws Exception {
+        String addStudentCommand = COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<CommandResult>> results = new ArrayList<>();
+            results.add(executor.submit(() -> logic.execute(addStudentCommand)));
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> logic.execute(ViewHistoryCommand.COMMAND_WORD)));
+                results.add(executor.submit(() -> logic.execute(ListStudentCommand.COMMAND_WORD)));
+            }
+            for (Future<CommandResult> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of(new StudentBuilder(AMY).withTags().build()), model.getTutorsPet().getStudentList());
+    }
+
+    @Test
+    public void execute_backupDue_dataBackedUp() throws Exception {
+        JsonTutorsPetStorage tutorsPetStorage =
+                new JsonTutorsPetStorage(temporaryFolder.resolve("backedUpTutorsPet.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backedUpUserPrefs.json"));
+        StorageManager storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
+        MutableClock clock = new MutableClock(Instant.parse("2020-10-19T09:30:00Z"));
+        logic = new LogicManager(model, storage, clock);
+
+        // the first command backs up the data before it is executed
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(List.of("20201019-093000"), storage.getBackupIds());
+        assertEquals(0, storage.readBackup("20201019-093000").get().getStudentList().size());
+
+        // no backup within the backup interval
+        clock.instant = clock.instant.plus(LogicManager.BACKUP_INTERVAL).minusSeconds(1);
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertEquals(List.of("20201019-093000"), storage.getBackupIds());
+
+        // changed data is backed up after the backup interval
+        clock.instant = clock.instant.plusSeconds(1);
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertEquals(List.of("20201019-093000", "20201019-103000"), storage.getBackupIds());
+        assertEquals(new TutorsPet(model.getTutorsPet()), new TutorsPet(storage.readBackup("20201019-103000").get()));
+    }
+
+    @Test
+    public void execute_workspaceSwitched_newWorkspaceBackedUp() throws Exception {
+        Path filePath = temporaryFolder.resolve("backedUpTutorsPet.json");
+        StorageManager storage = new StorageManager(new JsonTutorsPetStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backedUpUserPrefs.json")));
+        model.setTutorsPetFilePath(filePath);
+        MutableClock clock = new MutableClock(Instant.parse("2020-10-19T09:30:00Z"));
+        logic = new LogicManager(model, storage, clock);
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+
+        // the workspace switched to is backed up within the backup interval of the previous one
+        clock.instant = clock.instant.plusSeconds(60);
+        logic.execute(SwitchWorkspaceCommand.COMMAND_WORD + " other");
+        assertEquals(temporaryFolder.resolve("other.json"), model.getTutorsPetFilePath());
+        assertEquals(List.of("20201019-093100"), storage.getBackupIds());
+    }
+
+    @Test
+    public void getFilteredStudentList_commandExecuted_listUpdated() throws Exception {
+        ObservableList<Student> studentList = logic.getFilteredStudentList();
+        assertSame(studentList, logic.getFilteredStudentList());
+
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(model.getFilteredStudentList(), studentList);
+
+        model.updateFilteredStudentList(student -> false);
+        assertEquals(List.of(), studentList);
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
@@ -186,4 +327,31 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A clock whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,227 @@
+package tutorspet.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getOnlyStudentsTutorsPet;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.StorageManager;
+
+public class WorkspaceManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path activeFilePath;
+    private Model model;
+    private StorageManager storage;
+    // Paths of the data files opened by the workspace manager, in order
+    private final List<Path> openedFilePaths = new ArrayList<>();
+    private WorkspaceManager workspaceManager;
+
+    @BeforeEach
+    public void setUp() {
+        activeFilePath = testFolder.resolve("tutorspet.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTutorsPetFilePath(activeFilePath);
+        model = new ModelManager(getTypicalTutorsPet(), userPrefs);
+        storage = new StorageManager(new JsonTutorsPetStorage(activeFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        workspaceManager = createWorkspaceManager(WorkspaceManager.DEFAULT_CAPACITY,
+                WorkspaceManager.DEFAULT_SIZE_BUDGET);
+    }
+
+    private WorkspaceManager createWorkspaceManager(int capacity, long sizeBudget) {
+        return new WorkspaceManager(model, storage, filePath -> {
+            openedFilePaths.add(filePath);
+            return new JsonTutorsPetStorage(filePath);
+        }, capacity, sizeBudget);
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new WorkspaceManager(null, storage, JsonTutorsPetStorage::new));
+        assertThrows(IllegalArgumentException.class, () -> createWorkspaceManager(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> createWorkspaceManager(0, -1));
+    }
+
+    @Test
+    public void isValidWorkspaceName() {
+        // invalid names
+        assertFalse(WorkspaceManager.isValidWorkspaceName("")); // empty string
+        assertFalse(WorkspaceManager.isValidWorkspaceName("-alex")); // starts with a hyphen
+        assertFalse(WorkspaceManager.isValidWorkspaceName("alex yeoh")); // contains a space
+        assertFalse(WorkspaceManager.isValidWorkspaceName("alex.json")); // contains a full stop
+        assertFalse(WorkspaceManager.isValidWorkspaceName("data/alex")); // contains a separator
+
+        // valid names
+        assertTrue(WorkspaceManager.isValidWorkspaceName("alex"));
+        assertTrue(WorkspaceManager.isValidWorkspaceName("alex-yeoh"));
+        assertTrue(WorkspaceManager.isValidWorkspaceName("CS2103T_T10"));
+    }
+
+    @Test
+    public void getWorkspaceFilePath() {
+        // name -> data file next to the active one
+        assertEquals(testFolder.resolve("alex-yeoh.json"), workspaceManager.getWorkspaceFilePath("alex-yeoh"));
+
+        // file path -> the same path
+        assertEquals(Path.of("data", "alex.json"), workspaceManager.getWorkspaceFilePath("data/alex.json"));
+    }
+
+    @Test
+    public void save_dataUnchanged_notSavedAgain() throws Exception {
+        workspaceManager.save();
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(storage.readTutorsPet().get()));
+
+        Files.delete(activeFilePath);
+        workspaceManager.save();
+        assertFalse(Files.exists(activeFilePath));
+
+        model.addStudent(HOON);
+        model.commit("Add Hoon");
+        workspaceManager.save();
+        assertTrue(Files.exists(activeFilePath));
+    }
+
+    @Test
+    public void switchTo_activeWorkspace_returnsFalse() throws Exception {
+        assertFalse(workspaceManager.switchTo(activeFilePath));
+        assertFalse(workspaceManager.switchTo(testFolder.resolve("data").resolve("..").resolve("tutorspet.json")));
+        assertEquals(0, workspaceManager.getIdleWorkspaceCount());
+    }
+
+    @Test
+    public void switchTo_missingFile_emptyWorkspaceCreated() throws Exception {
+        Path filePath = testFolder.resolve("alex.json");
+        assertTrue(workspaceManager.switchTo(filePath));
+
+        // the previous workspace is saved and kept in memory
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(new JsonTutorsPetStorage(activeFilePath)
+                .readTutorsPet().get()));
+        assertEquals(1, workspaceManager.getIdleWorkspaceCount());
+
+        assertEquals(new TutorsPet(), new TutorsPet(model.getTutorsPet()));
+        assertEquals(filePath, model.getTutorsPetFilePath());
+        assertEquals(filePath, workspaceManager.getActiveFilePath());
+        assertEquals(filePath, storage.getTutorsPetFilePath());
+        assertEquals(filePath, storage.readUserPrefs().get().getTutorsPetFilePath());
+        assertFalse(model.canUndo());
+
+        // the data file of the new workspace is created
+        assertEquals(new TutorsPet(), new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void switchTo_existingFile_dataLoaded() throws Exception {
+        Path filePath = testFolder.resolve("alex.json");
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(getOnlyStudentsTutorsPet());
+
+        assertTrue(workspaceManager.switchTo(filePath));
+        assertEquals(getOnlyStudentsTutorsPet(), new TutorsPet(model.getTutorsPet()));
+
+        // changes are saved to the data file of the new workspace
+        model.addStudent(HOON);
+        model.commit("Add Hoon");
+        workspaceManager.save();
+        assertTrue(new JsonTutorsPetStorage(filePath).readTutorsPet().get().getStudentList().contains(HOON));
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(new JsonTutorsPetStorage(activeFilePath)
+                .readTutorsPet().get()));
+    }
+
+    @Test
+    public void switchTo_idleWorkspace_notReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("alex.json");
+        model.addStudent(HOON);
+        model.commit("Add Hoon");
+        TutorsPet expectedTutorsPet = new TutorsPet(model.getTutorsPet());
+
+        workspaceManager.switchTo(filePath);
+        Files.delete(activeFilePath);
+        assertTrue(workspaceManager.switchTo(activeFilePath));
+
+        assertEquals(List.of(filePath), openedFilePaths);
+        assertEquals(expectedTutorsPet, new TutorsPet(model.getTutorsPet()));
+        assertEquals(activeFilePath, storage.getTutorsPetFilePath());
+        assertEquals(1, workspaceManager.getIdleWorkspaceCount());
+    }
+
+    @Test
+    public void switchTo_invalidFile_nothingChanged() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "not json");
+
+        assertThrows(DataConversionException.class, () -> workspaceManager.switchTo(filePath));
+        assertEquals(activeFilePath, workspaceManager.getActiveFilePath());
+        assertEquals(activeFilePath, storage.getTutorsPetFilePath());
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(model.getTutorsPet()));
+        assertEquals(0, workspaceManager.getIdleWorkspaceCount());
+    }
+
+    @Test
+    public void switchTo_overCapacity_leastRecentlyUsedEvicted() throws Exception {
+        workspaceManager = createWorkspaceManager(2, WorkspaceManager.DEFAULT_SIZE_BUDGET);
+        Path first = testFolder.resolve("first.json");
+        Path second = testFolder.resolve("second.json");
+        Path third = testFolder.resolve("third.json");
+
+        workspaceManager.switchTo(first); // idle: active
+        workspaceManager.switchTo(second); // idle: active, first
+        workspaceManager.switchTo(activeFilePath); // idle: first, second
+        workspaceManager.switchTo(third); // idle: second, active, and first is evicted
+        assertEquals(2, workspaceManager.getIdleWorkspaceCount());
+
+        // the evicted workspace is read again, as it was saved before it became idle
+        workspaceManager.switchTo(first);
+        assertEquals(List.of(first, second, third, first), openedFilePaths);
+        assertEquals(new TutorsPet(), new TutorsPet(model.getTutorsPet()));
+
+        // the others are not
+        workspaceManager.switchTo(activeFilePath);
+        assertEquals(List.of(first, second, third, first), openedFilePaths);
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(model.getTutorsPet()));
+    }
+
+    @Test
+    public void switchTo_overSizeBudget_evicted() throws Exception {
+        int size = getOnlyStudentsTutorsPet().getStudentList().size();
+        workspaceManager = createWorkspaceManager(WorkspaceManager.DEFAULT_CAPACITY, size);
+        model.loadTutorsPet(getOnlyStudentsTutorsPet());
+        Path first = testFolder.resolve("first.json");
+
+        // the active workspace is within the budget
+        workspaceManager.switchTo(first);
+        assertEquals(1, workspaceManager.getIdleWorkspaceCount());
+
+        // the workspace is over the budget once it has another student
+        workspaceManager.switchTo(activeFilePath);
+        model.addStudent(HOON);
+        model.commit("Add Hoon");
+        workspaceManager.switchTo(first);
+        assertEquals(0, workspaceManager.getIdleWorkspaceCount());
+        workspaceManager.switchTo(testFolder.resolve("second.json"));
+        assertEquals(1, workspaceManager.getIdleWorkspaceCount());
+        workspaceManager.switchTo(activeFilePath);
+        assertEquals(List.of(first, testFolder.resolve("second.json"), activeFilePath), openedFilePaths);
+        assertTrue(model.getTutorsPet().getStudentList().contains(HOON));
+    }
+}
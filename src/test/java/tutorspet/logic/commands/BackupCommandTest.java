@@ -0,0 +1,56 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.logic.commands.BackupCommand.MESSAGE_SUCCESS;
+import static tutorspet.logic.commands.BackupStorageCommand.MESSAGE_BACKUPS_UNAVAILABLE;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.ChunkedBackupStorage;
+
+public class BackupCommandTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2020-10-19T09:30:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private ChunkedBackupStorage backupStorage;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        backupStorage = new ChunkedBackupStorage(testFolder);
+    }
+
+    @Test
+    public void execute_withBackupStorage_success() throws Exception {
+        CommandResult result = new BackupCommand(CLOCK).execute(model, backupStorage);
+
+        assertEquals(new CommandResult(String.format(MESSAGE_SUCCESS, "20201019-093000")), result);
+        assertEquals(List.of("20201019-093000"), backupStorage.getBackupIds());
+        assertEquals(new TutorsPet(model.getTutorsPet()),
+                new TutorsPet(backupStorage.readBackup("20201019-093000").get()));
+    }
+
+    @Test
+    public void execute_withoutBackupStorage_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_BACKUPS_UNAVAILABLE, () -> new BackupCommand().execute(model));
+    }
+}
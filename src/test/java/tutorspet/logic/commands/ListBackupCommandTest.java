@@ -0,0 +1,51 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.logic.commands.ListBackupCommand.MESSAGE_NO_BACKUPS;
+import static tutorspet.logic.commands.ListBackupCommand.MESSAGE_SUCCESS;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.ChunkedBackupStorage;
+
+public class ListBackupCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private ChunkedBackupStorage backupStorage;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        backupStorage = new ChunkedBackupStorage(testFolder);
+    }
+
+    @Test
+    public void execute_noBackups_showsNoBackups() throws Exception {
+        assertEquals(new CommandResult(MESSAGE_NO_BACKUPS), new ListBackupCommand().execute(model, backupStorage));
+    }
+
+    @Test
+    public void execute_backups_showsLatestFirst() throws Exception {
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        backupStorage.backUpTutorsPet(tutorsPet, Instant.parse("2020-10-19T09:30:00Z"));
+        tutorsPet.addStudent(HOON);
+        backupStorage.backUpTutorsPet(tutorsPet, Instant.parse("2020-10-19T10:30:00Z"));
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, "20201019-103000\n20201019-093000");
+        assertEquals(new CommandResult(expectedMessage), new ListBackupCommand().execute(model, backupStorage));
+    }
+}
@@ -0,0 +1,91 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.RestoreBackupCommand.MESSAGE_BACKUP_NOT_FOUND;
+import static tutorspet.logic.commands.RestoreBackupCommand.MESSAGE_SUCCESS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.ChunkedBackupStorage;
+
+public class RestoreBackupCommandTest {
+
+    private static final Instant TIME = Instant.parse("2020-10-19T09:30:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private ChunkedBackupStorage backupStorage;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        backupStorage = new ChunkedBackupStorage(testFolder);
+    }
+
+    @Test
+    public void constructor_nullBackupId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RestoreBackupCommand(null));
+    }
+
+    @Test
+    public void execute_existingBackup_success() throws Exception {
+        String backupId = backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+        model.addStudent(HOON);
+        model.commit("Add Hoon");
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, backupId);
+        CommandResult result = new RestoreBackupCommand(backupId).execute(model, backupStorage);
+        assertEquals(new CommandResult(expectedMessage), result);
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(model.getTutorsPet()));
+
+        // the restore can be undone
+        assertEquals(expectedMessage, model.undo());
+        assertTrue(model.getTutorsPet().getStudentList().contains(HOON));
+    }
+
+    @Test
+    public void execute_missingBackup_throwsCommandException() {
+        RestoreBackupCommand command = new RestoreBackupCommand("20201019-093000");
+        assertThrows(CommandException.class, String.format(MESSAGE_BACKUP_NOT_FOUND, "20201019-093000"), () ->
+                command.execute(model, backupStorage));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        RestoreBackupCommand restoreFirstCommand = new RestoreBackupCommand("20201019-093000");
+        RestoreBackupCommand restoreSecondCommand = new RestoreBackupCommand("20201019-103000");
+
+        // same object -> returns true
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+
+        // same values -> returns true
+        assertTrue(restoreFirstCommand.equals(new RestoreBackupCommand("20201019-093000")));
+
+        // different types -> returns false
+        assertFalse(restoreFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreFirstCommand.equals(null));
+
+        // different backup -> returns false
+        assertFalse(restoreFirstCommand.equals(restoreSecondCommand));
+    }
+}
@@ -0,0 +1,149 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_COMMAND_FAILED;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_COMMAND_NOT_ALLOWED;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_COMMIT;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_NO_COMMANDS;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_SUCCESS;
+import static tutorspet.model.VersionedTutorsPet.INITIAL_COMMIT_MESSAGE;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.commands.student.AddStudentCommand;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunScriptCommand}.
+ */
+public class RunScriptCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "RunScriptCommandTest");
+
+    private static final Student JOHN = new StudentBuilder().withName("John Doe").withTelegram("johnDO3")
+            .withEmail("johnd@example.org").withTags("Experienced").build();
+    private static final ModuleClass CS2040_LAB = new ModuleClassBuilder().withName("CS2040 Lab").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(null));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsCommittedOnce() {
+        Path filePath = TEST_DATA_FOLDER.resolve("validScript.txt");
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, filePath);
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        expectedModel.addStudent(JOHN);
+        expectedModel.addModuleClass(CS2040_LAB);
+        expectedModel.commit(String.format(MESSAGE_COMMIT, 2, filePath));
+
+        assertCommandSuccess(new RunScriptCommand(filePath), model, expectedMessage, expectedModel);
+        assertEquals(List.of(INITIAL_COMMIT_MESSAGE, String.format(MESSAGE_COMMIT, 2, filePath)),
+                model.viewStateRecords().getStateRecords());
+
+        // the whole script is undone at once
+        model.undo();
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(model.getTutorsPet()));
+    }
+
+    @Test
+    public void execute_failingCommand_allChangesRolledBack() {
+        Path filePath = TEST_DATA_FOLDER.resolve("failingScript.txt");
+
+        String expectedMessage = String.format(MESSAGE_COMMAND_FAILED, 3, filePath, MESSAGE_UNKNOWN_COMMAND);
+        assertCommandFailure(new RunScriptCommand(filePath), model, expectedMessage);
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_undoInScript_allChangesRolledBack() {
+        Path filePath = TEST_DATA_FOLDER.resolve("undoScript.txt");
+
+        String expectedMessage = String.format(MESSAGE_COMMAND_FAILED, 2, filePath,
+                String.format(MESSAGE_COMMAND_NOT_ALLOWED, UndoCommand.COMMAND_WORD));
+        assertCommandFailure(new RunScriptCommand(filePath), model, expectedMessage);
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_switchWorkspaceInScript_allChangesRolledBack() {
+        Path filePath = TEST_DATA_FOLDER.resolve("switchWorkspaceScript.txt");
+
+        String expectedMessage = String.format(MESSAGE_COMMAND_FAILED, 2, filePath,
+                String.format(MESSAGE_COMMAND_NOT_ALLOWED, SwitchWorkspaceCommand.COMMAND_WORD + " other"));
+        assertCommandFailure(new RunScriptCommand(filePath), model, expectedMessage);
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_noCommands_throwsCommandException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("emptyScript.txt");
+        assertCommandFailure(new RunScriptCommand(filePath), model, String.format(MESSAGE_NO_COMMANDS, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("doesNotExist.txt");
+        assertThrows(CommandException.class, () -> new RunScriptCommand(filePath).execute(model));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_afterFailedScript_laterCommandsCommitted() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("failingScript.txt");
+        assertThrows(CommandException.class, () -> new RunScriptCommand(filePath).execute(model));
+
+        new AddStudentCommand(JOHN).execute(model);
+        assertTrue(model.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runFirstCommand = new RunScriptCommand(Paths.get("first.txt"));
+        RunScriptCommand runSecondCommand = new RunScriptCommand(Paths.get("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunScriptCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+}
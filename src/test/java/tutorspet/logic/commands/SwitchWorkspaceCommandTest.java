@@ -0,0 +1,115 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.SwitchWorkspaceCommand.MESSAGE_ALREADY_ACTIVE;
+import static tutorspet.logic.commands.SwitchWorkspaceCommand.MESSAGE_SUCCESS;
+import static tutorspet.logic.commands.SwitchWorkspaceCommand.MESSAGE_WORKSPACES_UNAVAILABLE;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.WorkspaceManager;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.StorageManager;
+
+public class SwitchWorkspaceCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path activeFilePath;
+    private Model model;
+    private StorageManager storage;
+    private WorkspaceManager workspaceManager;
+
+    @BeforeEach
+    public void setUp() {
+        activeFilePath = testFolder.resolve("tutorspet.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTutorsPetFilePath(activeFilePath);
+        model = new ModelManager(getTypicalTutorsPet(), userPrefs);
+        storage = new StorageManager(new JsonTutorsPetStorage(activeFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        workspaceManager = new WorkspaceManager(model, storage, JsonTutorsPetStorage::new);
+    }
+
+    @Test
+    public void constructor_nullWorkspace_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchWorkspaceCommand(null));
+    }
+
+    @Test
+    public void execute_noWorkspaceManager_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_WORKSPACES_UNAVAILABLE, () ->
+                new SwitchWorkspaceCommand("alex").execute(model));
+    }
+
+    @Test
+    public void execute_workspaceName_success() throws Exception {
+        Path filePath = testFolder.resolve("alex.json");
+
+        CommandResult result =
+                new SwitchWorkspaceCommand("alex").execute(model, new CommandContext(storage, workspaceManager));
+        assertEquals(new CommandResult(String.format(MESSAGE_SUCCESS, filePath)), result);
+        assertEquals(filePath, model.getTutorsPetFilePath());
+        assertEquals(new TutorsPet(), new TutorsPet(model.getTutorsPet()));
+
+        // the data of the previous workspace is saved
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(new JsonTutorsPetStorage(activeFilePath)
+                .readTutorsPet().get()));
+    }
+
+    @Test
+    public void execute_activeWorkspace_success() throws Exception {
+        CommandResult result = new SwitchWorkspaceCommand(activeFilePath.toString())
+                .execute(model, new CommandContext(storage, workspaceManager));
+        assertEquals(new CommandResult(String.format(MESSAGE_ALREADY_ACTIVE, activeFilePath)), result);
+        assertEquals(activeFilePath, model.getTutorsPetFilePath());
+    }
+
+    @Test
+    public void execute_invalidDataFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "not json");
+
+        assertThrows(CommandException.class, () ->
+                new SwitchWorkspaceCommand("invalid").execute(model, new CommandContext(storage, workspaceManager)));
+        assertEquals(activeFilePath, model.getTutorsPetFilePath());
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(model.getTutorsPet()));
+    }
+
+    @Test
+    public void equals() {
+        SwitchWorkspaceCommand switchFirstCommand = new SwitchWorkspaceCommand("alex");
+        SwitchWorkspaceCommand switchSecondCommand = new SwitchWorkspaceCommand("bernice");
+
+        // same object -> returns true
+        assertTrue(switchFirstCommand.equals(switchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(switchFirstCommand.equals(new SwitchWorkspaceCommand("alex")));
+
+        // different types -> returns false
+        assertFalse(switchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(switchFirstCommand.equals(null));
+
+        // different workspace -> returns false
+        assertFalse(switchFirstCommand.equals(switchSecondCommand));
+    }
+}
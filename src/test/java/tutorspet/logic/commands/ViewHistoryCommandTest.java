@@ -1,5 +1,7 @@
 package tutorspet.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorspet.logic.commands.ViewHistoryCommand.CURRENT_INDICATOR;
 import static tutorspet.logic.commands.ViewHistoryCommand.MESSAGE_TEMPLATE;
@@ -85,4 +87,26 @@ public class ViewHistoryCommandTest {
 
         assertCommandSuccess(new ViewHistoryCommand(), model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void isReadOnly() {
+        assertTrue(new ViewHistoryCommand().isReadOnly());
+    }
+
+    @Test
+    public void equals() {
+        ViewHistoryCommand viewHistoryCommand = new ViewHistoryCommand();
+
+        // same object -> returns true
+        assertTrue(viewHistoryCommand.equals(viewHistoryCommand));
+
+        // same type -> returns true
+        assertTrue(viewHistoryCommand.equals(new ViewHistoryCommand()));
+
+        // different types -> returns false
+        assertFalse(viewHistoryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(viewHistoryCommand.equals(null));
+    }
 }
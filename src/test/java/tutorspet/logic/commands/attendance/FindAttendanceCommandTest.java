@@ -219,6 +219,12 @@ public class FindAttendanceCommandTest {
         assertCommandFailure(findAttendanceCommand, model, MESSAGE_MISSING_STUDENT_ATTENDANCE);
     }
 
+    @Test
+    public void isReadOnly() {
+        assertTrue(new FindAttendanceCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, INDEX_FIRST_ITEM,
+                new Week(Index.fromOneBased(1))).isReadOnly());
+    }
+
     @Test
     public void equals() {
         Week week1 = new Week(Index.fromOneBased(1));
@@ -159,6 +159,11 @@ public class StatisticsCommandTest {
         assertCommandFailure(statisticsCommand, model, MESSAGE_NO_LESSON_ATTENDED);
     }
 
+    @Test
+    public void isReadOnly() {
+        assertTrue(new StatisticsCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM).isReadOnly());
+    }
+
     @Test
     public void equals() {
         StatisticsCommand statisticsCommand = new StatisticsCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM);
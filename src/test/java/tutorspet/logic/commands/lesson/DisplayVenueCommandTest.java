@@ -109,6 +109,11 @@ public class DisplayVenueCommandTest {
         assertCommandFailure(displayVenueCommand, model, MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void isReadOnly() {
+        assertTrue(new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM).isReadOnly());
+    }
+
     @Test
     public void equals() {
         DisplayVenueCommand displayVenueCommand = new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM);
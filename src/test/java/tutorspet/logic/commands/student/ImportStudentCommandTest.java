@@ -0,0 +1,165 @@
+package tutorspet.logic.commands.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MAX_REPORTED_ROWS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_COMMIT;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_INVALID_ROW;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_MORE_SKIPPED_ROWS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_NO_STUDENTS_IMPORTED;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_SKIPPED_ROWS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_SUCCESS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_WRONG_FIELD_COUNT;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.util.FileUtil;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportStudentCommand}.
+ */
+public class ImportStudentCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportStudentCommandTest");
+
+    private static final Student JOHN = new StudentBuilder().withName("John Doe").withTelegram("johnDO3")
+            .withEmail("johnd@example.org").withTags("CS2103 Tutorial", "Experienced").build();
+    private static final Student BETSY = new StudentBuilder().withName("Betsy Crowe").withTelegram("betsycrowe")
+            .withEmail("betsycrowe@example.com").withTags().build();
+    private static final Student JANE = new StudentBuilder().withName("Jane Doe").withTelegram("janedoe")
+            .withEmail("jane@example.com").withTags("Weak", "Strong").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportStudentCommand(null));
+    }
+
+    @Test
+    public void execute_validStudents_success() {
+        Path filePath = TEST_DATA_FOLDER.resolve("validStudents.csv");
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, filePath);
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        expectedModel.addStudents(List.of(JOHN, BETSY));
+        expectedModel.commit(String.format(MESSAGE_COMMIT, 2));
+
+        assertCommandSuccess(new ImportStudentCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_someInvalidRows_validRowsImportedAndInvalidRowsReported() {
+        Path filePath = TEST_DATA_FOLDER.resolve("mixedStudents.csv");
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 3, filePath)
+                + String.format(MESSAGE_SKIPPED_ROWS, 4)
+                + String.format(MESSAGE_INVALID_ROW, 2, Email.MESSAGE_CONSTRAINTS)
+                + String.format(MESSAGE_INVALID_ROW, 3, MESSAGE_DUPLICATE_STUDENT)
+                + String.format(MESSAGE_INVALID_ROW, 5, MESSAGE_DUPLICATE_STUDENT)
+                + String.format(MESSAGE_INVALID_ROW, 6, MESSAGE_WRONG_FIELD_COUNT);
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        expectedModel.addStudents(List.of(JOHN, BETSY, JANE));
+        expectedModel.commit(String.format(MESSAGE_COMMIT, 3));
+
+        assertCommandSuccess(new ImportStudentCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidStudents.csv");
+
+        String expectedMessage = String.format(MESSAGE_NO_STUDENTS_IMPORTED, filePath)
+                + String.format(MESSAGE_SKIPPED_ROWS, 2)
+                + String.format(MESSAGE_INVALID_ROW, 1, Email.MESSAGE_CONSTRAINTS)
+                + String.format(MESSAGE_INVALID_ROW, 2, MESSAGE_DUPLICATE_STUDENT);
+
+        assertCommandFailure(new ImportStudentCommand(filePath), model, expectedMessage);
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportStudentCommand command = new ImportStudentCommand(testFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_manyRows_singleCommit() throws Exception {
+        int studentCount = 5000;
+        int invalidCount = MAX_REPORTED_ROWS + 5;
+        StringBuilder csv = new StringBuilder("name,telegram,email,tags\n");
+        for (int i = 0; i < studentCount; i++) {
+            csv.append("Student ").append(i).append(",student_").append(i)
+                    .append(",student").append(i).append("@example.com,Cohort\n");
+        }
+        for (int i = 0; i < invalidCount; i++) {
+            csv.append("Duplicate ").append(i).append(",duplicate_").append(i).append(",student0@example.com\n");
+        }
+        Path filePath = testFolder.resolve("cohort.csv");
+        FileUtil.writeToFile(filePath, csv.toString());
+        int initialStudentCount = model.getTutorsPet().getStudentList().size();
+
+        String feedback = new ImportStudentCommand(filePath).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(MESSAGE_SUCCESS, studentCount, filePath)
+                + String.format(MESSAGE_SKIPPED_ROWS, invalidCount)));
+        assertTrue(feedback.endsWith(String.format(MESSAGE_MORE_SKIPPED_ROWS, invalidCount - MAX_REPORTED_ROWS)));
+        assertEquals(initialStudentCount + studentCount, model.getTutorsPet().getStudentList().size());
+
+        // the whole import is undone as a single change
+        assertTrue(model.canUndo());
+        model.undo();
+        assertFalse(model.canUndo());
+        assertEquals(initialStudentCount, model.getTutorsPet().getStudentList().size());
+    }
+
+    @Test
+    public void equals() {
+        ImportStudentCommand importFirstCommand = new ImportStudentCommand(Paths.get("first.csv"));
+        ImportStudentCommand importSecondCommand = new ImportStudentCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportStudentCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+}
@@ -134,6 +134,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixMatched() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt value -t dashT value -ttt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTt, "dashTt value", "t");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notMatched() {
+        String argsString = "SomePreambleString\tp/ tab p/pSlash\nvalue";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "SomePreambleString\tp/ tab");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash\nvalue");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
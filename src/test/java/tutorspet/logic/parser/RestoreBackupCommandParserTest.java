@@ -0,0 +1,27 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.RestoreBackupCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.RestoreBackupCommand;
+
+public class RestoreBackupCommandParserTest {
+
+    private RestoreBackupCommandParser parser = new RestoreBackupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRestoreBackupCommand() {
+        assertParseSuccess(parser, " 20201019-093000 ", new RestoreBackupCommand("20201019-093000"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, "20201019-093000 20201019-103000",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+}
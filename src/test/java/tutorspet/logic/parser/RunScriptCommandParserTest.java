@@ -0,0 +1,34 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.logic.parser.RunScriptCommandParser.MESSAGE_INVALID_FILE_PATH;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " data/setup.txt ", new RunScriptCommand(Paths.get("data", "setup.txt")));
+        assertParseSuccess(parser, "my setup.txt", new RunScriptCommand(Paths.get("my setup.txt")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "setup\0.txt", MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,27 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.SwitchWorkspaceCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.SwitchWorkspaceCommand;
+
+public class SwitchWorkspaceCommandParserTest {
+
+    private SwitchWorkspaceCommandParser parser = new SwitchWorkspaceCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSwitchWorkspaceCommand() {
+        assertParseSuccess(parser, " alex-yeoh ", new SwitchWorkspaceCommand("alex-yeoh"));
+        assertParseSuccess(parser, " data/alex yeoh.json", new SwitchWorkspaceCommand("data/alex yeoh.json"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+}
@@ -22,18 +22,24 @@ import static tutorspet.testutil.StudentTestUtil.getEditStudentDescriptorDetails
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import tutorspet.logic.commands.BackupCommand;
 import tutorspet.logic.commands.ExitCommand;
 import tutorspet.logic.commands.HelpCommand;
 import tutorspet.logic.commands.LinkCommand;
+import tutorspet.logic.commands.ListBackupCommand;
 import tutorspet.logic.commands.ListCommand;
 import tutorspet.logic.commands.RedoCommand;
 import tutorspet.logic.commands.ResetCommand;
+import tutorspet.logic.commands.RestoreBackupCommand;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.SwitchWorkspaceCommand;
 import tutorspet.logic.commands.UndoCommand;
 import tutorspet.logic.commands.UnlinkCommand;
 import tutorspet.logic.commands.ViewHistoryCommand;
@@ -61,6 +67,7 @@ import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand.EditStudentDescriptor;
 import tutorspet.logic.commands.student.FindStudentCommand;
+import tutorspet.logic.commands.student.ImportStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.commands.student.ListStudentInClassCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
@@ -131,6 +138,13 @@ public class TutorsPetParserTest {
         assertEquals(new FindStudentCommand(new NameContainsKeywordsPredicate<>(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_importStudents() throws Exception {
+        ImportStudentCommand command = (ImportStudentCommand) parser.parseCommand(
+                ImportStudentCommand.COMMAND_WORD + " students.csv");
+        assertEquals(new ImportStudentCommand(Paths.get("students.csv")), command);
+    }
+
     @Test
     public void parseCommand_addModuleClass() throws Exception {
         ModuleClass moduleClass = new ModuleClassBuilder().build();
@@ -340,6 +354,37 @@ public class TutorsPetParserTest {
         assertTrue(parser.parseCommand(ResetCommand.COMMAND_WORD + NON_EMPTY_STRING) instanceof ResetCommand);
     }
 
+    @Test
+    public void parseCommand_backup() throws Exception {
+        assertTrue(parser.parseCommand(BackupCommand.COMMAND_WORD) instanceof BackupCommand);
+    }
+
+    @Test
+    public void parseCommand_listBackups() throws Exception {
+        assertTrue(parser.parseCommand(ListBackupCommand.COMMAND_WORD) instanceof ListBackupCommand);
+    }
+
+    @Test
+    public void parseCommand_restoreBackup() throws Exception {
+        RestoreBackupCommand command = (RestoreBackupCommand) parser.parseCommand(
+                RestoreBackupCommand.COMMAND_WORD + " 20201019-093000");
+        assertEquals(new RestoreBackupCommand("20201019-093000"), command);
+    }
+
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " setup.txt");
+        assertEquals(new RunScriptCommand(Paths.get("setup.txt")), command);
+    }
+
+    @Test
+    public void parseCommand_switchWorkspace() throws Exception {
+        SwitchWorkspaceCommand command = (SwitchWorkspaceCommand) parser.parseCommand(
+                SwitchWorkspaceCommand.COMMAND_WORD + " alex-yeoh");
+        assertEquals(new SwitchWorkspaceCommand("alex-yeoh"), command);
+    }
+
     @Test
     public void parseCommand_displayVenue() throws Exception {
         DisplayVenueCommand expectedCommand = new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM);
@@ -0,0 +1,35 @@
+package tutorspet.logic.parser.student;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.logic.parser.student.ImportStudentCommandParser.MESSAGE_INVALID_FILE_PATH;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.student.ImportStudentCommand;
+
+public class ImportStudentCommandParserTest {
+
+    private ImportStudentCommandParser parser = new ImportStudentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportStudentCommand() {
+        assertParseSuccess(parser, " data/students.csv ",
+                new ImportStudentCommand(Paths.get("data", "students.csv")));
+        assertParseSuccess(parser, "my students.csv", new ImportStudentCommand(Paths.get("my students.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "students\0.csv", MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,129 @@
+package tutorspet.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelLockTest {
+
+    private final ModelLock lock = new ModelLock();
+
+    @Test
+    public void readOptimistically_nullAction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> lock.readOptimistically(null));
+        assertThrows(NullPointerException.class, () -> lock.read(null));
+        assertThrows(NullPointerException.class, () -> lock.write(null));
+    }
+
+    @Test
+    public void readOptimistically_noWrite_actionRunOnce() {
+        AtomicInteger runCount = new AtomicInteger();
+        assertEquals("result", lock.readOptimistically(() -> {
+            runCount.incrementAndGet();
+            return "result";
+        }));
+        assertEquals(1, runCount.get());
+    }
+
+    @Test
+    public void readOptimistically_writeDuringRead_actionRunAgain() throws Exception {
+        AtomicInteger runCount = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String result = lock.readOptimistically(() -> {
+                if (runCount.incrementAndGet() == 1) {
+                    executor.submit(() -> lock.write(() -> null)).get();
+                }
+                return "result " + runCount.get();
+            });
+            assertEquals("result 2", result);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void readOptimistically_actionThrowsException_exceptionThrown() {
+        assertThrows(IOException.class, "failed", () -> lock.readOptimistically(() -> {
+            throw new IOException("failed");
+        }));
+    }
+
+    @Test
+    public void readOptimistically_exceptionDuringWrite_actionRunAgain() throws Exception {
+        AtomicInteger runCount = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the first run reads a half-done write and fails, which is ignored
+            String result = lock.readOptimistically(() -> {
+                if (runCount.incrementAndGet() == 1) {
+                    executor.submit(() -> lock.write(() -> null)).get();
+                    throw new IllegalStateException();
+                }
+                return "result";
+            });
+            assertEquals("result", result);
+            assertEquals(2, runCount.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void read_severalReaders_runTogether() throws Exception {
+        CountDownLatch bothReading = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executor.submit(() -> lock.read(() -> {
+                bothReading.countDown();
+                return bothReading.await(10, TimeUnit.SECONDS);
+            }));
+            Future<Boolean> second = executor.submit(() -> lock.read(() -> {
+                bothReading.countDown();
+                return bothReading.await(10, TimeUnit.SECONDS);
+            }));
+            assertTrue(first.get());
+            assertTrue(second.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void write_readerWaiting_readerRunsAfterWrite() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger value = new AtomicInteger();
+            Future<Integer> read = lock.write(() -> {
+                Future<Integer> waitingRead = executor.submit(() -> lock.read(value::get));
+                Thread.sleep(50);
+                assertFalse(waitingRead.isDone());
+                value.set(1);
+                return waitingRead;
+            });
+            assertEquals(Integer.valueOf(1), read.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void write_actionThrowsException_lockReleased() {
+        assertThrows(IOException.class, () -> lock.write(() -> {
+            throw new IOException();
+        }));
+        assertEquals("result", lock.read(() -> "result"));
+        assertEquals("result", lock.write(() -> "result"));
+    }
+}
@@ -2,6 +2,7 @@ package tutorspet.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.model.Model.PREDICATE_SHOW_ALL_MODULE_CLASS;
 import static tutorspet.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
@@ -86,6 +87,21 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getTutorsPetFilePath());
     }
 
+    @Test
+    public void loadTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.loadTutorsPet(null));
+    }
+
+    @Test
+    public void loadTutorsPet_validTutorsPet_replacesDataAndHistory() {
+        modelManager.commit(COMMIT_MESSAGE_1);
+        TutorsPet tutorsPet = new TutorsPetBuilder().withStudent(ALICE).build();
+        modelManager.loadTutorsPet(tutorsPet);
+        assertEquals(tutorsPet, new TutorsPet(modelManager.getTutorsPet()));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+        assertFalse(modelManager.canUndo());
+    }
+
     @Test
     public void commit_nullMessage_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.commit(null));
@@ -313,6 +329,104 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasModuleClass(CS2100_LAB));
     }
 
+    @Test
+    public void getMutationCount_dataChanged_countIncreased() {
+        long mutationCount = modelManager.getMutationCount();
+        modelManager.addStudent(ALICE);
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+
+        mutationCount = modelManager.getMutationCount();
+        modelManager.addModuleClass(CS2103T_TUTORIAL);
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+
+        mutationCount = modelManager.getMutationCount();
+        modelManager.updateFilteredStudentList(student -> false);
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+    }
+
+    @Test
+    public void getMutationCount_recordedStatesChanged_countIncreased() {
+        long mutationCount = modelManager.getMutationCount();
+        modelManager.commit(COMMIT_MESSAGE_1);
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+
+        mutationCount = modelManager.getMutationCount();
+        modelManager.undo();
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+
+        mutationCount = modelManager.getMutationCount();
+        modelManager.redo();
+        assertTrue(modelManager.getMutationCount() > mutationCount);
+    }
+
+    @Test
+    public void getMutationCount_nothingChanged_countUnchanged() {
+        modelManager.addStudent(ALICE);
+        long mutationCount = modelManager.getMutationCount();
+
+        modelManager.hasStudent(ALICE);
+        modelManager.viewStateRecords();
+        modelManager.getFilteredStudentList().get(0);
+
+        assertEquals(mutationCount, modelManager.getMutationCount());
+    }
+
+    @Test
+    public void getSnapshot_dataCommitted_newVersionPublished() {
+        TutorsPetSnapshot snapshot = modelManager.getSnapshot();
+        assertEquals(new TutorsPet(), new TutorsPet(snapshot));
+
+        // uncommitted changes -> same snapshot
+        modelManager.addStudent(ALICE);
+        assertSame(snapshot, modelManager.getSnapshot());
+
+        modelManager.commit(COMMIT_MESSAGE_1);
+        TutorsPetSnapshot committedSnapshot = modelManager.getSnapshot();
+        assertTrue(committedSnapshot.getVersion() > snapshot.getVersion());
+        assertEquals(new TutorsPet(modelManager.getTutorsPet()), new TutorsPet(committedSnapshot));
+
+        // earlier snapshots are not changed
+        assertEquals(new TutorsPet(), new TutorsPet(snapshot));
+
+        // same snapshot -> returned again
+        assertSame(committedSnapshot, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_undoAndRedo_newVersionPublished() {
+        modelManager.addStudent(ALICE);
+        modelManager.commit(COMMIT_MESSAGE_1);
+        TutorsPetSnapshot committedSnapshot = modelManager.getSnapshot();
+
+        modelManager.undo();
+        TutorsPetSnapshot undoneSnapshot = modelManager.getSnapshot();
+        assertTrue(undoneSnapshot.getVersion() > committedSnapshot.getVersion());
+        assertEquals(new TutorsPet(), new TutorsPet(undoneSnapshot));
+
+        modelManager.redo();
+        assertTrue(modelManager.getSnapshot().getVersion() > undoneSnapshot.getVersion());
+        assertEquals(new TutorsPet(committedSnapshot), new TutorsPet(modelManager.getSnapshot()));
+    }
+
+    @Test
+    public void getSnapshot_transaction_publishedWhenTransactionEnds() {
+        TutorsPetSnapshot snapshot = modelManager.getSnapshot();
+
+        modelManager.startTransaction();
+        modelManager.addStudent(ALICE);
+        modelManager.commit(COMMIT_MESSAGE_1);
+        assertSame(snapshot, modelManager.getSnapshot());
+        modelManager.rollBackTransaction();
+        assertEquals(snapshot.getVersion(), modelManager.getSnapshot().getVersion());
+
+        modelManager.startTransaction();
+        modelManager.addStudent(ALICE);
+        modelManager.commit(COMMIT_MESSAGE_1);
+        modelManager.commitTransaction(COMMIT_MESSAGE_2);
+        assertTrue(modelManager.getSnapshot().getVersion() > snapshot.getVersion());
+        assertEquals(new TutorsPetBuilder().withStudent(ALICE).build(), new TutorsPet(modelManager.getSnapshot()));
+    }
+
     @Test
     public void equals() {
         TutorsPet tutorsPet = new TutorsPetBuilder().withStudent(ALICE).withStudent(BENSON)
@@ -0,0 +1,61 @@
+package tutorspet.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import org.junit.jupiter.api.Test;
+
+public class TutorsPetSnapshotTest {
+
+    private final TutorsPet tutorsPet = getTypicalTutorsPet();
+    private final TutorsPetSnapshot snapshot = new TutorsPetSnapshot(1, tutorsPet);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TutorsPetSnapshot(0, null));
+    }
+
+    @Test
+    public void getters_validSnapshot_dataReturned() {
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(tutorsPet.getStudentList(), snapshot.getStudentList());
+        assertEquals(tutorsPet.getModuleClassList(), snapshot.getModuleClassList());
+    }
+
+    @Test
+    public void getStudentList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getStudentList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getModuleClassList().remove(0));
+    }
+
+    @Test
+    public void isOf() {
+        assertTrue(snapshot.isOf(tutorsPet));
+        assertFalse(snapshot.isOf(new TutorsPet(tutorsPet)));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(snapshot.equals(new TutorsPetSnapshot(1, new TutorsPet(tutorsPet))));
+        assertEquals(snapshot.hashCode(), new TutorsPetSnapshot(1, new TutorsPet(tutorsPet)).hashCode());
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different types -> returns false
+        assertFalse(snapshot.equals(tutorsPet));
+
+        // different version -> returns false
+        assertFalse(snapshot.equals(new TutorsPetSnapshot(2, tutorsPet)));
+
+        // different data -> returns false
+        assertFalse(snapshot.equals(new TutorsPetSnapshot(1, new TutorsPet())));
+    }
+}
@@ -17,4 +17,10 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setTutorsPetFilePath(null));
     }
+
+    @Test
+    public void setTutorsPetStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setTutorsPetStorageFormat(null));
+    }
 }
@@ -2,6 +2,7 @@ package tutorspet.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.model.VersionedTutorsPet.INITIAL_COMMIT_MESSAGE;
 import static tutorspet.testutil.Assert.assertThrows;
@@ -24,6 +25,40 @@ public class VersionedTutorsPetTest {
 
     private VersionedTutorsPet versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet());
 
+    @Test
+    public void load_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> versionedTutorsPet.load(null));
+    }
+
+    @Test
+    public void load_discardsOtherStates() {
+        VersionedTutorsPet emptyVersionedTutorsPet = new VersionedTutorsPet(new TutorsPet());
+        emptyVersionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        emptyVersionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        emptyVersionedTutorsPet.undo();
+
+        emptyVersionedTutorsPet.load(getTypicalTutorsPet());
+        assertFalse(emptyVersionedTutorsPet.canUndo());
+        assertFalse(emptyVersionedTutorsPet.canRedo());
+        assertEquals(versionedTutorsPet, emptyVersionedTutorsPet);
+    }
+
+    @Test
+    public void getCurrentState_changesNotCommitted_committedDataReturned() {
+        ReadOnlyTutorsPet currentState = versionedTutorsPet.getCurrentState();
+        assertEquals(getTypicalTutorsPet(), currentState);
+
+        versionedTutorsPet.addStudent(AMY);
+        assertSame(currentState, versionedTutorsPet.getCurrentState());
+        assertEquals(getTypicalTutorsPet(), currentState);
+
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        assertEquals(new TutorsPet(versionedTutorsPet), versionedTutorsPet.getCurrentState());
+
+        versionedTutorsPet.undo();
+        assertSame(currentState, versionedTutorsPet.getCurrentState());
+    }
+
     @Test
     public void commit_nullCommitMessage_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> versionedTutorsPet.commit(null));
@@ -38,6 +73,40 @@ public class VersionedTutorsPetTest {
         assertFalse(versionedTutorsPet.canRedo());
     }
 
+    @Test
+    public void commitTransaction_commitsInTransaction_singleStateCommitted() {
+        versionedTutorsPet.startTransaction();
+        assertTrue(versionedTutorsPet.isInTransaction());
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        assertFalse(versionedTutorsPet.canUndo());
+
+        versionedTutorsPet.commitTransaction(COMMIT_MESSAGE_3);
+        assertFalse(versionedTutorsPet.isInTransaction());
+        assertEquals(new StateRecords(1, Arrays.asList(INITIAL_COMMIT_MESSAGE, COMMIT_MESSAGE_3)),
+                versionedTutorsPet.viewStateRecords());
+        assertTrue(versionedTutorsPet.hasStudent(AMY));
+    }
+
+    @Test
+    public void commitTransaction_nullCommitMessage_throwsNullPointerException() {
+        versionedTutorsPet.startTransaction();
+        assertThrows(NullPointerException.class, () -> versionedTutorsPet.commitTransaction(null));
+    }
+
+    @Test
+    public void rollBackTransaction_changesInTransaction_changesDiscarded() {
+        versionedTutorsPet.startTransaction();
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+
+        versionedTutorsPet.rollBackTransaction();
+        assertFalse(versionedTutorsPet.isInTransaction());
+        assertFalse(versionedTutorsPet.hasStudent(AMY));
+        assertEquals(new VersionedTutorsPet(getTypicalTutorsPet()), versionedTutorsPet);
+    }
+
     @Test
     public void canUndo_hasPreviousState_returnsTrue() {
         versionedTutorsPet.commit(COMMIT_MESSAGE_1);
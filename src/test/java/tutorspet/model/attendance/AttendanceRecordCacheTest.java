@@ -0,0 +1,46 @@
+package tutorspet.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceRecordCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceRecordCache(0));
+    }
+
+    @Test
+    public void get_cachedKey_notReloaded() {
+        AttendanceRecordCache cache = new AttendanceRecordCache(2);
+        Object key = new Object();
+
+        List<AttendanceRecord> records = cache.get(key, () -> List.of(RECORD_ALICE_80));
+        assertSame(records, cache.get(key, () -> List.of(RECORD_EMPTY)));
+    }
+
+    @Test
+    public void get_cacheFull_leastRecentlyUsedDropped() {
+        AttendanceRecordCache cache = new AttendanceRecordCache(2);
+        Object first = new Object();
+        Object second = new Object();
+        Object third = new Object();
+
+        cache.get(first, () -> List.of(RECORD_ALICE_80));
+        cache.get(second, () -> List.of(RECORD_ALICE_80));
+        // first is now more recently used than second
+        cache.get(first, () -> List.of(RECORD_EMPTY));
+        cache.get(third, () -> List.of(RECORD_ALICE_80));
+        assertEquals(2, cache.size());
+
+        assertEquals(List.of(RECORD_ALICE_80), cache.get(first, () -> List.of(RECORD_EMPTY)));
+        assertEquals(List.of(RECORD_EMPTY), cache.get(second, () -> List.of(RECORD_EMPTY)));
+    }
+}
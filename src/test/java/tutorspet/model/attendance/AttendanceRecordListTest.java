@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
+import static tutorspet.model.attendance.PackedAttendanceMap.NO_ATTENDANCE;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
@@ -12,12 +13,15 @@ import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
 import static tutorspet.testutil.TypicalAttendanceRecord.getTypicalAttendanceRecord;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import tutorspet.commons.core.index.Index;
+import tutorspet.model.attendance.PackedAttendanceMap.StudentIndex;
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 import tutorspet.model.attendance.exceptions.InvalidWeekException;
 import tutorspet.model.lesson.NumberOfOccurrences;
@@ -140,6 +144,86 @@ public class AttendanceRecordListTest {
         assertFalse(attendanceRecordList.equals(differentAttendanceRecordList));
     }
 
+    @Test
+    public void constructor_lazyRecords_loadedOnFirstAccess() {
+        AtomicInteger loadCount = new AtomicInteger();
+        AttendanceRecordList lazyRecordList = new AttendanceRecordList(3, () -> {
+            loadCount.incrementAndGet();
+            return getTypicalAttendanceRecord();
+        }, new AttendanceRecordCache(1));
+
+        // size and week checks do not load the records
+        assertEquals(3, lazyRecordList.size());
+        assertTrue(lazyRecordList.isWeekContained(new Week(Index.fromOneBased(3))));
+        assertFalse(lazyRecordList.isWeekContained(new Week(Index.fromOneBased(4))));
+        assertEquals(0, loadCount.get());
+
+        // records are loaded once while cached
+        assertEquals(new AttendanceRecordList(getTypicalAttendanceRecord()), lazyRecordList);
+        assertTrue(lazyRecordList.hasAttendance(ALICE, new Week(Index.fromOneBased(2))));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void getAttendanceRecordList_evictedFromCache_reloaded() {
+        AttendanceRecordCache cache = new AttendanceRecordCache(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        AttendanceRecordList first = new AttendanceRecordList(3, () -> {
+            loadCount.incrementAndGet();
+            return getTypicalAttendanceRecord();
+        }, cache);
+        AttendanceRecordList second = new AttendanceRecordList(3, () -> getTypicalAttendanceRecord(), cache);
+
+        first.getAttendanceRecordList();
+        second.getAttendanceRecordList();
+        assertEquals(1, cache.size());
+
+        // first was dropped to make space for second
+        assertEquals(getTypicalAttendanceRecord(), first.getAttendanceRecordList());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void equals_packedRecordsNotLoaded_comparedWithoutLoading() {
+        AttendanceRecordCache cache = new AttendanceRecordCache(1);
+        AttendanceRecordList packed = createPackedRecordList(cache, 80, NO_ATTENDANCE);
+        AttendanceRecordList samePacked = createPackedRecordList(cache, 80, NO_ATTENDANCE);
+
+        assertTrue(packed.equals(samePacked));
+        assertEquals(packed.hashCode(), samePacked.hashCode());
+        assertFalse(packed.equals(createPackedRecordList(cache, 79, NO_ATTENDANCE)));
+        assertFalse(packed.equals(createPackedRecordList(cache, 80)));
+        assertEquals(0, cache.size());
+
+        // a list with loaded records is compared by its records
+        AttendanceRecordList expected = new AttendanceRecordList(List.of(RECORD_ALICE_80, RECORD_EMPTY));
+        assertEquals(expected.hashCode(), packed.hashCode());
+        assertEquals(0, cache.size());
+        assertTrue(packed.equals(expected));
+        assertTrue(packed.equals(samePacked));
+    }
+
+    @Test
+    public void getAttendanceRecordList_invalidPackedScore_throwsIllegalArgumentException() {
+        // invalid scores are only found when the records are loaded
+        AttendanceRecordList packed = createPackedRecordList(new AttendanceRecordCache(1), 80,
+                Attendance.UPPER_BOUND + 1);
+        assertEquals(2, packed.size());
+        assertThrows(IllegalArgumentException.class, packed::getAttendanceRecordList);
+    }
+
+    /**
+     * Creates an {@code AttendanceRecordList} with the packed {@code scores} of {@code ALICE}, one per week.
+     */
+    private AttendanceRecordList createPackedRecordList(AttendanceRecordCache cache, int... scores) {
+        ByteBuffer buffer = ByteBuffer.allocate(scores.length);
+        for (int score : scores) {
+            buffer.put((byte) score);
+        }
+        buffer.flip();
+        return new AttendanceRecordList(scores.length, new StudentIndex(List.of(ALICE.getUuid())), buffer, cache);
+    }
+
     /**
      * Creates an {@code AttendanceRecordList} with {@code RECORD_ALICE_80} at the first, valid week.
      * The rest of the 6 elements are empty {@code AttendanceRecords}.
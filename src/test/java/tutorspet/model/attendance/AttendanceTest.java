@@ -1,6 +1,8 @@
 package tutorspet.model.attendance;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
 
@@ -46,4 +48,14 @@ class AttendanceTest {
         // different participationScore -> returns false
         assertFalse(ATTENDANCE_ONE.equals(new Attendance(ATTENDANCE_ONE.getParticipationScore() + 1)));
     }
+
+    @Test
+    public void valueOf() {
+        // invalid participation score -> throws IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Attendance.valueOf(Attendance.UPPER_BOUND + 1));
+
+        // same score -> returns the same instance
+        assertSame(Attendance.valueOf(3), Attendance.valueOf(3));
+        assertEquals(ATTENDANCE_ONE, Attendance.valueOf(3));
+    }
 }
@@ -0,0 +1,114 @@
+package tutorspet.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.model.attendance.PackedAttendanceMap.NO_ATTENDANCE;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.attendance.PackedAttendanceMap.StudentIndex;
+
+class PackedAttendanceMapTest {
+
+    private static final StudentIndex STUDENT_INDEX =
+            new StudentIndex(List.of(ALICE.getUuid(), BENSON.getUuid(), CARL.getUuid()));
+
+    private static PackedAttendanceMap createMap(int... scores) {
+        ByteBuffer buffer = ByteBuffer.allocate(scores.length);
+        for (int score : scores) {
+            buffer.put((byte) score);
+        }
+        buffer.flip();
+        return new PackedAttendanceMap(STUDENT_INDEX, buffer);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PackedAttendanceMap(null, ByteBuffer.allocate(0)));
+        assertThrows(NullPointerException.class, () -> new PackedAttendanceMap(STUDENT_INDEX, null));
+    }
+
+    @Test
+    public void constructor_invalidScores_throwsIllegalArgumentException() {
+        // wrong number of scores
+        assertThrows(IllegalArgumentException.class, () -> createMap(1, 2));
+
+        // invalid score
+        assertThrows(IllegalArgumentException.class, () -> createMap(1, Attendance.UPPER_BOUND + 1, 3));
+    }
+
+    @Test
+    public void studentIndex_duplicateStudents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new StudentIndex(List.of(ALICE.getUuid(), ALICE.getUuid())));
+    }
+
+    @Test
+    public void get() {
+        PackedAttendanceMap map = createMap(80, NO_ATTENDANCE, 0);
+
+        assertEquals(new Attendance(80), map.get(ALICE.getUuid()));
+        assertEquals(new Attendance(0), map.get(CARL.getUuid()));
+        assertNull(map.get(BENSON.getUuid()));
+        assertNull(map.get(UUID.randomUUID()));
+
+        assertTrue(map.containsKey(ALICE.getUuid()));
+        assertFalse(map.containsKey(BENSON.getUuid()));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void equals() {
+        PackedAttendanceMap map = createMap(80, NO_ATTENDANCE, 0);
+        Map<UUID, Attendance> expected = Map.of(ALICE.getUuid(), new Attendance(80),
+                CARL.getUuid(), new Attendance(0));
+
+        // same attendances in a different map -> returns true
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(new AttendanceRecord(expected), new AttendanceRecord(map));
+
+        // different attendances -> returns false
+        assertFalse(map.equals(createMap(80, 1, 0)));
+        assertFalse(map.equals(createMap(NO_ATTENDANCE, NO_ATTENDANCE, NO_ATTENDANCE)));
+
+        // same scores over an equal student index -> returns true
+        StudentIndex equalIndex = new StudentIndex(List.of(ALICE.getUuid(), BENSON.getUuid(), CARL.getUuid()));
+        assertEquals(map,
+                new PackedAttendanceMap(equalIndex, ByteBuffer.wrap(new byte[] {80, (byte) NO_ATTENDANCE, 0})));
+
+        // same attendances over a student index in a different order -> returns true
+        StudentIndex reversedIndex = new StudentIndex(List.of(CARL.getUuid(), BENSON.getUuid(), ALICE.getUuid()));
+        PackedAttendanceMap reversedMap =
+                new PackedAttendanceMap(reversedIndex, ByteBuffer.wrap(new byte[] {0, (byte) NO_ATTENDANCE, 80}));
+        assertEquals(map, reversedMap);
+        assertEquals(map.hashCode(), reversedMap.hashCode());
+    }
+
+    @Test
+    public void studentIndex_equals() {
+        assertEquals(STUDENT_INDEX, new StudentIndex(List.of(ALICE.getUuid(), BENSON.getUuid(), CARL.getUuid())));
+        assertEquals(STUDENT_INDEX.hashCode(),
+                new StudentIndex(List.of(ALICE.getUuid(), BENSON.getUuid(), CARL.getUuid())).hashCode());
+        assertFalse(STUDENT_INDEX.equals(new StudentIndex(List.of(ALICE.getUuid(), BENSON.getUuid()))));
+        assertFalse(STUDENT_INDEX.equals(null));
+    }
+
+    @Test
+    public void put_throwsUnsupportedOperationException() {
+        PackedAttendanceMap map = createMap(80, NO_ATTENDANCE, 0);
+        assertThrows(UnsupportedOperationException.class, () -> map.put(BENSON.getUuid(), new Attendance(1)));
+    }
+}
@@ -2,6 +2,7 @@ package tutorspet.model.components.name;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -11,6 +12,18 @@ import org.junit.jupiter.api.Test;
 
 public class NameContainsKeywordsPredicateTest {
 
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate<>(
+                Arrays.asList("Valid", " ")));
+    }
+
+    @Test
+    public void constructor_multipleWordKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate<>(
+                Collections.singletonList("Valid Name")));
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -58,6 +71,14 @@ public class NameContainsKeywordsPredicateTest {
         // mixed-case keywords
         predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Invalid", "nAme"));
         assertTrue(predicate.test(new HasNameStub()));
+
+        // keyword with leading and trailing spaces
+        predicate = new NameContainsKeywordsPredicate<>(Collections.singletonList("  name "));
+        assertTrue(predicate.test(new HasNameStub()));
+
+        // name with repeated spaces
+        predicate = new NameContainsKeywordsPredicate<>(Collections.singletonList("name"));
+        assertTrue(predicate.test(new HasNameStub("Valid   Name ")));
     }
 
     @Test
@@ -70,6 +91,10 @@ public class NameContainsKeywordsPredicateTest {
         // non-matching keyword
         predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Invalid"));
         assertFalse(predicate.test(new HasNameStub()));
+
+        // keyword matches only part of a word
+        predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Val", "Names"));
+        assertFalse(predicate.test(new HasNameStub()));
     }
 
     private static class HasNameStub implements HasName {
@@ -77,7 +102,11 @@ public class NameContainsKeywordsPredicateTest {
         private Name name;
 
         HasNameStub() {
-            name = new Name("Valid Name");
+            this("Valid Name");
+        }
+
+        HasNameStub(String name) {
+            this.name = new Name(name);
         }
 
         public Name getName() {
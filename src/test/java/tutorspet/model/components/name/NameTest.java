@@ -1,8 +1,10 @@
 package tutorspet.model.components.name;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +39,46 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName, "aZ09 _-");
+    }
+
+    @Test
+    public void containsFoldedWord() {
+        Name name = new Name("Alex  Yeoh 2nd ");
+
+        assertTrue(name.containsFoldedWord("alex"));
+        assertTrue(name.containsFoldedWord("yeoh"));
+        assertTrue(name.containsFoldedWord("2nd"));
+
+        assertFalse(name.containsFoldedWord("Alex")); // not folded
+        assertFalse(name.containsFoldedWord("ale")); // part of a word
+        assertFalse(name.containsFoldedWord("alex yeoh")); // more than one word
+        assertFalse(name.containsFoldedWord("")); // spaces are not words
+    }
+
+    @Test
+    public void getSortKey() {
+        assertEquals("alex yeoh 2nd", new Name("Alex  Yeoh 2nd ").getSortKey());
+        assertEquals("alex", new Name("ALEX").getSortKey());
+    }
+
+    @Test
+    public void compareTo() {
+        Name alex = new Name("alex yeoh");
+
+        // same name -> returns 0
+        assertEquals(0, alex.compareTo(new Name("alex yeoh")));
+
+        // ordered by sort key, ignoring case and extra spaces
+        assertTrue(alex.compareTo(new Name("Bernice Yu")) < 0);
+        assertTrue(new Name("Bernice Yu").compareTo(alex) > 0);
+        assertTrue(new Name("Alex  Yeoh").compareTo(new Name("alex yeoh2")) < 0);
+
+        // same sort key -> ordered by full name, consistent with equals
+        assertTrue(new Name("Alex Yeoh").compareTo(alex) < 0);
+        assertTrue(alex.compareTo(new Name("Alex Yeoh")) > 0);
+    }
 }
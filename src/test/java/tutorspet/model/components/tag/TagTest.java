@@ -1,6 +1,7 @@
 package tutorspet.model.components.tag;
 
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,4 +23,9 @@ public class TagTest {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
+
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, "aZ09 _-");
+    }
 }
@@ -3,6 +3,7 @@ package tutorspet.model.lesson;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +62,9 @@ public class VenueTest {
         // different venue -> returns false
         assertFalse(venue1.equals(venue3));
     }
+
+    @Test
+    public void isValidVenue_sameAsValidationRegex() {
+        assertSameAsRegex(Venue.VALIDATION_REGEX, Venue::isValidVenue, "aZ09_-.[]@ ^\"\\");
+    }
 }
@@ -3,6 +3,7 @@ package tutorspet.model.student;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,4 +59,9 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
     }
+
+    @Test
+    public void isValidEmail_sameAsValidationRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail, "aZ09_@.-+ !");
+    }
 }
@@ -3,6 +3,7 @@ package tutorspet.model.student;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,4 +39,9 @@ public class TelegramTest {
         assertTrue(Telegram.isValidTelegram("alex_merier3471")); // typical telegram handle
         assertTrue(Telegram.isValidTelegram("Tel3gggggggggggggggggggggggggggg")); // exactly 32 characters
     }
+
+    @Test
+    public void isValidTelegram_sameAsValidationRegex() {
+        assertSameAsRegex(Telegram.VALIDATION_REGEX, Telegram::isValidTelegram, "aaaaZ09_ -");
+    }
 }
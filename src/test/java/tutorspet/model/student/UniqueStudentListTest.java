@@ -97,6 +97,37 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newStudents_success() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(Arrays.asList(BENSON, BOB));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(ALICE);
+        expectedUniqueStudentList.add(BENSON);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void addAll_studentInList_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        Student aliceWithBobTelegram = new StudentBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(
+                Arrays.asList(BENSON, aliceWithBobTelegram)));
+        // the list is unchanged
+        assertEquals(Collections.singletonList(ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateStudentsInList_throwsDuplicateStudentException() {
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, BOB)));
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -201,6 +232,20 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithSameEmailStudents_throwsDuplicateStudentException() {
+        Student editedBob = new StudentBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BENSON, editedBob);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void setStudents_listWithSameTelegramStudents_throwsDuplicateStudentException() {
+        Student editedBob = new StudentBuilder(BOB).withTelegram(BENSON.getTelegram().value).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BENSON, editedBob);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
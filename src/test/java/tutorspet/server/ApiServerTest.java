@@ -0,0 +1,340 @@
+package tutorspet.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_MISSING_LINK;
+import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static tutorspet.server.ApiServer.CLASSES_PATH;
+import static tutorspet.server.ApiServer.COMMANDS_PATH;
+import static tutorspet.server.ApiServer.COMMAND_FIELD;
+import static tutorspet.server.ApiServer.ERROR_FIELD;
+import static tutorspet.server.ApiServer.JSON_CONTENT_TYPE;
+import static tutorspet.server.ApiServer.LESSONS_PATH;
+import static tutorspet.server.ApiServer.MESSAGE_CLASS_NOT_FOUND;
+import static tutorspet.server.ApiServer.MESSAGE_FOREIGN_REQUEST;
+import static tutorspet.server.ApiServer.MESSAGE_INVALID_COMMAND_BODY;
+import static tutorspet.server.ApiServer.MESSAGE_INVALID_TOKEN;
+import static tutorspet.server.ApiServer.MESSAGE_METHOD_NOT_ALLOWED;
+import static tutorspet.server.ApiServer.MESSAGE_MISSING_PARAMETER;
+import static tutorspet.server.ApiServer.MESSAGE_STUDENT_NOT_FOUND;
+import static tutorspet.server.ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE;
+import static tutorspet.server.ApiServer.RESULT_FIELD;
+import static tutorspet.server.ApiServer.STATISTICS_PATH;
+import static tutorspet.server.ApiServer.STATUS_BAD_REQUEST;
+import static tutorspet.server.ApiServer.STATUS_FORBIDDEN;
+import static tutorspet.server.ApiServer.STATUS_METHOD_NOT_ALLOWED;
+import static tutorspet.server.ApiServer.STATUS_NOT_FOUND;
+import static tutorspet.server.ApiServer.STATUS_OK;
+import static tutorspet.server.ApiServer.STATUS_UNAUTHORIZED;
+import static tutorspet.server.ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE;
+import static tutorspet.server.ApiServer.STUDENTS_PATH;
+import static tutorspet.server.ApiServer.TOKEN_HEADER;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.logic.LogicManager;
+import tutorspet.logic.commands.ExitCommand;
+import tutorspet.logic.commands.student.AddStudentCommand;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.StorageManager;
+import tutorspet.testutil.StudentBuilder;
+
+public class ApiServerTest {
+
+    private static final String ADD_AMY_COMMAND =
+            AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonTutorsPetStorage(temporaryFolder.resolve("tutorsPet.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getStudents_typicalData_studentsReturned() throws Exception {
+        Response response = send("GET", STUDENTS_PATH, null);
+
+        assertEquals(STATUS_OK, response.status);
+        List<?> students = JsonUtil.fromJsonString(response.body, List.class);
+        assertEquals(getTypicalTutorsPet().getStudentList().size(), students.size());
+        assertEquals(ALICE.getUuid().toString(), ((Map<?, ?>) students.get(0)).get("uuid"));
+    }
+
+    @Test
+    public void getClasses_typicalData_classesReturned() throws Exception {
+        Response response = send("GET", CLASSES_PATH, null);
+
+        assertEquals(STATUS_OK, response.status);
+        List<?> moduleClasses = JsonUtil.fromJsonString(response.body, List.class);
+        assertEquals(getTypicalTutorsPet().getModuleClassList().size(), moduleClasses.size());
+    }
+
+    @Test
+    public void getLessons_existingClass_lessonsReturned() throws Exception {
+        Response response = send("GET", LESSONS_PATH + "?class=" + encode(CS2100_LAB.getName().fullName), null);
+
+        assertEquals(STATUS_OK, response.status);
+        assertEquals(CS2100_LAB.getLessons().size(), JsonUtil.fromJsonString(response.body, List.class).size());
+    }
+
+    @Test
+    public void getLessons_missingOrUnknownClass_errorReturned() throws Exception {
+        assertError(send("GET", LESSONS_PATH, null), STATUS_BAD_REQUEST,
+                String.format(MESSAGE_MISSING_PARAMETER, ApiServer.CLASS_PARAMETER));
+        assertError(send("GET", LESSONS_PATH + "?class=Unknown", null), STATUS_NOT_FOUND,
+                String.format(MESSAGE_CLASS_NOT_FOUND, "Unknown"));
+    }
+
+    @Test
+    public void getStatistics_studentInClass_statisticsReturned() throws Exception {
+        Response response = send("GET", STATISTICS_PATH + "?class=" + encode(CS2103T_TUTORIAL.getName().fullName)
+                + "&student=" + ALICE.getUuid(), null);
+
+        assertEquals(STATUS_OK, response.status);
+        Map<?, ?> statistics = JsonUtil.fromJsonString(response.body, Map.class);
+        assertEquals(ALICE.getName().fullName, statistics.get("studentName"));
+        assertEquals(65.5, statistics.get("averageParticipation"));
+    }
+
+    @Test
+    public void getStatistics_invalidStudent_errorReturned() throws Exception {
+        String classQuery = "?class=" + encode(CS2100_LAB.getName().fullName);
+        assertError(send("GET", STATISTICS_PATH + classQuery + "&student=" + AMY.getUuid(), null),
+                STATUS_NOT_FOUND, String.format(MESSAGE_STUDENT_NOT_FOUND, AMY.getUuid()));
+
+        classQuery = "?class=" + encode(CS2103T_TUTORIAL.getName().fullName);
+        assertError(send("GET", STATISTICS_PATH + classQuery, null), STATUS_BAD_REQUEST,
+                String.format(MESSAGE_MISSING_PARAMETER, ApiServer.STUDENT_PARAMETER));
+    }
+
+    @Test
+    public void getStatistics_studentNotInClass_errorReturned() throws Exception {
+        String query = "?class=" + encode(CS2100_LAB.getName().fullName) + "&student=" + ALICE.getUuid();
+        assertError(send("GET", STATISTICS_PATH + query, null), STATUS_NOT_FOUND, MESSAGE_MISSING_LINK);
+    }
+
+    @Test
+    public void executeCommand_validCommand_dataUpdated() throws Exception {
+        int studentCount = getTypicalTutorsPet().getStudentList().size();
+
+        Response response = send("POST", COMMANDS_PATH, ADD_AMY_COMMAND);
+
+        assertEquals(STATUS_OK, response.status);
+        assertEquals(String.format(AddStudentCommand.MESSAGE_SUCCESS, new StudentBuilder(AMY).withTags().build()),
+                JsonUtil.fromJsonString(response.body, Map.class).get(RESULT_FIELD));
+        Response studentsResponse = send("GET", STUDENTS_PATH, null);
+        assertEquals(studentCount + 1, JsonUtil.fromJsonString(studentsResponse.body, List.class).size());
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_errorReturned() throws Exception {
+        assertError(send("POST", COMMANDS_PATH, "unknown"), STATUS_BAD_REQUEST, MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void executeCommand_bodyNotJson_errorReturned() throws Exception {
+        assertError(send("POST", COMMANDS_PATH, "text/plain", ADD_AMY_COMMAND, server.getToken()),
+                STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        assertError(send("POST", COMMANDS_PATH, null, ADD_AMY_COMMAND, server.getToken()),
+                STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        assertError(send("POST", COMMANDS_PATH, JSON_CONTENT_TYPE, ADD_AMY_COMMAND, server.getToken()),
+                STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+        assertError(send("POST", COMMANDS_PATH, JSON_CONTENT_TYPE, "{\"" + COMMAND_FIELD + "\": 1}", server.getToken()),
+                STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+    }
+
+    @Test
+    public void executeCommand_exitCommand_exitAwaited() throws Exception {
+        assertEquals(STATUS_OK, send("POST", COMMANDS_PATH, ExitCommand.COMMAND_WORD).status);
+        server.awaitExit(); // returns at once
+    }
+
+    @Test
+    public void send_wrongMethod_errorReturned() throws Exception {
+        assertError(send("POST", STUDENTS_PATH, ""), STATUS_METHOD_NOT_ALLOWED,
+                String.format(MESSAGE_METHOD_NOT_ALLOWED, "POST", STUDENTS_PATH));
+        assertError(send("GET", COMMANDS_PATH, null), STATUS_METHOD_NOT_ALLOWED,
+                String.format(MESSAGE_METHOD_NOT_ALLOWED, "GET", COMMANDS_PATH));
+    }
+
+    @Test
+    public void send_missingOrWrongToken_errorReturned() throws Exception {
+        assertError(send("GET", STUDENTS_PATH, null, null, null), STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+        assertError(send("GET", STUDENTS_PATH, null, null, server.getToken() + "x"), STATUS_UNAUTHORIZED,
+                MESSAGE_INVALID_TOKEN);
+        assertError(send("POST", COMMANDS_PATH, JSON_CONTENT_TYPE, toCommandBody(ADD_AMY_COMMAND), ""),
+                STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+    }
+
+    @Test
+    public void send_foreignHostOrOrigin_errorReturned() throws Exception {
+        String tokenHeader = TOKEN_HEADER + ": " + server.getToken();
+
+        // DNS rebinding: a foreign host name that resolves to the loopback address
+        assertError(sendRaw(STUDENTS_PATH, "Host: attacker.example:" + server.getPort(), tokenHeader),
+                STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+        // Cross-origin request from a web page
+        assertError(sendRaw(STUDENTS_PATH, "Host: localhost:" + server.getPort(), tokenHeader,
+                "Origin: https://attacker.example"), STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+        assertError(sendRaw(STUDENTS_PATH, "Host: localhost:" + server.getPort(), tokenHeader, "Origin: null"),
+                STATUS_FORBIDDEN, MESSAGE_FOREIGN_REQUEST);
+
+        assertEquals(STATUS_OK, sendRaw(STUDENTS_PATH, "Host: 127.0.0.1:" + server.getPort(), tokenHeader,
+                "Origin: http://localhost:" + server.getPort()).status);
+        assertEquals(STATUS_OK, sendRaw(STUDENTS_PATH, "Host: [::1]:" + server.getPort(), tokenHeader).status);
+    }
+
+    @Test
+    public void send_concurrentReadsAndWrites_allServed() throws Exception {
+        int studentCount = getTypicalTutorsPet().getStudentList().size();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> reads = new ArrayList<>();
+            Future<Response> write = executor.submit(() -> send("POST", COMMANDS_PATH, ADD_AMY_COMMAND));
+            for (int i = 0; i < 50; i++) {
+                reads.add(executor.submit(() -> send("GET", STUDENTS_PATH, null)));
+            }
+
+            assertEquals(STATUS_OK, write.get().status);
+            for (Future<Response> read : reads) {
+                Response response = read.get();
+                assertEquals(STATUS_OK, response.status);
+                // Each read sees the data either before or after the command, never in between
+                int size = JsonUtil.fromJsonString(response.body, List.class).size();
+                assertTrue(size == studentCount || size == studentCount + 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Sends a request with {@code method} and the token of the server to {@code pathAndQuery} of the server.
+     * If {@code commandText} is not null, it is sent as the command in a JSON body.
+     */
+    private Response send(String method, String pathAndQuery, String commandText) throws IOException {
+        return commandText == null
+                ? send(method, pathAndQuery, null, null, server.getToken())
+                : send(method, pathAndQuery, JSON_CONTENT_TYPE, toCommandBody(commandText), server.getToken());
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code pathAndQuery} of the server, with {@code contentType},
+     * {@code body} and {@code token} if they are not null.
+     */
+    private Response send(String method, String pathAndQuery, String contentType, String body, String token)
+            throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + pathAndQuery);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod(method);
+            if (token != null) {
+                connection.setRequestProperty(TOKEN_HEADER, token);
+            }
+            if (contentType != null) {
+                connection.setRequestProperty("Content-Type", contentType);
+            }
+            if (body != null) {
+                connection.setDoOutput(true);
+                try (OutputStream requestBody = connection.getOutputStream()) {
+                    requestBody.write(body.getBytes(UTF_8));
+                }
+            }
+
+            int status = connection.getResponseCode();
+            try (InputStream responseBody = status == STATUS_OK
+                    ? connection.getInputStream() : connection.getErrorStream()) {
+                return new Response(status, new String(responseBody.readAllBytes(), UTF_8));
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Sends a GET request to {@code path} of the server with exactly the given {@code headers}.
+     * Unlike {@code HttpURLConnection}, this allows the Host and Origin headers to be chosen.
+     */
+    private Response sendRaw(String path, String... headers) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            String request = "GET " + path + " HTTP/1.1\r\n" + String.join("\r\n", headers)
+                    + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(UTF_8));
+
+            String response = new String(socket.getInputStream().readAllBytes(), UTF_8);
+            int status = Integer.parseInt(response.split(" ")[1]);
+            return new Response(status, response.substring(response.indexOf("\r\n\r\n") + 4));
+        }
+    }
+
+    private static String toCommandBody(String commandText) throws IOException {
+        return JsonUtil.toCompactJsonString(Map.of(COMMAND_FIELD, commandText));
+    }
+
+    private static void assertError(Response response, int expectedStatus, String expectedMessage)
+            throws IOException {
+        assertEquals(expectedStatus, response.status);
+        assertEquals(expectedMessage, JsonUtil.fromJsonString(response.body, Map.class).get(ERROR_FIELD));
+    }
+
+    private static String encode(String parameter) {
+        return URLEncoder.encode(parameter, UTF_8);
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.AttendanceRecordCache;
+
+public class BinaryTutorsPetStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTutorsPetTest");
+    private static final Path TYPICAL_TUTORS_PET_FILE = TEST_DATA_FOLDER.resolve("typicalTutorsPet.json");
+    private static final Path NOT_JSON_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonTutorsPetStorageTest", "notJsonFormatTutorsPet.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTutorsPet_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryTutorsPetStorage(null).readTutorsPet(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTutorsPetStorage(testFolder.resolve("NonExistentFile.bin")).readTutorsPet()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        TutorsPet original = getTypicalTutorsPet();
+        BinaryTutorsPetStorage binaryTutorsPetStorage = new BinaryTutorsPetStorage(filePath);
+
+        // Save in new file and read back
+        binaryTutorsPetStorage.saveTutorsPet(original);
+        ReadOnlyTutorsPet readBack = binaryTutorsPetStorage.readTutorsPet().get();
+        assertEquals(original, new TutorsPet(readBack));
+        assertFalse(Files.exists(testFolder.resolve("TempTutorsPet.bin.tmp")));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        binaryTutorsPetStorage.saveTutorsPet(original);
+        readBack = binaryTutorsPetStorage.readTutorsPet().get();
+        assertEquals(original, new TutorsPet(readBack));
+    }
+
+    @Test
+    public void readTutorsPet_smallAttendanceCache_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        TutorsPet original = getTypicalTutorsPet();
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        // Attendance records are dropped and reloaded as each lesson is compared
+        assertEquals(original, new BinaryTutorsPetStorage(filePath, 1).readTutorsPet().get());
+    }
+
+    @Test
+    public void read_compareLoadedData_attendanceRecordsNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        AttendanceRecordCache cache = new AttendanceRecordCache(AttendanceRecordCache.DEFAULT_CAPACITY);
+
+        TutorsPet first = BinaryTutorsPetCodec.read(buffer, cache);
+        TutorsPet second = BinaryTutorsPetCodec.read(buffer, cache);
+        assertEquals(first.getModuleClassList(), second.getModuleClassList());
+        assertEquals(first.getModuleClassList().hashCode(), second.getModuleClassList().hashCode());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void readTutorsPet_fileReplacedBySave_mappedDataUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        TutorsPet original = getTypicalTutorsPet();
+        BinaryTutorsPetStorage binaryTutorsPetStorage = new BinaryTutorsPetStorage(filePath, 1);
+        binaryTutorsPetStorage.saveTutorsPet(original);
+        ReadOnlyTutorsPet readBack = binaryTutorsPetStorage.readTutorsPet().get();
+
+        // The attendance of the data read earlier is still read from the mapping of its private copy
+        binaryTutorsPetStorage.saveTutorsPet(new TutorsPet());
+        assertEquals(original, new TutorsPet(readBack));
+        assertEquals(new TutorsPet(), new TutorsPet(binaryTutorsPetStorage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_jsonFile_success() throws Exception {
+        assertEquals(getTypicalTutorsPet(), new BinaryTutorsPetStorage(TYPICAL_TUTORS_PET_FILE).readTutorsPet().get());
+    }
+
+    @Test
+    public void readTutorsPet_notBinaryOrJsonFormat_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                new BinaryTutorsPetStorage(NOT_JSON_FORMAT_FILE).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[Integer.BYTES + 1] = (byte) (BinaryTutorsPetCodec.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void saveTutorsPet_typicalTutorsPet_smallerThanJson() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        assertTrue(Files.size(filePath) < Files.size(TYPICAL_TUTORS_PET_FILE));
+    }
+
+    @Test
+    public void convertFromJsonAndToJson_typicalTutorsPet_success() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempTutorsPet.bin");
+        Path jsonFilePath = testFolder.resolve("TempTutorsPet.json");
+
+        BinaryTutorsPetStorage.convertFromJson(TYPICAL_TUTORS_PET_FILE, binaryFilePath);
+        assertEquals(getTypicalTutorsPet(), new BinaryTutorsPetStorage(binaryFilePath).readTutorsPet().get());
+
+        BinaryTutorsPetStorage.convertToJson(binaryFilePath, jsonFilePath);
+        assertEquals(getTypicalTutorsPet(), new JsonTutorsPetStorage(jsonFilePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void convertToJson_notBinaryFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> BinaryTutorsPetStorage.convertToJson(TYPICAL_TUTORS_PET_FILE,
+                testFolder.resolve("TempTutorsPet.json")));
+    }
+}
@@ -0,0 +1,186 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.StudentBuilder;
+
+public class ChunkedBackupStorageTest {
+
+    private static final Instant TIME = Instant.parse("2020-10-19T09:30:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDirectoryPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ChunkedBackupStorage(null));
+    }
+
+    @Test
+    public void getBackupDirectoryPath_filePath_siblingDirectory() {
+        assertEquals(testFolder.resolve("tutorspet.json.backups"),
+                ChunkedBackupStorage.getBackupDirectoryPath(testFolder.resolve("tutorspet.json")));
+    }
+
+    @Test
+    public void getBackupTime() {
+        assertEquals(TIME, ChunkedBackupStorage.getBackupTime("20201019-093000"));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedBackupStorage.getBackupTime("2020-10-19"));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedBackupStorage.getBackupTime("20201399-093000"));
+    }
+
+    @Test
+    public void backUpAndReadBackup_allInOrder_success() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        assertEquals(List.of(), backupStorage.getBackupIds());
+
+        TutorsPet original = getTypicalTutorsPet();
+        String firstBackupId = backupStorage.backUpTutorsPet(original, TIME);
+        assertEquals("20201019-093000", firstBackupId);
+
+        original.addStudent(HOON);
+        String secondBackupId = backupStorage.backUpTutorsPet(original, TIME.plus(Duration.ofHours(1)));
+        assertEquals("20201019-103000", secondBackupId);
+
+        assertEquals(List.of(firstBackupId, secondBackupId), backupStorage.getBackupIds());
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(backupStorage.readBackup(firstBackupId).get()));
+        assertEquals(original, new TutorsPet(backupStorage.readBackup(secondBackupId).get()));
+    }
+
+    @Test
+    public void readBackup_missingOrInvalidId_emptyResult() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+
+        assertFalse(backupStorage.readBackup("20201019-093001").isPresent());
+        assertFalse(backupStorage.readBackup("../20201019-093000").isPresent());
+    }
+
+    @Test
+    public void backUpTutorsPet_unchangedData_latestBackupUsed() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        String backupId = backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+
+        assertEquals(backupId, backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME.plusSeconds(60)));
+        assertEquals(List.of(backupId), backupStorage.getBackupIds());
+    }
+
+    @Test
+    public void backUpTutorsPet_sameSecond_nextSecondUsed() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        backupStorage.backUpTutorsPet(tutorsPet, TIME);
+
+        tutorsPet.addStudent(HOON);
+        assertEquals("20201019-093001", backupStorage.backUpTutorsPet(tutorsPet, TIME.plusMillis(500)));
+    }
+
+    @Test
+    public void backUpTutorsPet_oneStudentChanged_onlyChangedChunkWritten() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        backupStorage.backUpTutorsPet(tutorsPet, TIME);
+        List<Path> originalChunks = getChunkFiles();
+
+        // students and classes are each stored as a chunk
+        assertEquals(tutorsPet.getStudentList().size() + tutorsPet.getModuleClassList().size(),
+                originalChunks.size());
+
+        Student target = tutorsPet.getStudentList().get(0);
+        tutorsPet.setStudent(target, new StudentBuilder(target).withName("Edited Name").build());
+        backupStorage.backUpTutorsPet(tutorsPet, TIME.plusSeconds(60));
+        List<Path> chunks = getChunkFiles();
+
+        assertEquals(originalChunks.size() + 1, chunks.size());
+        assertEquals(tutorsPet, new TutorsPet(backupStorage.readBackup("20201019-093100").get()));
+    }
+
+    @Test
+    public void readBackup_corruptedChunk_throwsDataConversionException() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        String backupId = backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+
+        Path chunk = getChunkFiles().get(0);
+        FileUtil.writeToFile(chunk, FileUtil.readFromFile(chunk).replace('a', 'b'));
+        assertThrows(DataConversionException.class, () -> backupStorage.readBackup(backupId));
+
+        Files.delete(chunk);
+        assertThrows(DataConversionException.class, () -> backupStorage.readBackup(backupId));
+    }
+
+    @Test
+    public void pruneBackups_oldBackups_deletedByAge() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder, Duration.ofDays(1),
+                Duration.ofDays(3));
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        String[] names = {"A", "B", "C", "D", "E", "F", "G", "H"};
+        // two backups a day, at 01:00 and 13:00, for four days
+        Instant start = Instant.parse("2020-10-16T01:00:00Z");
+        for (int i = 0; i < names.length; i++) {
+            Student target = tutorsPet.getStudentList().get(0);
+            tutorsPet.setStudent(target, new StudentBuilder(target).withName("Name " + names[i]).build());
+            backupStorage.backUpTutorsPet(tutorsPet, start.plus(Duration.ofHours(12L * i)));
+        }
+
+        backupStorage.pruneBackups(Instant.parse("2020-10-19T14:00:00Z"));
+
+        // every backup of the last day, then the latest backup of each day for the last three days
+        assertEquals(List.of("20201017-130000", "20201018-130000", "20201019-010000", "20201019-130000"),
+                backupStorage.getBackupIds());
+        for (String backupId : backupStorage.getBackupIds()) {
+            assertEquals(1, backupStorage.readBackup(backupId).get().getStudentList().stream()
+                    .filter(student -> student.getName().fullName.startsWith("Name ")).count());
+        }
+
+        // the chunks used only by the deleted backups are deleted
+        TutorsPet unchanged = getTypicalTutorsPet();
+        int unchangedChunks = unchanged.getStudentList().size() - 1 + unchanged.getModuleClassList().size();
+        assertEquals(unchangedChunks + 4, getChunkFiles().size());
+    }
+
+    @Test
+    public void pruneBackups_onlyOldBackups_latestBackupKept() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        String backupId = backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+
+        backupStorage.pruneBackups(TIME.plus(Duration.ofDays(365)));
+        assertEquals(List.of(backupId), backupStorage.getBackupIds());
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(backupStorage.readBackup(backupId).get()));
+    }
+
+    @Test
+    public void backUpTutorsPet_differentData_differentBackups() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        String firstBackupId = backupStorage.backUpTutorsPet(new TutorsPet(), TIME);
+        String secondBackupId = backupStorage.backUpTutorsPet(getTypicalTutorsPet(), TIME);
+        assertNotEquals(firstBackupId, secondBackupId);
+        assertEquals(new TutorsPet(), new TutorsPet(backupStorage.readBackup(firstBackupId).get()));
+    }
+
+    private List<Path> getChunkFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(testFolder.resolve("chunks"))) {
+            return paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalStudent.IDA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+public class JournaledTutorsPetStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTutorsPetStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledTutorsPetStorage createStorage(Path filePath, int maxJournalEntries) {
+        return new JournaledTutorsPetStorage(filePath, maxJournalEntries, Long.MAX_VALUE, Runnable::run);
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledTutorsPetStorage(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(createStorage(filePath, 10).readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void readTutorsPet_notJsonFormat_throwsDataConversionException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatTutorsPet.json");
+        assertThrows(DataConversionException.class, () -> createStorage(filePath, 10).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_plainJsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        assertEquals(original, new TutorsPet(createStorage(filePath, 10).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+
+        // First save writes a snapshot
+        storage.saveTutorsPet(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // Saving without changes does not write anything
+        storage.saveTutorsPet(original);
+        assertFalse(Files.exists(journalPath));
+
+        // Later saves only append to the journal
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original);
+        ModuleClass editedModuleClass = new ModuleClassBuilder(CS2100_LAB).withName("CS2100 Recitation").build();
+        original.setModuleClass(CS2100_LAB, editedModuleClass);
+        storage.saveTutorsPet(original);
+        original.setStudent(HOON, new StudentBuilder(HOON).withName("Hoon Meier Jr").build());
+        storage.saveTutorsPet(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, new TutorsPet(createStorage(filePath, 10).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_studentWithNewUuid_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        original.addStudent(HOON);
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+        storage.saveTutorsPet(original);
+
+        // The student is equal to the one it replaces, but has a different UUID
+        Student newHoon = new StudentBuilder(HOON).withUuid("8d8e1b5c-4a1f-4a0b-9c8e-2b7f6e5d4c3a").build();
+        original.setStudent(HOON, newHoon);
+        storage.saveTutorsPet(original);
+        assertEquals(1, Files.readAllLines(JournaledTutorsPetStorage.getJournalFilePath(filePath)).size());
+
+        TutorsPet reopened = new TutorsPet(createStorage(filePath, 10).readTutorsPet().get());
+        assertEquals(newHoon.getUuid(), reopened.getStudentList().get(reopened.getStudentList().size() - 1).getUuid());
+    }
+
+    @Test
+    public void saveTutorsPet_snapshotNotWritten_journalKept() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        // A new storage saves a full snapshot, which cannot be moved into place while a folder is in the way
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        Files.move(filePath, snapshotPath);
+        Files.createDirectories(filePath.resolve("file"));
+        assertThrows(IOException.class, () -> createStorage(filePath, 10).saveTutorsPet(new TutorsPet()));
+        Files.delete(filePath.resolve("file"));
+        Files.delete(filePath);
+        Files.move(snapshotPath, filePath);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new TutorsPet(createStorage(filePath, 10).readTutorsPet().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count()); // no temporary files are left behind
+        }
+    }
+
+    @Test
+    public void saveTutorsPet_journalNotDroppedAfterSnapshot_journalNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        // A new storage that has not read the journal saves a full snapshot, and stops before the journal is dropped
+        byte[] journal = Files.readAllBytes(journalPath);
+        createStorage(filePath, 10).saveTutorsPet(new TutorsPet());
+        Files.write(journalPath, journal);
+
+        assertEquals(new TutorsPet(), new TutorsPet(createStorage(filePath, 10).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_journalFull_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 2);
+        storage.saveTutorsPet(original);
+
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        original.addStudent(IDA);
+        storage.saveTutorsPet(original);
+        assertEquals(0, Files.readAllLines(journalPath).size());
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+
+        // Entries after compaction are replayed on top of the new snapshot
+        original.deleteStudent(HOON);
+        storage.saveTutorsPet(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new TutorsPet(createStorage(filePath, 2).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        Files.write(journalPath, "{\"sequence\":2,\"studentIndex\"".getBytes(), StandardOpenOption.APPEND);
+
+        JournaledTutorsPetStorage reopenedStorage = createStorage(filePath, 10);
+        assertEquals(original, new TutorsPet(reopenedStorage.readTutorsPet().get()));
+
+        // The incomplete entry is removed so that later entries can be appended after it
+        original.addStudent(IDA);
+        reopenedStorage.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(createStorage(filePath, 10).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_invalidJournalEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path journalPath = JournaledTutorsPetStorage.getJournalFilePath(filePath);
+        createStorage(filePath, 10).saveTutorsPet(getTypicalTutorsPet());
+
+        Files.write(journalPath, "{\"sequence\":1,\"studentIndex\":100,\"studentsRemoved\":1}\n".getBytes());
+
+        assertThrows(DataConversionException.class, () -> createStorage(filePath, 10).readTutorsPet());
+    }
+
+    @Test
+    public void saveTutorsPet_otherFilePath_writesPlainJsonFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path otherFilePath = testFolder.resolve("OtherTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = createStorage(filePath, 10);
+
+        storage.saveTutorsPet(original, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(otherFilePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        assertThrows(NullPointerException.class, () -> createStorage(filePath, 10).saveTutorsPet(null));
+    }
+}
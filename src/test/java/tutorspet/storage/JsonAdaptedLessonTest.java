@@ -1,6 +1,7 @@
 package tutorspet.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_ATTENDANCE_RECORD_LIST;
 import static tutorspet.storage.JsonAdaptedLesson.END_TIME_FIELD;
 import static tutorspet.storage.JsonAdaptedLesson.INVALID_FIELD_MESSAGE_FORMAT;
 import static tutorspet.storage.JsonAdaptedLesson.MISSING_FIELD_MESSAGE_FORMAT;
@@ -8,17 +9,29 @@ import static tutorspet.storage.JsonAdaptedLesson.START_TIME_FIELD;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalLesson.LESSON_WED_2_TO_4;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.attendance.AttendanceRecordCache;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.lesson.NumberOfOccurrences;
 import tutorspet.model.lesson.Venue;
 import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
+import tutorspet.testutil.LessonBuilder;
 
 public class JsonAdaptedLessonTest {
 
@@ -38,6 +51,8 @@ public class JsonAdaptedLessonTest {
     private static final String VALID_VENUE = LESSON_WED_2_TO_4.getVenue().toString();
     private static final JsonAdaptedAttendanceRecordList VALID_JSON_ADAPTED_ATTENDANCE_RECORD_LIST =
             new JsonAdaptedAttendanceRecordList(LESSON_WED_2_TO_4.getAttendanceRecordList());
+    private static final Lesson LESSON_WITH_ATTENDANCE = new LessonBuilder(LESSON_WED_2_TO_4)
+            .withAttendanceRecordList(VALID_ATTENDANCE_RECORD_LIST).build();
 
     @Test
     public void toModelType_validLessonDetails_returnsLesson() throws Exception {
@@ -176,4 +191,39 @@ public class JsonAdaptedLessonTest {
                         AttendanceRecordList.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, lesson::toModelType);
     }
+
+    @Test
+    public void toModelType_attendanceRecordCacheGiven_recordsConvertedOnFirstAccess() throws Exception {
+        Set<UUID> studentUuids = LESSON_WITH_ATTENDANCE.getAttendanceRecordList().getAttendanceRecordList().stream()
+                .flatMap(record -> record.getAttendanceRecord().keySet().stream())
+                .collect(Collectors.toSet());
+        AttendanceRecordCache cache = new AttendanceRecordCache(AttendanceRecordCache.DEFAULT_CAPACITY);
+        JsonAdaptedLesson lesson = readWithCache(new JsonAdaptedLesson(LESSON_WITH_ATTENDANCE), cache);
+
+        Lesson modelLesson = lesson.toModelType(studentUuids);
+        assertEquals(0, cache.size());
+        assertEquals(LESSON_WITH_ATTENDANCE, modelLesson);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void toModelType_attendanceRecordCacheGivenWithUnknownStudents_throwsIllegalValueException()
+            throws Exception {
+        AttendanceRecordCache cache = new AttendanceRecordCache(AttendanceRecordCache.DEFAULT_CAPACITY);
+        JsonAdaptedLesson lesson = readWithCache(new JsonAdaptedLesson(LESSON_WITH_ATTENDANCE), cache);
+        assertThrows(IllegalValueException.class, JsonAdaptedAttendanceRecordList.MESSAGE_INVALID_STUDENTS, () ->
+                lesson.toModelType(Collections.emptySet()));
+    }
+
+    /**
+     * Writes {@code lesson} as json and reads it back with {@code cache} given to its attendance record list.
+     */
+    private static JsonAdaptedLesson readWithCache(JsonAdaptedLesson lesson, AttendanceRecordCache cache)
+            throws IOException {
+        byte[] json = JsonUtil.toJsonString(lesson).getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = JsonUtil.createJsonParser(new ByteArrayInputStream(json),
+                Map.of(AttendanceRecordCache.class, cache))) {
+            return parser.readValueAs(JsonAdaptedLesson.class);
+        }
+    }
 }
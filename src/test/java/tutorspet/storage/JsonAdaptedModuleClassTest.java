@@ -28,6 +28,7 @@ import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
@@ -169,4 +170,29 @@ public class JsonAdaptedModuleClassTest {
                 OVERLAP_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, moduleClass::toModelType);
     }
+
+    @Test
+    public void validateLessonTimings_overlapWithEarlierLongLesson_throwsIllegalValueException() {
+        // the last lesson only overlaps with the first lesson, which ends after the second lesson
+        Lesson longLesson = new LessonBuilder().withStartTime(LocalTime.of(8, 0)).withEndTime(LocalTime.of(12, 0))
+                .build();
+        Lesson shortLesson = new LessonBuilder().withStartTime(LocalTime.of(9, 0)).withEndTime(LocalTime.of(10, 0))
+                .build();
+        Lesson laterLesson = new LessonBuilder().withStartTime(LocalTime.of(11, 0)).withEndTime(LocalTime.of(13, 0))
+                .build();
+        String expectedMessage = String.format(
+                OVERLAP_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAdaptedModuleClass.validateLessonTimings(List.of(laterLesson, shortLesson, longLesson)));
+    }
+
+    @Test
+    public void validateLessonTimings_sameTimingsOnDifferentDays_success() throws Exception {
+        Lesson tuesdayLesson = new LessonBuilder().withDay(Day.TUESDAY).build();
+        Lesson wednesdayLesson = new LessonBuilder().withDay(Day.WEDNESDAY).build();
+        Lesson adjacentLesson = new LessonBuilder().withDay(Day.TUESDAY)
+                .withStartTime(LocalTime.parse(LessonBuilder.DEFAULT_END_TIME))
+                .withEndTime(LocalTime.of(11, 0)).build();
+        JsonAdaptedModuleClass.validateLessonTimings(List.of(tuesdayLesson, wednesdayLesson, adjacentLesson));
+    }
 }
@@ -6,6 +6,9 @@ import static tutorspet.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,9 +18,11 @@ import tutorspet.model.TutorsPet;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
+import tutorspet.model.student.Student;
 import tutorspet.storage.attendance.JsonAdaptedAttendanceRecord;
 import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
 import tutorspet.storage.attendance.JsonAdaptedStudentAttendance;
+import tutorspet.testutil.StudentBuilder;
 import tutorspet.testutil.TypicalTutorsPet;
 
 public class JsonSerializableTutorsPetTest {
@@ -33,6 +38,8 @@ public class JsonSerializableTutorsPetTest {
     private static final Path ATTENDANCE_TEST_DATA_FOLDER =
             Paths.get("src", "test", "data", "JsonSerializableTutorsPetTest", "Attendance");
 
+    private static final int MANY_STUDENTS_COUNT = 50000;
+
     private static final Path TYPICAL_TUTORS_PET_FILE =
             TEST_DATA_FOLDER.resolve("typicalTutorsPet.json");
 
@@ -165,6 +172,23 @@ public class JsonSerializableTutorsPetTest {
         assertEquals(typicalStudentsTutorsPet, tutorsPetFromFile);
     }
 
+    @Test
+    public void toModelType_manyStudents_success() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < MANY_STUDENTS_COUNT; i++) {
+            students.add(new StudentBuilder().withUuid(UUID.randomUUID().toString())
+                    .withTelegram("student" + i).withEmail("student" + i + "@example.com").build());
+        }
+        TutorsPet tutorsPet = JsonSerializableTutorsPet.toModelType(students, List.of());
+        assertEquals(students, tutorsPet.getStudentList());
+
+        // last student shares the email of the first -> rejected
+        students.add(new StudentBuilder().withUuid(UUID.randomUUID().toString())
+                .withTelegram("anotherStudent").withEmail("student0@example.com").build());
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT, () ->
+                JsonSerializableTutorsPet.toModelType(students, List.of()));
+    }
+
     // students-related tests
     @Test
     public void toModelType_nullStudent_throwsIllegalValueException() throws Exception {
@@ -0,0 +1,172 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.util.Pair;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.StudentBuilder;
+
+public class JsonTutorsPetCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTutorsPetTest");
+    private static final Path TYPICAL_TUTORS_PET_FILE = TEST_DATA_FOLDER.resolve("typicalTutorsPet.json");
+    private static final Path NOT_JSON_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonTutorsPetStorageTest", "notJsonFormatTutorsPet.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTutorsPet_typicalTutorsPet_sameAsObjectMapper() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTutorsPet(tutorsPet)),
+                FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(testFolder.resolve("TempTutorsPet.json.tmp")));
+    }
+
+    @Test
+    public void writeTutorsPet_editedStudent_sameAsObjectMapper() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        tutorsPet.setStudent(ALICE, editedAlice);
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTutorsPet(tutorsPet)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void getStudentFragment_sameStudent_cachedFragmentReturned() throws Exception {
+        assertSame(JsonTutorsPetCodec.getStudentFragment(ALICE), JsonTutorsPetCodec.getStudentFragment(ALICE));
+
+        // equal but different student -> encoded again
+        Student aliceCopy = new StudentBuilder(ALICE).build();
+        assertNotSame(JsonTutorsPetCodec.getStudentFragment(ALICE), JsonTutorsPetCodec.getStudentFragment(aliceCopy));
+        assertEquals(JsonTutorsPetCodec.getStudentFragment(ALICE).getValue(),
+                JsonTutorsPetCodec.getStudentFragment(aliceCopy).getValue());
+    }
+
+    @Test
+    public void getModuleClassFragment_sameModuleClass_cachedFragmentReturned() throws Exception {
+        assertSame(JsonTutorsPetCodec.getModuleClassFragment(CS2103T_TUTORIAL),
+                JsonTutorsPetCodec.getModuleClassFragment(CS2103T_TUTORIAL));
+    }
+
+    @Test
+    public void writeTutorsPet_compressedFileName_compressed() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json.gz");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, filePath);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xFF) | (bytes[1] & 0xFF) << 8);
+        assertTrue(bytes.length < Files.size(TYPICAL_TUTORS_PET_FILE));
+        assertEquals(tutorsPet, JsonTutorsPetCodec.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_compressedFileWithoutSuffix_success() throws Exception {
+        Path compressedPath = testFolder.resolve("TempTutorsPet.json.gz");
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JsonTutorsPetCodec.writeTutorsPet(getTypicalTutorsPet(), 42, compressedPath);
+        Files.move(compressedPath, filePath);
+
+        Pair<TutorsPet, Long> readBack = JsonTutorsPetCodec.readTutorsPetWithJournalSequence(filePath);
+        assertEquals(getTypicalTutorsPet(), readBack.getKey());
+        assertEquals(42L, (long) readBack.getValue());
+    }
+
+    @Test
+    public void readTutorsPet_typicalTutorsPetFile_success() throws Exception {
+        assertEquals(getTypicalTutorsPet(), JsonTutorsPetCodec.readTutorsPet(TYPICAL_TUTORS_PET_FILE));
+    }
+
+    @Test
+    public void readTutorsPet_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonTutorsPetCodec.readTutorsPet(NOT_JSON_FORMAT_FILE));
+    }
+
+    @Test
+    public void readTutorsPet_missingClassesField_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        FileUtil.writeToFile(filePath, "{ \"students\" : [ ] }");
+        assertThrows(IOException.class, () -> JsonTutorsPetCodec.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPetWithJournalSequence_writtenWithSequence_sequenceRead() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        JsonTutorsPetCodec.writeTutorsPet(tutorsPet, 42, filePath);
+        Pair<TutorsPet, Long> readBack = JsonTutorsPetCodec.readTutorsPetWithJournalSequence(filePath);
+        assertEquals(tutorsPet, readBack.getKey());
+        assertEquals(42L, (long) readBack.getValue());
+
+        // Plain files have no sequence
+        assertEquals(0L, (long) JsonTutorsPetCodec.readTutorsPetWithJournalSequence(TYPICAL_TUTORS_PET_FILE)
+                .getValue());
+    }
+
+    /**
+     * Ensures that every data file is accepted or rejected the same way as by {@code JsonSerializableTutorsPet}.
+     */
+    @Test
+    public void readTutorsPet_testDataFiles_sameAsJsonSerializableTutorsPet() throws Exception {
+        List<Path> dataFiles;
+        try (Stream<Path> paths = Files.walk(TEST_DATA_FOLDER)) {
+            dataFiles = paths.filter(path -> path.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+        assertTrue(dataFiles.size() > 1);
+
+        for (Path dataFile : dataFiles) {
+            TutorsPet expected;
+            try {
+                expected = JsonUtil.readJsonFile(dataFile, JsonSerializableTutorsPet.class).get().toModelType();
+            } catch (Exception e) {
+                expected = null;
+            }
+
+            TutorsPet actual;
+            try {
+                actual = JsonTutorsPetCodec.readTutorsPet(dataFile);
+            } catch (IOException | IllegalValueException e) {
+                actual = null;
+            }
+
+            assertEquals(expected, actual, dataFile.toString());
+        }
+    }
+}
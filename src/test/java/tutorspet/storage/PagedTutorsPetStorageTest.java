@@ -0,0 +1,128 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.page.PagedKeyValueStore;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+public class PagedTutorsPetStorageTest {
+
+    private static final int PAGE_SIZE = 4096;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PagedTutorsPetStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new PagedTutorsPetStorage(testFolder.resolve("NonExistentFile.pages")).readTutorsPet()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.pages");
+        TutorsPet original = getTypicalTutorsPet();
+        PagedTutorsPetStorage pagedTutorsPetStorage = new PagedTutorsPetStorage(filePath);
+
+        // Save in new file and read back
+        pagedTutorsPetStorage.saveTutorsPet(original);
+        assertTrue(PagedKeyValueStore.isPageFile(filePath));
+        assertEquals(original, new PagedTutorsPetStorage(filePath).readTutorsPet().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.addStudent(HOON);
+        ModuleClass target = original.getModuleClassList().get(0);
+        original.setModuleClass(target, new ModuleClassBuilder(target).withName("CS9999 Tutorial").build());
+        original.deleteModuleClass(original.getModuleClassList().get(1));
+        pagedTutorsPetStorage.saveTutorsPet(original);
+        assertEquals(original, new PagedTutorsPetStorage(filePath).readTutorsPet().get());
+
+        // Save to a file that was not read, and read back
+        TutorsPet typicalTutorsPet = getTypicalTutorsPet();
+        new PagedTutorsPetStorage(testFolder.resolve("another.pages")).saveTutorsPet(typicalTutorsPet, filePath);
+        assertEquals(typicalTutorsPet, new PagedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_afterRead_onlyChangedRecordWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.pages");
+        new PagedTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        PagedTutorsPetStorage pagedTutorsPetStorage = new PagedTutorsPetStorage(filePath);
+        TutorsPet tutorsPet = new TutorsPet(pagedTutorsPetStorage.readTutorsPet().get());
+        byte[] original = Files.readAllBytes(filePath);
+
+        // no changes -> file unchanged
+        pagedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        assertTrue(Arrays.equals(original, Files.readAllBytes(filePath)));
+
+        // one student edited -> only the page of that student is written
+        Student target = tutorsPet.getStudentList().get(0);
+        tutorsPet.setStudent(target, new StudentBuilder(target).withName("Edited Name").build());
+        pagedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        byte[] updated = Files.readAllBytes(filePath);
+        assertEquals(original.length, updated.length);
+        assertEquals(1, countChangedPages(original, updated));
+
+        assertEquals(tutorsPet, new PagedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_jsonFile_replacedByPageFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JsonTutorsPetCodec.writeTutorsPet(getTypicalTutorsPet(), filePath);
+        PagedTutorsPetStorage pagedTutorsPetStorage = new PagedTutorsPetStorage(filePath);
+
+        TutorsPet tutorsPet = new TutorsPet(pagedTutorsPetStorage.readTutorsPet().get());
+        assertEquals(getTypicalTutorsPet(), tutorsPet);
+
+        pagedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        assertTrue(PagedKeyValueStore.isPageFile(filePath));
+        assertEquals(tutorsPet, new PagedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void readTutorsPet_missingRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.pages");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        new PagedTutorsPetStorage(filePath).saveTutorsPet(tutorsPet);
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            store.remove("student/" + tutorsPet.getStudentList().get(0).getUuid());
+            store.commit();
+        }
+
+        assertThrows(DataConversionException.class, () -> new PagedTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    private static int countChangedPages(byte[] original, byte[] updated) {
+        int changedPages = 0;
+        for (int offset = 0; offset < original.length; offset += PAGE_SIZE) {
+            if (!Arrays.equals(original, offset, offset + PAGE_SIZE, updated, offset, offset + PAGE_SIZE)) {
+                changedPages++;
+            }
+        }
+        return changedPages;
+    }
+}
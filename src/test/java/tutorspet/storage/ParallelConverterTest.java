@@ -0,0 +1,54 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int SIZE = ParallelConverter.PARALLEL_THRESHOLD * 16;
+
+    private static final List<Integer> SOURCES = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_validSources_resultsInSourceOrder() throws Exception {
+        List<String> expected = SOURCES.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(SOURCES, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_emptySources_emptyResult() throws Exception {
+        assertEquals(List.of(), ParallelConverter.convertAll(List.of(), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_invalidSources_firstErrorReported() {
+        // every source from the middle onwards fails, with its index in the message
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, String.valueOf(SIZE / 2), () ->
+                    ParallelConverter.convertAll(SOURCES, source -> {
+                        if (source >= SIZE / 2) {
+                            throw new IllegalValueException(String.valueOf(source));
+                        }
+                        return source;
+                    }));
+        }
+    }
+
+    @Test
+    public void convertAll_runtimeException_rethrown() {
+        assertThrows(NullPointerException.class, () -> ParallelConverter.convertAll(SOURCES, source -> {
+            if (source == SIZE - 1) {
+                throw new NullPointerException();
+            }
+            return source;
+        }));
+    }
+}
@@ -0,0 +1,175 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.ModuleClassBuilder;
+
+public class ShardedTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDirectoryPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedTutorsPetStorage(null));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedTutorsPetStorage(testFolder.resolve("NonExistentFolder")).readTutorsPet()
+                .isPresent());
+    }
+
+    @Test
+    public void getShardDirectoryPath_filePath_siblingDirectory() {
+        assertEquals(testFolder.resolve("tutorspet.json.shards"),
+                ShardedTutorsPetStorage.getShardDirectoryPath(testFolder.resolve("tutorspet.json")));
+    }
+
+    @Test
+    public void getJsonFilePath_shardDirectoryPath_siblingFile() {
+        assertEquals(testFolder.resolve("tutorspet.json"),
+                ShardedTutorsPetStorage.getJsonFilePath(testFolder.resolve("tutorspet.json.shards")));
+        assertEquals(null, ShardedTutorsPetStorage.getJsonFilePath(testFolder.resolve("TempTutorsPet")));
+    }
+
+    @Test
+    public void readTutorsPet_noManifest_jsonFileRead() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.json");
+        Path directoryPath = ShardedTutorsPetStorage.getShardDirectoryPath(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage jsonStorage = new JournaledTutorsPetStorage(filePath);
+        jsonStorage.saveTutorsPet(original);
+        // Changes in the journal of the json data file are read too
+        original.addStudent(HOON);
+        jsonStorage.saveTutorsPet(original);
+
+        ShardedTutorsPetStorage shardedTutorsPetStorage = new ShardedTutorsPetStorage(directoryPath);
+        assertEquals(original, new TutorsPet(shardedTutorsPetStorage.readTutorsPet().get()));
+
+        // Once saved, the shards are read instead
+        original.deleteStudent(HOON);
+        shardedTutorsPetStorage.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(new ShardedTutorsPetStorage(directoryPath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_noManifestInvalidJsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.json");
+        FileUtil.writeToFile(filePath, "not json");
+        assertThrows(DataConversionException.class, () ->
+                new ShardedTutorsPetStorage(ShardedTutorsPetStorage.getShardDirectoryPath(filePath)).readTutorsPet());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("TempTutorsPet");
+        TutorsPet original = getTypicalTutorsPet();
+        ShardedTutorsPetStorage shardedTutorsPetStorage = new ShardedTutorsPetStorage(directoryPath);
+
+        // Save in new directory and read back
+        shardedTutorsPetStorage.saveTutorsPet(original);
+        assertEquals(original, new ShardedTutorsPetStorage(directoryPath).readTutorsPet().get());
+        // One shard for the students and one per class
+        assertEquals(original.getModuleClassList().size() + 1, getShardNames(directoryPath).size());
+
+        // Modify data, overwrite existing shards, and read back
+        original.addStudent(HOON);
+        original.deleteModuleClass(original.getModuleClassList().get(0));
+        shardedTutorsPetStorage.saveTutorsPet(original);
+        assertEquals(original, new ShardedTutorsPetStorage(directoryPath).readTutorsPet().get());
+        assertEquals(original.getModuleClassList().size() + 1, getShardNames(directoryPath).size());
+    }
+
+    @Test
+    public void saveTutorsPet_oneClassChanged_onlyChangedShardWritten() throws Exception {
+        Path directoryPath = testFolder.resolve("TempTutorsPet");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        ShardedTutorsPetStorage shardedTutorsPetStorage = new ShardedTutorsPetStorage(directoryPath);
+        shardedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        Set<String> originalShards = getShardNames(directoryPath);
+
+        ModuleClass target = tutorsPet.getModuleClassList().get(0);
+        tutorsPet.setModuleClass(target, new ModuleClassBuilder(target).withName("CS9999 Tutorial").build());
+        shardedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        Set<String> updatedShards = getShardNames(directoryPath);
+
+        Set<String> removedShards = new HashSet<>(originalShards);
+        removedShards.removeAll(updatedShards);
+        Set<String> addedShards = new HashSet<>(updatedShards);
+        addedShards.removeAll(originalShards);
+        assertEquals(1, removedShards.size());
+        assertEquals(1, addedShards.size());
+        assertTrue(addedShards.iterator().next().startsWith("class-"));
+
+        assertEquals(tutorsPet, new ShardedTutorsPetStorage(directoryPath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_afterRead_unchangedShardsKept() throws Exception {
+        Path directoryPath = testFolder.resolve("TempTutorsPet");
+        new ShardedTutorsPetStorage(directoryPath).saveTutorsPet(getTypicalTutorsPet());
+        Set<String> originalShards = getShardNames(directoryPath);
+
+        ShardedTutorsPetStorage shardedTutorsPetStorage = new ShardedTutorsPetStorage(directoryPath);
+        TutorsPet tutorsPet = new TutorsPet(shardedTutorsPetStorage.readTutorsPet().get());
+        tutorsPet.addStudent(HOON);
+        shardedTutorsPetStorage.saveTutorsPet(tutorsPet);
+        Set<String> updatedShards = getShardNames(directoryPath);
+
+        // Only the students shard is replaced
+        Set<String> keptShards = new HashSet<>(originalShards);
+        keptShards.retainAll(updatedShards);
+        assertEquals(originalShards.size() - 1, keptShards.size());
+        assertEquals(originalShards.size(), updatedShards.size());
+    }
+
+    @Test
+    public void readTutorsPet_missingShard_throwsDataConversionException() throws Exception {
+        Path directoryPath = testFolder.resolve("TempTutorsPet");
+        new ShardedTutorsPetStorage(directoryPath).saveTutorsPet(getTypicalTutorsPet());
+        String classShard = getShardNames(directoryPath).stream()
+                .filter(name -> name.startsWith("class-")).findFirst().get();
+        Files.delete(directoryPath.resolve(classShard));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(directoryPath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_invalidShardName_throwsDataConversionException() throws Exception {
+        Path directoryPath = testFolder.resolve("TempTutorsPet");
+        Files.createDirectories(directoryPath);
+        FileUtil.writeToFile(directoryPath.resolve(ShardedTutorsPetStorage.MANIFEST_FILE_NAME),
+                "{ \"students\" : \"../students-1.json\", \"classes\" : [ ] }");
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(directoryPath).readTutorsPet());
+    }
+
+    private static Set<String> getShardNames(Path directoryPath) throws IOException {
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(name -> !name.equals(ShardedTutorsPetStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -2,10 +2,13 @@ package tutorspet.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -67,6 +70,33 @@ public class StorageManagerTest {
         assertEquals(original, new TutorsPet(retrieved));
     }
 
+    @Test
+    public void backUpAndReadBackup() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link ChunkedBackupStorage} class.
+         * More extensive testing of backups is done in {@link ChunkedBackupStorageTest} class.
+         */
+        TutorsPet original = getTypicalTutorsPet();
+        String backupId = storageManager.backUpTutorsPet(original, Instant.parse("2020-10-19T09:30:00Z"));
+        assertEquals(List.of(backupId), storageManager.getBackupIds());
+        assertEquals(original, new TutorsPet(storageManager.readBackup(backupId).get()));
+        assertEquals(getTempFilePath("ab.backups"), storageManager.getBackupDirectoryPath());
+    }
+
+    @Test
+    public void setTutorsPetStorage() throws Exception {
+        JsonTutorsPetStorage tutorsPetStorage = new JsonTutorsPetStorage(getTempFilePath("other"));
+        storageManager.setTutorsPetStorage(tutorsPetStorage);
+        assertSame(tutorsPetStorage, storageManager.getTutorsPetStorage());
+        assertEquals(getTempFilePath("other"), storageManager.getTutorsPetFilePath());
+        assertEquals(getTempFilePath("other.backups"), storageManager.getBackupDirectoryPath());
+
+        TutorsPet original = getTypicalTutorsPet();
+        storageManager.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(tutorsPetStorage.readTutorsPet().get()));
+    }
+
     @Test
     public void getTutorsPetFilePath() {
         assertNotNull(storageManager.getTutorsPetFilePath());
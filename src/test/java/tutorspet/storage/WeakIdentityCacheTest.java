@@ -0,0 +1,52 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakIdentityCacheTest {
+
+    private final WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>();
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.put("key", null));
+    }
+
+    @Test
+    public void get_sameKey_valueReturned() {
+        String key = new String("key");
+        cache.put(key, 1);
+        assertEquals(1, (int) cache.get(key));
+
+        cache.put(key, 2);
+        assertEquals(2, (int) cache.get(key));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_equalKey_returnsNull() {
+        String key = new String("key");
+        cache.put(key, 1);
+        assertNull(cache.get(new String("key")));
+    }
+
+    @Test
+    public void size_differentKeys_allCached() {
+        String key = new String("key");
+        String otherKey = new String("key");
+        cache.put(key, 1);
+        cache.put(otherKey, 2);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, (int) cache.get(key));
+        assertEquals(2, (int) cache.get(otherKey));
+    }
+}
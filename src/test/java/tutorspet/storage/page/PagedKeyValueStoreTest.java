@@ -0,0 +1,162 @@
+package tutorspet.storage.page;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.util.FileUtil;
+
+public class PagedKeyValueStoreTest {
+
+    private static final byte[] LARGE_VALUE = createValue(3 * PageFile.PAGE_SIZE + 17);
+
+    @TempDir
+    public Path testFolder;
+
+    private static byte[] createValue(int length) {
+        byte[] value = new byte[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) i;
+        }
+        return value;
+    }
+
+    @Test
+    public void open_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PagedKeyValueStore.open(null));
+    }
+
+    @Test
+    public void open_notPageFile_throwsIOException() throws Exception {
+        Path filePath = testFolder.resolve("notPageFile.json");
+        FileUtil.writeToFile(filePath, "{ \"students\": [] }");
+        assertFalse(PagedKeyValueStore.isPageFile(filePath));
+        assertThrows(IOException.class, () -> PagedKeyValueStore.open(filePath));
+    }
+
+    @Test
+    public void putGetRemove_afterReopen_success() throws Exception {
+        Path filePath = testFolder.resolve("store");
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            store.put("small", "value".getBytes(UTF_8));
+            store.put("large", LARGE_VALUE);
+            store.put("empty", new byte[0]);
+            store.put("removed", "value".getBytes(UTF_8));
+            store.remove("removed");
+            store.commit();
+        }
+        assertTrue(PagedKeyValueStore.isPageFile(filePath));
+
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            assertEquals(Set.of("small", "large", "empty"), store.keySet());
+            assertArrayEquals("value".getBytes(UTF_8), store.get("small"));
+            assertArrayEquals(LARGE_VALUE, store.get("large"));
+            assertArrayEquals(new byte[0], store.get("empty"));
+            assertNull(store.get("removed"));
+        }
+    }
+
+    @Test
+    public void put_manyKeys_success() throws Exception {
+        Path filePath = testFolder.resolve("store");
+        int keyCount = 3 * PagedKeyValueStore.BUCKET_COUNT;
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            for (int i = 0; i < keyCount; i++) {
+                store.put("key" + i, ("value" + i).getBytes(UTF_8));
+            }
+            store.commit();
+        }
+
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            assertEquals(keyCount, store.keySet().size());
+            for (int i = 0; i < keyCount; i++) {
+                assertArrayEquals(("value" + i).getBytes(UTF_8), store.get("key" + i));
+            }
+        }
+    }
+
+    @Test
+    public void put_changedValue_onlyValuePagesWritten() throws Exception {
+        Path filePath = testFolder.resolve("store");
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            for (int i = 0; i < 100; i++) {
+                store.put("key" + i, ("value" + i).getBytes(UTF_8));
+            }
+            store.commit();
+        }
+        byte[] original = Files.readAllBytes(filePath);
+
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            store.put("key50", "changed".getBytes(UTF_8));
+            store.commit();
+        }
+        byte[] updated = Files.readAllBytes(filePath);
+
+        // Only the page of the changed value differs, as the header is rewritten with the same contents
+        assertEquals(original.length, updated.length);
+        assertEquals(1, countChangedPages(original, updated));
+    }
+
+    @Test
+    public void remove_freedPages_reused() throws Exception {
+        Path filePath = testFolder.resolve("store");
+        int pageCount;
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            store.put("large", LARGE_VALUE);
+            store.commit();
+            pageCount = store.getPageCount();
+
+            store.remove("large");
+            store.put("another large", LARGE_VALUE);
+            store.commit();
+            // the value and bucket pages of the removed key are used for the new key
+            assertEquals(pageCount, store.getPageCount());
+        }
+    }
+
+    @Test
+    public void close_uncommittedChanges_rolledBack() throws Exception {
+        Path filePath = testFolder.resolve("store");
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            store.put("kept", "value".getBytes(UTF_8));
+            store.put("changed", LARGE_VALUE);
+            store.commit();
+
+            store.put("changed", "new value".getBytes(UTF_8));
+            store.remove("kept");
+            store.put("added", LARGE_VALUE);
+        }
+        assertTrue(Files.exists(PagedKeyValueStore.getJournalPath(filePath)));
+
+        try (PagedKeyValueStore store = PagedKeyValueStore.open(filePath)) {
+            assertEquals(Set.of("kept", "changed"), store.keySet());
+            assertArrayEquals("value".getBytes(UTF_8), store.get("kept"));
+            assertArrayEquals(LARGE_VALUE, store.get("changed"));
+        }
+        assertFalse(Files.exists(PagedKeyValueStore.getJournalPath(filePath)));
+    }
+
+    private static int countChangedPages(byte[] original, byte[] updated) {
+        int changedPages = 0;
+        for (int offset = 0; offset < original.length; offset += PageFile.PAGE_SIZE) {
+            if (!Arrays.equals(original, offset, offset + PageFile.PAGE_SIZE,
+                    updated, offset, offset + PageFile.PAGE_SIZE)) {
+                changedPages++;
+            }
+        }
+        return changedPages;
+    }
+}
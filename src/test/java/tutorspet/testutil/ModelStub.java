@@ -1,14 +1,17 @@
 package tutorspet.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.model.Model;
+import tutorspet.model.ModelLock;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.ReadOnlyUserPrefs;
 import tutorspet.model.StateRecords;
+import tutorspet.model.TutorsPetSnapshot;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 
@@ -52,6 +55,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void loadTutorsPet(ReadOnlyTutorsPet newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyTutorsPet getTutorsPet() {
         throw new AssertionError("This method should not be called.");
@@ -62,6 +70,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction(String commitMessage) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollBackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean canUndo() {
         throw new AssertionError("This method should not be called.");
@@ -82,11 +105,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public TutorsPetSnapshot getSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public StateRecords viewStateRecords() {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getMutationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelLock getLock() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         throw new AssertionError("This method should not be called.");
@@ -102,6 +140,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,62 @@
+package tutorspet.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A utility class for testing validators against the regular expressions they implement.
+ */
+public class ValidationTestUtil {
+
+    // Characters that are not ASCII, including half of a surrogate pair
+    private static final String NON_ASCII_CHARACTERS = "éß٠  \ud83d";
+    private static final int RANDOM_STRING_COUNT = 20_000;
+    private static final int MAX_RANDOM_STRING_LENGTH = 40;
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings matched by {@code regex}, for
+     * all strings of up to two characters, and for random strings made of {@code alphabet}.
+     * The characters of {@code alphabet} should include those that are significant to {@code regex},
+     * so that the random strings are likely to be near the boundary of what is valid.
+     */
+    public static void assertSameAsRegex(String regex, Predicate<String> validator, String alphabet) {
+        Pattern pattern = Pattern.compile(regex);
+        String characters = getAsciiCharacters() + NON_ASCII_CHARACTERS;
+
+        assertSameAsPattern(pattern, validator, "");
+        for (int i = 0; i < characters.length(); i++) {
+            String first = String.valueOf(characters.charAt(i));
+            assertSameAsPattern(pattern, validator, first);
+            for (int j = 0; j < characters.length(); j++) {
+                assertSameAsPattern(pattern, validator, first + characters.charAt(j));
+            }
+        }
+
+        Random random = new Random(regex.hashCode());
+        String randomAlphabet = alphabet + NON_ASCII_CHARACTERS.charAt(0);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(MAX_RANDOM_STRING_LENGTH);
+            for (int j = 0; j < length; j++) {
+                builder.append(randomAlphabet.charAt(random.nextInt(randomAlphabet.length())));
+            }
+            assertSameAsPattern(pattern, validator, builder.toString());
+        }
+    }
+
+    private static void assertSameAsPattern(Pattern pattern, Predicate<String> validator, String test) {
+        assertEquals(pattern.matcher(test).matches(), validator.test(test), "Validating \"" + test + "\"");
+    }
+
+    private static String getAsciiCharacters() {
+        StringBuilder characters = new StringBuilder();
+        for (char c = 0; c < 128; c++) {
+            characters.append(c);
+        }
+        return characters.toString();
+    }
+}